@@ -1,8 +1,12 @@
 package oyyq.calendar.util;
 
+import java.time.Instant;
 import java.util.Calendar;
 import java.util.TimeZone;
 
+import oyyq.calendar.util.metrics.SolverMetrics;
+import oyyq.calendar.util.metrics.SolverMetrics.Component;
+
 public final class CalendarUtil {
 
     /**
@@ -36,6 +40,20 @@ public final class CalendarUtil {
      */
     private static final int   JULIAN_GREGORIAN_BOUNDARY = 2299161;
 
+    /**
+     * 1970年1月1日中午12点的儒略日数
+     */
+    private static final long  UNIX_EPOCH_DAY            = 2440588L;
+
+    /**
+     * 一天的毫秒数
+     */
+    private static final long  MILLIS_PER_DAY            = 86400000L;
+
+    private static final TimeZone GMT                    = TimeZone.getTimeZone("GMT");
+
+    private static volatile DeltaTModel deltaTModel      = DeltaTModel.TABULATED;
+
     /**
      * Gregorian历TT2000年1月1日中午12点的儒略日
      */
@@ -239,7 +257,7 @@ public final class CalendarUtil {
         return jdn + (h - 12) / 24.0d + minute / 1440.0d + s / 86400.0d;
     }
 
-    private static Calendar fromJulianDateHelper(int a, double f, TimeZone tz) {
+    private static long toPackedDateTime(int a, double f) {
         int b = a + 1524;
         int c = (int) ((b - 122.1) / 365.25);
         int d = (int) (365.25 * c);
@@ -260,15 +278,113 @@ public final class CalendarUtil {
         dd = (dd - second) * 1000;
         int millisecond = (int) dd;
 
-        Calendar cal = Calendar.getInstance(TimeZone.getTimeZone("GMT"));
-        cal.set(year, month - 1, date, hour, minute, second);
-        cal.set(Calendar.MILLISECOND, millisecond);
+        return PackedDateTime.of(year, month, date, hour, minute, second, millisecond);
+    }
+
+    /**
+     * 由打包的GMT日期时间构造Calendar
+     * 
+     * @param packed
+     *            打包的GMT日期时间
+     * @param tz
+     *            Calendar使用的时区
+     * @return Calendar对象，时区为tz
+     */
+    private static Calendar toCalendar(long packed, TimeZone tz) {
+        Calendar cal = Calendar.getInstance(GMT);
+        cal.set(PackedDateTime.getYear(packed), PackedDateTime.getMonth(packed) - 1,
+                PackedDateTime.getDate(packed), PackedDateTime.getHour(packed),
+                PackedDateTime.getMinute(packed), PackedDateTime.getSecond(packed));
+        cal.set(Calendar.MILLISECOND, PackedDateTime.getMillisecond(packed));
         cal.getTimeInMillis(); // 触发calendar的计算，下面改时区才有效
         cal.setTimeZone(tz);
 
         return cal;
     }
 
+    /**
+     * 由儒略日计算打包的日期时间，不创建任何对象。当儒略日小于<i>{@value #JULIAN_GREGORIAN_BOUNDARY} - 0.5</i>
+     * 时按Julian历法计算，以后按Gregorian历计算，不做时区和TT的转换
+     * 
+     * @param jd
+     *            儒略日
+     * @return 打包的日期时间，见{@link PackedDateTime}
+     */
+    public static long toPackedDateTime(double jd) {
+        int z = (int) (jd + 0.5);
+        double f = jd + 0.5 - z;
+        if (z < JULIAN_GREGORIAN_BOUNDARY) {
+            return toPackedDateTime(z, f);
+        }
+        int alpha = (int) ((z - 1867216.25) / 36524.25);
+        return toPackedDateTime(z + 1 + alpha - alpha / 4, f);
+    }
+
+    /**
+     * 由儒略日计算时区tz的打包的日期时间，与{@link #fromJulianDate(double, TimeZone, boolean)}得到的Calendar各字段相同
+     * 
+     * @param jd
+     *            儒略日
+     * @param tz
+     *            时区
+     * @param tt2utc
+     *            是否要做TT到UTC的转换
+     * @return 打包的日期时间，见{@link PackedDateTime}
+     */
+    public static long toPackedDateTime(double jd, TimeZone tz, boolean tt2utc) {
+        if (tt2utc) {
+            jd -= getDeltaT(jd) / 86400;
+        }
+        long packed = toPackedDateTime(jd);
+        int jdn = toJulianDate(PackedDateTime.getYear(packed), PackedDateTime.getMonth(packed),
+                PackedDateTime.getDate(packed));
+        int millisOfDay = PackedDateTime.getMillisOfDay(packed);
+        int offset = tz.getOffset((jdn - UNIX_EPOCH_DAY) * MILLIS_PER_DAY + millisOfDay);
+        if (offset == 0) {
+            return packed;
+        }
+        long millis = (long) millisOfDay + offset;
+        jdn += (int) Math.floorDiv(millis, MILLIS_PER_DAY);
+        int ms = (int) Math.floorMod(millis, MILLIS_PER_DAY);
+        long date = toPackedDateTime(jdn - 0.5d);
+        return PackedDateTime.of(PackedDateTime.getYear(date), PackedDateTime.getMonth(date),
+                PackedDateTime.getDate(date), ms / 3600000, ms / 60000 % 60, ms / 1000 % 60,
+                ms % 1000);
+    }
+
+    /**
+     * 由儒略日计算Unix时间(1970年1月1日0时起的毫秒数)，与{@link #fromJulianDate(double, TimeZone, boolean)}
+     * 得到的Calendar的getTimeInMillis()相同
+     * 
+     * @param jd
+     *            儒略日
+     * @param tt2utc
+     *            是否要做TT到UTC的转换
+     * @return Unix时间(毫秒)
+     */
+    public static long toEpochMillis(double jd, boolean tt2utc) {
+        if (tt2utc) {
+            jd -= getDeltaT(jd) / 86400;
+        }
+        long packed = toPackedDateTime(jd);
+        int jdn = toJulianDate(PackedDateTime.getYear(packed), PackedDateTime.getMonth(packed),
+                PackedDateTime.getDate(packed));
+        return (jdn - UNIX_EPOCH_DAY) * MILLIS_PER_DAY + PackedDateTime.getMillisOfDay(packed);
+    }
+
+    /**
+     * 由儒略日计算时刻
+     * 
+     * @param jd
+     *            儒略日
+     * @param tt2utc
+     *            是否要做TT到UTC的转换
+     * @return 对应的时刻，精确到毫秒
+     */
+    public static Instant toInstant(double jd, boolean tt2utc) {
+        return Instant.ofEpochMilli(toEpochMillis(jd, tt2utc));
+    }
+
     /**
      * 由儒略日计算对应的Gregorian历日期时间，算法参考<i>Jean Meeus</i>的<i>Astronomical Formulae for Calculators</i>
      * 
@@ -283,7 +399,7 @@ public final class CalendarUtil {
         double f = jd + 0.5 - z;
         int alpha = (int) ((z - 1867216.25) / 36524.25);
         int a = z + 1 + alpha - alpha / 4;
-        return fromJulianDateHelper(a, f, tz);
+        return toCalendar(toPackedDateTime(a, f), tz);
     }
 
     /**
@@ -299,7 +415,7 @@ public final class CalendarUtil {
         int z = (int) (jd + 0.5);
         double f = jd + 0.5 - z;
         int a = z;
-        return fromJulianDateHelper(a, f, tz);
+        return toCalendar(toPackedDateTime(a, f), tz);
     }
 
     /**
@@ -358,11 +474,22 @@ public final class CalendarUtil {
         if (tt2utc) {
             jd -= getDeltaT(jd) / 86400;
         }
-        int z = (int) (jd + 0.5);
-        if (z < JULIAN_GREGORIAN_BOUNDARY) {
-            return fromJulianDateInJulian(jd, tz);
-        }
-        return fromJulianDateInGregorian(jd, tz);
+        return toCalendar(toPackedDateTime(jd), tz);
+    }
+
+    /**
+     * 计算时区tz的民用日在TT儒略日中的起点：儒略日数为n的一天从TT儒略日n + offset开始。
+     * 时区偏移和ΔT都取jd时刻的值，几天之内可以看作常数
+     * 
+     * @param jd
+     *            儒略日(TT)
+     * @param tz
+     *            时区
+     * @return 民用日起点相对于儒略日数的偏移(日)
+     */
+    public static double getCivilDayOffset(double jd, TimeZone tz) {
+        long millis = Math.round((jd - 2440587.5d) * 86400000.0d);
+        return -0.5d - tz.getOffset(millis) / 86400000.0d + getDeltaT(jd) / 86400;
     }
 
     /**
@@ -481,10 +608,40 @@ public final class CalendarUtil {
      * @return ∆T的值，单位为秒
      */
     public static double getDeltaT(double jd) {
-        Calendar cal = fromJulianDate(jd, TimeZone.getTimeZone("GMT"), false);
-        int year = cal.get(Calendar.YEAR);
-        int month = cal.get(Calendar.MONTH);
-        return getDeltaT(year, month);
+        long start = SolverMetrics.start();
+        double result = deltaTModel.getDeltaT(jd);
+        SolverMetrics.record(Component.DELTA_T, start);
+        return result;
+    }
+
+    /**
+     * @return 当前使用的∆T模型
+     */
+    public static DeltaTModel getDeltaTModel() {
+        return deltaTModel;
+    }
+
+    /**
+     * 设置∆T模型，影响所有TT和UTC之间的转换
+     * 
+     * @param model
+     *            ∆T模型，为null时恢复默认的{@link DeltaTModel#TABULATED}
+     */
+    public static void setDeltaTModel(DeltaTModel model) {
+        deltaTModel = model == null ? DeltaTModel.TABULATED : model;
+    }
+
+    /**
+     * 按NASA网站的多项式计算∆T。年份和月份由儒略日直接算出，不创建Calendar对象
+     * 
+     * @param jd
+     *            儒略日
+     * @return ∆T的值，单位为秒
+     */
+    public static double getPolynomialDeltaT(double jd) {
+        long packed = toPackedDateTime(jd);
+        int year = PackedDateTime.getYear(packed);
+        return getPolynomialDeltaT(year, year + (PackedDateTime.getMonth(packed) - 0.5) / 12);
     }
 
     /**
@@ -493,13 +650,25 @@ public final class CalendarUtil {
      * ∆T = TT - UT 此算法在-1999年到3000年有效
      * 
      * @param year
-     *            要计算的年份
+     *            要计算的年份，天文纪年，公元前1年为0
      * @param month
-     *            要计算的月份
+     *            要计算的月份，1到12
      * @return ∆T的值，单位为秒
      */
     public static double getDeltaT(int year, int month) {
-        double y = year + (month - 0.5) / 12;
+        return getPolynomialDeltaT(year, year + (month - 0.5) / 12);
+    }
+
+    /**
+     * 按年份所在的区间选择多项式计算∆T
+     * 
+     * @param year
+     *            年份，天文纪年
+     * @param y
+     *            带小数的年份，取月中
+     * @return ∆T的值，单位为秒
+     */
+    static double getPolynomialDeltaT(int year, double y) {
         if (year < -500) {
             double u = (year - 1820) / 100.0;
             return -20 + 32 * u * u;
@@ -611,5 +780,27 @@ public final class CalendarUtil {
         System.out.println(getWeekday(1582, 1, 1));
         System.out.println(toJulianDate(2014, 8, 12, 0, 0, 0.0d));
         System.out.println(toJulianDate(1599, 12, 29, 12, 0, 0.0d));
+
+        TimeZone tz = TimeZone.getTimeZone("Asia/Shanghai");
+        System.out.println(PackedDateTime.toString(toPackedDateTime(2268991.5d)));
+        System.out.println(PackedDateTime.toString(toPackedDateTime(2451545.0d, tz, true)));
+        System.out.println(toInstant(2451545.0d, true));
+        int n = 1000000;
+        long sum = 0;
+        for (int round = 0; round < 3; round++) {
+            long start = System.nanoTime();
+            for (int i = 0; i < n; i++) {
+                sum += fromJulianDate(2400000.0d + i * 0.1, tz, false).get(Calendar.DATE);
+            }
+            long calendarTime = System.nanoTime() - start;
+            start = System.nanoTime();
+            for (int i = 0; i < n; i++) {
+                sum += PackedDateTime.getDate(toPackedDateTime(2400000.0d + i * 0.1, tz, false));
+            }
+            long packedTime = System.nanoTime() - start;
+            System.out.printf("Calendar: %.1f ns, packed: %.1f ns%n", (double) calendarTime / n,
+                    (double) packedTime / n);
+        }
+        System.out.println(sum);
     }
 }
@@ -0,0 +1,256 @@
+package oyyq.calendar.util;
+
+import static java.lang.Math.floor;
+import static oyyq.calendar.util.MathUtil.mod2Pi;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import oyyq.calendar.util.jfr.CacheFillEvent;
+
+/**
+ * 按固定长度分段的切比雪夫拟合缓存。<br />
+ * 每一段在第一次用到时才由原函数拟合，缓存的段数有上限：段号对上限取模后直接映射到一个槽，取模相同的段互相替换，
+ * 所以连续的不超过上限的段不会互相淘汰。命中时只读一次槽、比较段的起点，不加锁也不分配对象。
+ * 同一时期内反复求解时，每次求值只是一次多项式计算，不再重新计算级数。
+ * 
+ * @author oyyq
+ */
+public class ChebyshevCache implements Function, DifferentiableFunction {
+
+    /**
+     * 缓存名，用于JFR事件，可以为null
+     */
+    private final String                                 name;
+
+    /**
+     * 原函数
+     */
+    private final Function                               function;
+
+    /**
+     * 每段的长度(日)
+     */
+    private final double                                 segmentLength;
+
+    /**
+     * 每段的系数个数
+     */
+    private final int                                    size;
+
+    /**
+     * 函数值是否是角度，是角度时返回值限制在0到2π之间
+     */
+    private final boolean                                angle;
+
+    /**
+     * 拟合结果，第index段放在floorMod(index, 槽数)处
+     */
+    private final AtomicReferenceArray<ChebyshevSegment> segments;
+
+    private final LongAdder                              hits   = new LongAdder();
+
+    private final LongAdder                              misses = new LongAdder();
+
+    /**
+     * 构造缓存
+     * 
+     * @param function
+     *            原函数，自变量是儒略日
+     * @param segmentLength
+     *            每段的长度(日)，段的起点是segmentLength的整数倍
+     * @param size
+     *            每段的系数个数
+     * @param capacity
+     *            最多缓存的段数
+     * @param angle
+     *            函数值是否是角度(rad)
+     */
+    public ChebyshevCache(Function function, double segmentLength, int size, int capacity,
+            boolean angle) {
+        this(null, function, segmentLength, size, capacity, angle);
+    }
+
+    /**
+     * 构造有名字的缓存，拟合时产生的{@link CacheFillEvent}带有这个名字
+     * 
+     * @param name
+     *            缓存名
+     * @param function
+     *            原函数，自变量是儒略日
+     * @param segmentLength
+     *            每段的长度(日)，段的起点是segmentLength的整数倍
+     * @param size
+     *            每段的系数个数
+     * @param capacity
+     *            最多缓存的段数
+     * @param angle
+     *            函数值是否是角度(rad)
+     */
+    public ChebyshevCache(String name, Function function, double segmentLength, int size,
+            int capacity, boolean angle) {
+        this.name = name;
+        this.function = function;
+        this.segmentLength = segmentLength;
+        this.size = size;
+        this.angle = angle;
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.segments = new AtomicReferenceArray<ChebyshevSegment>(capacity);
+    }
+
+    /**
+     * @return 缓存名，可能为null
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * 取包含某一时刻的段，没有缓存时先拟合。槽里的段起点不对时视为没有缓存，拟合后替换槽里的段；
+     * 并发拟合同一段时只保留先完成的结果
+     * 
+     * @param jd
+     *            儒略日
+     * @return 包含该时刻的段
+     */
+    public ChebyshevSegment getSegment(double jd) {
+        long index = (long) floor(jd / segmentLength);
+        double start = index * segmentLength;
+        int slot = (int) Math.floorMod(index, (long) segments.length());
+        ChebyshevSegment segment = segments.get(slot);
+        if (segment != null && segment.getStart() == start) {
+            hits.increment();
+            return segment;
+        }
+        misses.increment();
+        CacheFillEvent event = new CacheFillEvent();
+        event.begin();
+        ChebyshevSegment fitted = ChebyshevSegment.fit(function, start, segmentLength, size, angle);
+        event.finish(name, fitted.getStart(), segmentLength, size, fitted.getFitError());
+        while (!segments.compareAndSet(slot, segment, fitted)) {
+            segment = segments.get(slot);
+            if (segment != null && segment.getStart() == start) {
+                return segment;
+            }
+        }
+        return fitted;
+    }
+
+    /**
+     * 计算拟合值
+     * 
+     * @param jd
+     *            儒略日
+     * @return 拟合值，角度在0到2π之间
+     */
+    @Override
+    public double f(double jd) {
+        double value = getSegment(jd).value(jd);
+        return angle ? mod2Pi(value) : value;
+    }
+
+    /**
+     * 同时计算拟合值和导数，只查找一次段
+     * 
+     * @param jd
+     *            儒略日
+     * @param result
+     *            result[0]存放拟合值(角度在0到2π之间)，result[1]存放每日的变化量
+     */
+    @Override
+    public void f(double jd, double[] result) {
+        ChebyshevSegment segment = getSegment(jd);
+        double value = segment.value(jd);
+        result[0] = angle ? mod2Pi(value) : value;
+        result[1] = segment.derivative(jd);
+    }
+
+    /**
+     * 批量计算拟合值和导数。相邻的自变量落在同一段时不再查找，按时间排序的自变量大多可以共用一段
+     * 
+     * @param jd
+     *            各时刻的儒略日
+     * @param values
+     *            存放各时刻的拟合值(角度在0到2π之间)
+     * @param rates
+     *            存放各时刻每日的变化量
+     * @param n
+     *            计算前n个
+     */
+    public void f(double[] jd, double[] values, double[] rates, int n) {
+        ChebyshevSegment segment = null;
+        for (int i = 0; i < n; i++) {
+            double x = jd[i];
+            if (segment == null || x < segment.getStart()
+                    || x >= segment.getStart() + segment.getLength()) {
+                segment = getSegment(x);
+            }
+            double value = segment.value(x);
+            values[i] = angle ? mod2Pi(value) : value;
+            rates[i] = segment.derivative(x);
+        }
+    }
+
+    /**
+     * 计算拟合的导数
+     * 
+     * @param jd
+     *            儒略日
+     * @return 每日的变化量
+     */
+    public double derivative(double jd) {
+        return getSegment(jd).derivative(jd);
+    }
+
+    /**
+     * @return 已缓存的各段拟合误差的最大值
+     */
+    public double getMaxFitError() {
+        double result = 0.0d;
+        for (int i = 0; i < segments.length(); i++) {
+            ChebyshevSegment segment = segments.get(i);
+            if (segment != null) {
+                result = Math.max(result, segment.getFitError());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return 已缓存的段数
+     */
+    public int getSegmentCount() {
+        int count = 0;
+        for (int i = 0; i < segments.length(); i++) {
+            if (segments.get(i) != null) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * @return 命中缓存的次数
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return 没有命中缓存、需要拟合的次数
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * 清空缓存
+     */
+    public void clear() {
+        for (int i = 0; i < segments.length(); i++) {
+            segments.set(i, null);
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package oyyq.calendar.util;
+
+import static java.lang.Math.PI;
+import static java.lang.Math.abs;
+import static java.lang.Math.cos;
+import static oyyq.calendar.util.MathUtil.modPi;
+
+/**
+ * 一段时间内某个函数的切比雪夫多项式拟合。<br />
+ * 在区间的切比雪夫节点上取样，求出系数后，区间内任意时刻的函数值和导数都只需要一次Clenshaw递推。
+ * 拟合角度时先把取样值展开成连续的值，拟合出来的值不再限制在0到2π之间。
+ * 
+ * @author oyyq
+ */
+public final class ChebyshevSegment {
+
+    /**
+     * 区间的起点
+     */
+    private final double   start;
+
+    /**
+     * 区间的长度
+     */
+    private final double   length;
+
+    /**
+     * 函数值的系数c0..cn-1
+     */
+    private final double[] coefficients;
+
+    /**
+     * 导数的系数，已经换算成对自变量(而不是区间内的标准化变量)的导数
+     */
+    private final double[] derivatives;
+
+    /**
+     * 拟合误差，在若干检验点上拟合值与函数值之差的最大值
+     */
+    private final double   fitError;
+
+    /**
+     * 由系数构造
+     * 
+     * @param start
+     *            区间的起点
+     * @param length
+     *            区间的长度
+     * @param coefficients
+     *            系数
+     * @param fitError
+     *            拟合误差
+     */
+    public ChebyshevSegment(double start, double length, double[] coefficients, double fitError) {
+        this.start = start;
+        this.length = length;
+        this.coefficients = coefficients;
+        this.derivatives = getDerivatives(coefficients, 2.0d / length);
+        this.fitError = fitError;
+    }
+
+    /**
+     * 在区间[start, start + length]上拟合函数
+     * 
+     * @param f
+     *            函数
+     * @param start
+     *            区间的起点
+     * @param length
+     *            区间的长度
+     * @param n
+     *            系数的个数(多项式的阶数加1)
+     * @param angle
+     *            函数值是否是角度，是角度时先展开成连续的值再拟合
+     * @return 拟合结果
+     */
+    public static ChebyshevSegment fit(Function f, double start, double length, int n, boolean angle) {
+        double[] values = new double[n];
+        for (int k = 0; k < n; k++) {
+            values[k] = f.f(toX(start, length, cos(PI * (k + 0.5) / n)));
+            if (angle && k > 0) {
+                values[k] = values[k - 1] + modPi(values[k] - values[k - 1]);
+            }
+        }
+        double[] c = new double[n];
+        for (int j = 0; j < n; j++) {
+            double sum = 0.0d;
+            for (int k = 0; k < n; k++) {
+                sum += values[k] * cos(PI * j * (k + 0.5) / n);
+            }
+            c[j] = 2.0d * sum / n;
+        }
+
+        // 在区间两端和中间附近的极值点上检验，插值误差在T(n)的极值点上最大
+        ChebyshevSegment segment = new ChebyshevSegment(start, length, c, 0.0d);
+        double error = 0.0d;
+        for (int k : new int[] {1, n / 2, n - 1}) {
+            double x = toX(start, length, cos(PI * k / n));
+            double diff = segment.value(x) - f.f(x);
+            error = Math.max(error, abs(angle ? modPi(diff) : diff));
+        }
+        return new ChebyshevSegment(start, length, c, error);
+    }
+
+    private static double toX(double start, double length, double u) {
+        return start + (u + 1.0d) * length / 2.0d;
+    }
+
+    /**
+     * 由函数值的系数推出导数的系数：c'(j-1) = c'(j+1) + 2j * c(j)
+     */
+    private static double[] getDerivatives(double[] c, double scale) {
+        int n = c.length;
+        double[] d = new double[Math.max(n - 1, 1)];
+        for (int j = n - 1; j >= 1; j--) {
+            d[j - 1] = (j + 1 < n - 1 ? d[j + 1] : 0.0d) + 2.0d * j * c[j];
+        }
+        for (int j = 0; j < d.length; j++) {
+            d[j] *= scale;
+        }
+        return d;
+    }
+
+    /**
+     * Clenshaw递推求Σc(j)T(j)(u) - c0 / 2
+     */
+    private static double clenshaw(double[] c, double u) {
+        double b1 = 0.0d;
+        double b2 = 0.0d;
+        double u2 = 2.0d * u;
+        for (int j = c.length - 1; j >= 1; j--) {
+            double b = u2 * b1 - b2 + c[j];
+            b2 = b1;
+            b1 = b;
+        }
+        return u * b1 - b2 + c[0] / 2.0d;
+    }
+
+    /**
+     * 计算拟合值
+     * 
+     * @param x
+     *            自变量，应在区间内
+     * @return 拟合值，角度不限制在0到2π之间
+     */
+    public double value(double x) {
+        return clenshaw(coefficients, 2.0d * (x - start) / length - 1.0d);
+    }
+
+    /**
+     * 计算拟合的导数
+     * 
+     * @param x
+     *            自变量，应在区间内
+     * @return 导数
+     */
+    public double derivative(double x) {
+        return clenshaw(derivatives, 2.0d * (x - start) / length - 1.0d);
+    }
+
+    /**
+     * @return 区间的起点
+     */
+    public double getStart() {
+        return start;
+    }
+
+    /**
+     * @return 区间的长度
+     */
+    public double getLength() {
+        return length;
+    }
+
+    /**
+     * @return 系数，调用者不应修改
+     */
+    public double[] getCoefficients() {
+        return coefficients;
+    }
+
+    /**
+     * @return 拟合误差
+     */
+    public double getFitError() {
+        return fitError;
+    }
+}
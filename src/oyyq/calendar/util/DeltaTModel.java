@@ -0,0 +1,29 @@
+package oyyq.calendar.util;
+
+/**
+ * ∆T(TT - UT)的计算模型，可以通过{@link CalendarUtil#setDeltaTModel(DeltaTModel)}替换默认的列表插值模型
+ * 
+ * @author oyyq
+ */
+@FunctionalInterface
+public interface DeltaTModel {
+
+    /**
+     * NASA网站给出的分段多项式，见{@link CalendarUtil#getPolynomialDeltaT(double)}
+     */
+    public static final DeltaTModel POLYNOMIAL = CalendarUtil::getPolynomialDeltaT;
+
+    /**
+     * 按月列表插值的∆T，见{@link DeltaTTable#getDefault()}，第一次用到时才构造表
+     */
+    public static final DeltaTModel TABULATED  = jd -> DeltaTTable.getDefault().getDeltaT(jd);
+
+    /**
+     * 计算∆T
+     * 
+     * @param jd
+     *            儒略日
+     * @return ∆T的值，单位为秒
+     */
+    public double getDeltaT(double jd);
+}
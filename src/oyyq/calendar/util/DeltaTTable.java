@@ -0,0 +1,295 @@
+package oyyq.calendar.util;
+
+import static java.lang.Math.abs;
+import static java.lang.Math.floor;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+/**
+ * 按月列表的∆T，从{@value #FIRST_YEAR}年到{@value #LAST_YEAR}年每月一个节点，节点之间用三次(Catmull-Rom)插值。<br />
+ * 节点的值取自{@link CalendarUtil#getPolynomialDeltaT(double)}的多项式，插值结果连续，消除了多项式在分段处的跳变，
+ * 查询只是一次下标计算和四个节点的加权和。<br />
+ * 可以用观测值文件覆盖表中相应时段的节点(见{@link #load(Path)})，观测时段以外的节点按两端的差值在{@value #BLEND_YEARS}年内逐渐过渡到多项式。
+ * 系统属性{@value #PROPERTY}指定的文件在第一次用到默认表时读入。
+ *
+ * @author oyyq
+ */
+public final class DeltaTTable implements DeltaTModel {
+
+    /**
+     * 指定∆T观测值文件路径的系统属性
+     */
+    public static final String  PROPERTY       = "oyyq.calendar.deltat";
+
+    /**
+     * 表的第一年
+     */
+    public static final int     FIRST_YEAR     = -1999;
+
+    /**
+     * 表的最后一年
+     */
+    public static final int     LAST_YEAR      = 3000;
+
+    /**
+     * 观测值与多项式之间的过渡年数
+     */
+    static final int            BLEND_YEARS    = 10;
+
+    /**
+     * 2000年1月1日0时的儒略日
+     */
+    private static final double J2000_0        = 2451544.5d;
+
+    /**
+     * 平均Gregorian年的日数，用于由儒略日换算带小数的年份
+     */
+    private static final double DAYS_PER_YEAR  = 365.2425d;
+
+    private static final int    NODES_PER_YEAR = 12;
+
+    /**
+     * 各节点的∆T(秒)，第i个节点在FIRST_YEAR + (i - 0.5) / 12年(月中)，首尾各多一个节点供插值使用
+     */
+    private final double[]      values;
+
+    /**
+     * 按系统属性{@value #PROPERTY}构造的表，第一次用到时才构造
+     */
+    private static class DefaultHolder {
+        static final DeltaTTable DEFAULT = loadDefault();
+    }
+
+    /**
+     * 构造只有多项式值的表
+     */
+    public DeltaTTable() {
+        int n = (LAST_YEAR + 1 - FIRST_YEAR) * NODES_PER_YEAR + 3;
+        values = new double[n];
+        for (int i = 0; i < n; i++) {
+            double y = getNodeYear(i);
+            values[i] = CalendarUtil.getPolynomialDeltaT((int) floor(y), y);
+        }
+    }
+
+    /**
+     * 构造用观测值覆盖的表。观测时段内的节点由相邻的观测值线性插值，
+     * 观测时段以外{@value #BLEND_YEARS}年内的节点加上端点处观测值与多项式之差，差值线性减小到0
+     *
+     * @param jd
+     *            各观测时刻的儒略日，从小到大排列
+     * @param deltaT
+     *            各观测时刻的∆T(秒)
+     */
+    public DeltaTTable(double[] jd, double[] deltaT) {
+        this();
+        if (jd.length != deltaT.length) {
+            throw new IllegalArgumentException("jd and deltaT must have the same length");
+        }
+        if (jd.length == 0) {
+            return;
+        }
+        double[] years = new double[jd.length];
+        for (int k = 0; k < jd.length; k++) {
+            years[k] = getYear(jd[k]);
+            if (k > 0 && years[k] < years[k - 1]) {
+                throw new IllegalArgumentException("Observations must be sorted by time");
+            }
+        }
+        double first = years[0];
+        double last = years[years.length - 1];
+        int blend = BLEND_YEARS * NODES_PER_YEAR;
+        double head = deltaT[0] - values[getNodeBefore(first) + 1];
+        double tail = deltaT[deltaT.length - 1] - values[getNodeBefore(last)];
+        int k = 0;
+        for (int i = 0; i < values.length; i++) {
+            double y = getNodeYear(i);
+            if (y < first) {
+                double w = 1 - (first - y) * NODES_PER_YEAR / blend;
+                values[i] += head * max(w, 0);
+            } else if (y > last) {
+                double w = 1 - (y - last) * NODES_PER_YEAR / blend;
+                values[i] += tail * max(w, 0);
+            } else if (years.length == 1) {
+                values[i] = deltaT[0];
+            } else {
+                while (k < years.length - 2 && years[k + 1] < y) {
+                    k++;
+                }
+                double span = years[k + 1] - years[k];
+                double t = span > 0 ? (y - years[k]) / span : 0;
+                values[i] = deltaT[k] + (deltaT[k + 1] - deltaT[k]) * min(max(t, 0), 1);
+            }
+        }
+    }
+
+    /**
+     * 读入观测值文件构造表。文件每行为"年 月 日 ∆T(秒)"(与USNO的deltat.data格式相同)，空行和以#开头的行忽略
+     *
+     * @param path
+     *            文件路径
+     * @return 用观测值覆盖的表
+     */
+    public static DeltaTTable load(Path path) {
+        double[] jd = new double[64];
+        double[] deltaT = new double[64];
+        int n = 0;
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] fields = line.split("\\s+");
+                if (fields.length < 4) {
+                    throw new IllegalArgumentException("Malformed ΔT line: " + line);
+                }
+                if (n == jd.length) {
+                    jd = Arrays.copyOf(jd, n * 2);
+                    deltaT = Arrays.copyOf(deltaT, n * 2);
+                }
+                jd[n] = CalendarUtil.toJulianDate(Integer.parseInt(fields[0]),
+                        Integer.parseInt(fields[1]), Integer.parseInt(fields[2])) - 0.5d;
+                deltaT[n] = Double.parseDouble(fields[3]);
+                n++;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new DeltaTTable(Arrays.copyOf(jd, n), Arrays.copyOf(deltaT, n));
+    }
+
+    private static DeltaTTable loadDefault() {
+        String path = System.getProperty(PROPERTY);
+        if (path == null || !Files.isRegularFile(Paths.get(path))) {
+            return new DeltaTTable();
+        }
+        return load(Paths.get(path));
+    }
+
+    /**
+     * @return 默认的表，系统属性{@value #PROPERTY}指定的文件存在时用其中的观测值覆盖
+     */
+    public static DeltaTTable getDefault() {
+        return DefaultHolder.DEFAULT;
+    }
+
+    /**
+     * 由儒略日计算带小数的年份，2000年1月1日0时为2000.0
+     *
+     * @param jd
+     *            儒略日
+     * @return 带小数的年份
+     */
+    static double getYear(double jd) {
+        return 2000 + (jd - J2000_0) / DAYS_PER_YEAR;
+    }
+
+    /**
+     * @param i
+     *            节点序号
+     * @return 节点的年份，取月中
+     */
+    private static double getNodeYear(int i) {
+        return FIRST_YEAR + (i - 1 + 0.5d) / NODES_PER_YEAR;
+    }
+
+    /**
+     * @param y
+     *            带小数的年份
+     * @return 不晚于y的最后一个节点的序号
+     */
+    private static int getNodeBefore(double y) {
+        return (int) floor((y - FIRST_YEAR) * NODES_PER_YEAR - 0.5d) + 1;
+    }
+
+    /**
+     * @param jd
+     *            儒略日
+     * @return 是否在表的范围内，范围以外按多项式计算
+     */
+    public boolean contains(double jd) {
+        int i = getNodeBefore(getYear(jd));
+        return i >= 1 && i < values.length - 2;
+    }
+
+    /**
+     * 计算∆T，在表的范围以外按多项式计算
+     *
+     * @param jd
+     *            儒略日
+     * @return ∆T的值，单位为秒
+     */
+    @Override
+    public double getDeltaT(double jd) {
+        double x = (getYear(jd) - FIRST_YEAR) * NODES_PER_YEAR + 0.5d;
+        int i = (int) floor(x);
+        if (i < 1 || i >= values.length - 2) {
+            return CalendarUtil.getPolynomialDeltaT(jd);
+        }
+        double t = x - i;
+        double p0 = values[i - 1];
+        double p1 = values[i];
+        double p2 = values[i + 1];
+        double p3 = values[i + 2];
+        return p1 + 0.5d * t * (p2 - p0 + t * (2 * p0 - 5 * p1 + 4 * p2 - p3
+                + t * (3 * (p1 - p2) + p3 - p0)));
+    }
+
+    public static void main(String[] args) {
+        DeltaTTable table = getDefault();
+        double maxDiff = 0;
+        double maxJump = 0;
+        double maxTableJump = 0;
+        double start = CalendarUtil.toJulianDate(-1999, 1, 1);
+        double end = CalendarUtil.toJulianDate(3000, 12, 31);
+        double step = 0.25d;
+        double prev = DeltaTModel.POLYNOMIAL.getDeltaT(start);
+        double prevTable = table.getDeltaT(start);
+        for (double jd = start + step; jd < end; jd += step) {
+            double p = DeltaTModel.POLYNOMIAL.getDeltaT(jd);
+            double v = table.getDeltaT(jd);
+            maxDiff = max(maxDiff, abs(v - p));
+            maxJump = max(maxJump, abs(p - prev));
+            maxTableJump = max(maxTableJump, abs(v - prevTable));
+            prev = p;
+            prevTable = v;
+        }
+        System.out.printf("nodes: %d, max |table - polynomial|: %.3f s%n", table.values.length,
+                maxDiff);
+        System.out.printf("max change per %.2f d, polynomial: %.3f s, table: %.3f s%n", step,
+                maxJump, maxTableJump);
+        for (int year : new int[] { -1000, 0, 1000, 1600, 1900, 2000, 2020, 2100 }) {
+            double jd = CalendarUtil.toJulianDate(year, 7, 1) - 0.5d;
+            System.out.printf("%5d: polynomial %10.3f, table %10.3f%n", year,
+                    DeltaTModel.POLYNOMIAL.getDeltaT(jd), table.getDeltaT(jd));
+        }
+
+        int n = 2000000;
+        double sum = 0;
+        for (int round = 0; round < 3; round++) {
+            long t0 = System.nanoTime();
+            for (int i = 0; i < n; i++) {
+                sum += DeltaTModel.POLYNOMIAL.getDeltaT(2400000.0d + i * 0.05);
+            }
+            long t1 = System.nanoTime();
+            for (int i = 0; i < n; i++) {
+                sum += table.getDeltaT(2400000.0d + i * 0.05);
+            }
+            long t2 = System.nanoTime();
+            System.out.printf("polynomial: %.1f ns, table: %.1f ns%n", (double) (t1 - t0) / n,
+                    (double) (t2 - t1) / n);
+        }
+        System.out.println(sum);
+    }
+}
@@ -0,0 +1,14 @@
+package oyyq.calendar.util;
+
+public interface DifferentiableFunction {
+
+    /**
+     * 同时计算函数值和导数
+     * 
+     * @param x
+     *            自变量
+     * @param result
+     *            长度至少为2的数组，result[0]存放函数值，result[1]存放导数
+     */
+    public void f(double x, double[] result);
+}
@@ -0,0 +1,260 @@
+package oyyq.calendar.util;
+
+import oyyq.calendar.util.elp82simple.Elp82Util;
+import oyyq.calendar.util.elpmpp02.ElpMpp02Util;
+
+/**
+ * 太阳和月球视黄经的切比雪夫拟合缓存。<br />
+ * 太阳视黄经按16日一段、每段14个系数拟合，拟合误差在0.00003″左右(不超过0.001″)，最多缓存8192段(约360年)。
+ * 同一时期内反复求节气时，每次求值只是一次13阶多项式计算，不再计算VSOP87级数和章动。<br />
+ * 月球每天移动约13°，按4日一段、每段11个系数拟合，ELP/MPP02和ELP-2000/82的拟合误差都在0.00005″以内，各最多缓存16384段(约180年)。<br />
+ * 系统属性{@value EphemerisFile#PROPERTY}指定了星历文件时，文件范围内的太阳和ELP/MPP02月球视黄经直接从文件读取，不再拟合。
+ * 
+ * @author oyyq
+ */
+public class EphemerisCache {
+
+    /**
+     * 太阳视黄经每段的长度(日)
+     */
+    public static final int             SUN_SEGMENT_DAYS = 16;
+
+    /**
+     * 太阳视黄经每段的系数个数
+     */
+    static final int                    SUN_SIZE         = 14;
+
+    /**
+     * 太阳视黄经最多缓存的段数
+     */
+    private static final int            SUN_CAPACITY     = 8192;
+
+    private static final ChebyshevCache SUN              = new ChebyshevCache("sun",
+                                                                 (double jd) -> Vsop87dEarthUtil
+                                                                         .getEarthEclipticLongitudeForSun(jd),
+                                                                 SUN_SEGMENT_DAYS, SUN_SIZE,
+                                                                 SUN_CAPACITY, true);
+
+    /**
+     * 月球视黄经每段的长度(日)
+     */
+    public static final int             MOON_SEGMENT_DAYS = 4;
+
+    /**
+     * 月球视黄经每段的系数个数
+     */
+    static final int                    MOON_SIZE         = 11;
+
+    /**
+     * 月球视黄经最多缓存的段数
+     */
+    private static final int            MOON_CAPACITY     = 16384;
+
+    private static final ChebyshevCache MOON              = new ChebyshevCache("moon",
+                                                                  (double jd) -> ElpMpp02Util
+                                                                          .getEarthApparentLongitudeForMoon(jd),
+                                                                  MOON_SEGMENT_DAYS, MOON_SIZE,
+                                                                  MOON_CAPACITY, true);
+
+    private static final ChebyshevCache MOON_ELP82        = new ChebyshevCache("moon-elp82",
+                                                                  (double jd) -> Elp82Util
+                                                                          .getEarthEclipticLongitudeForMoon(jd),
+                                                                  MOON_SEGMENT_DAYS, MOON_SIZE,
+                                                                  MOON_CAPACITY, true);
+
+    /**
+     * 由缓存计算太阳的地心视黄经
+     * 
+     * @param jd
+     *            儒略日
+     * @return 太阳的地心视黄经(rad)
+     */
+    public static double getEarthEclipticLongitudeForSun(double jd) {
+        EphemerisFile file = EphemerisFile.getDefault();
+        if (file != null && file.containsSun(jd)) {
+            return file.getEarthEclipticLongitudeForSun(jd);
+        }
+        return SUN.f(jd);
+    }
+
+    /**
+     * @return 太阳视黄经的缓存，可以查看各段的拟合误差和命中次数
+     */
+    public static ChebyshevCache getSunCache() {
+        return SUN;
+    }
+
+    /**
+     * 由缓存同时计算太阳的地心视黄经和它的变化率
+     * 
+     * @param jd
+     *            儒略日
+     * @param result
+     *            result[0]存放太阳的地心视黄经(rad)，result[1]存放每日的变化量(rad)
+     */
+    public static void getEarthEclipticLongitudeForSun(double jd, double[] result) {
+        EphemerisFile file = EphemerisFile.getDefault();
+        if (file != null && file.containsSun(jd)) {
+            file.getEarthEclipticLongitudeForSun(jd, result);
+        } else {
+            SUN.f(jd, result);
+        }
+    }
+
+    /**
+     * 由缓存批量计算太阳的地心视黄经和它的变化率
+     * 
+     * @param jd
+     *            各时刻的儒略日
+     * @param values
+     *            存放各时刻太阳的地心视黄经(rad)
+     * @param rates
+     *            存放各时刻每日的变化量(rad)
+     * @param n
+     *            计算前n个
+     */
+    public static void getEarthEclipticLongitudeForSun(double[] jd, double[] values,
+            double[] rates, int n) {
+        EphemerisFile file = EphemerisFile.getDefault();
+        if (file == null) {
+            SUN.f(jd, values, rates, n);
+            return;
+        }
+        for (int i = 0; i < n; i++) {
+            double x = jd[i];
+            if (file.containsSun(x)) {
+                values[i] = file.getEarthEclipticLongitudeForSun(x);
+                rates[i] = file.getEarthEclipticLongitudeRateForSun(x);
+            } else {
+                values[i] = SUN.f(x);
+                rates[i] = SUN.derivative(x);
+            }
+        }
+    }
+
+    /**
+     * 由缓存同时计算ELP/MPP02的月球地心视黄经和它的变化率
+     * 
+     * @param jd
+     *            儒略日
+     * @param result
+     *            result[0]存放月球的地心视黄经(rad)，result[1]存放每日的变化量(rad)
+     */
+    public static void getEarthApparentLongitudeForMoon(double jd, double[] result) {
+        EphemerisFile file = EphemerisFile.getDefault();
+        if (file != null && file.containsMoon(jd)) {
+            file.getEarthApparentLongitudeForMoon(jd, result);
+        } else {
+            MOON.f(jd, result);
+        }
+    }
+
+    /**
+     * 由缓存计算ELP/MPP02的月球地心视黄经，参见{@link ElpMpp02Util#getEarthApparentLongitudeForMoon(double)}
+     * 
+     * @param jd
+     *            儒略日
+     * @return 月球的地心视黄经(rad)
+     */
+    public static double getEarthApparentLongitudeForMoon(double jd) {
+        EphemerisFile file = EphemerisFile.getDefault();
+        if (file != null && file.containsMoon(jd)) {
+            return file.getEarthApparentLongitudeForMoon(jd);
+        }
+        return MOON.f(jd);
+    }
+
+    /**
+     * 由缓存计算ELP-2000/82的月球地心视黄经，参见{@link Elp82Util#getEarthEclipticLongitudeForMoon(double)}
+     * 
+     * @param jd
+     *            儒略日
+     * @return 月球的地心视黄经(rad)
+     */
+    public static double getEarthEclipticLongitudeForMoon(double jd) {
+        return MOON_ELP82.f(jd);
+    }
+
+    /**
+     * @return ELP/MPP02月球视黄经的缓存
+     */
+    public static ChebyshevCache getMoonCache() {
+        return MOON;
+    }
+
+    /**
+     * @return ELP-2000/82月球视黄经的缓存
+     */
+    public static ChebyshevCache getElp82MoonCache() {
+        return MOON_ELP82;
+    }
+
+    /**
+     * 清空全部缓存
+     */
+    public static void clear() {
+        SUN.clear();
+        MOON.clear();
+        MOON_ELP82.clear();
+    }
+
+    /**
+     * 比较缓存前后求节气和合朔的速度，并输出拟合误差
+     */
+    public static void main(String[] args) {
+        for (int round = 0; round < 3; round++) {
+            long start = System.nanoTime();
+            double sum = 0.0d;
+            for (int year = 1900; year < 2100; year++) {
+                for (SolarTerms term : SolarTerms.values()) {
+                    sum += SolarTermsCalculator.getJulianDayInYearForTermOrder(term, year,
+                            Precision.FULL);
+                }
+            }
+            long series = System.nanoTime() - start;
+            start = System.nanoTime();
+            for (int year = 1900; year < 2100; year++) {
+                for (SolarTerms term : SolarTerms.values()) {
+                    sum -= SolarTermsCalculator.getJulianDayInYearForTermOrder(term, year);
+                }
+            }
+            long cached = System.nanoTime() - start;
+            System.out.println(String.format("series %5d ms, cache %5d ms (%.6f s)",
+                    series / 1000000, cached / 1000000, sum * 86400));
+        }
+
+        // 连续几十年的合朔：直接计算ELP/MPP02级数和使用缓存
+        for (int round = 0; round < 3; round++) {
+            long start = System.nanoTime();
+            double sum = 0.0d;
+            for (int year = 1990; year < 2010; year++) {
+                for (int month = 1; month <= 12; month++) {
+                    for (double jd : NewMoonCalculator.getJulianDayInYearAndMonthForNewMoon(year,
+                            month, Precision.FULL)) {
+                        sum += jd;
+                    }
+                }
+            }
+            long series = System.nanoTime() - start;
+            start = System.nanoTime();
+            for (int year = 1990; year < 2010; year++) {
+                for (int month = 1; month <= 12; month++) {
+                    for (double jd : NewMoonCalculator.getJulianDayInYearAndMonthForNewMoon(year,
+                            month, (double x) -> getEarthEclipticLongitudeForSun(x)
+                                    - getEarthApparentLongitudeForMoon(x))) {
+                        sum -= jd;
+                    }
+                }
+            }
+            long cached = System.nanoTime() - start;
+            System.out.println(String.format("series %5d ms, cache %5d ms (%.6f s)",
+                    series / 1000000, cached / 1000000, sum * 86400));
+        }
+        for (ChebyshevCache cache : new ChebyshevCache[] {SUN, MOON, MOON_ELP82}) {
+            System.out.println(String.format(
+                    "segments %d, hits %d, misses %d, max fit error %.6f\"",
+                    cache.getSegmentCount(), cache.getHits(), cache.getMisses(),
+                    Math.toDegrees(cache.getMaxFitError()) * 3600));
+        }
+    }
+}
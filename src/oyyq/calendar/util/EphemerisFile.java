@@ -0,0 +1,324 @@
+package oyyq.calendar.util;
+
+import static java.lang.Math.floor;
+import static oyyq.calendar.util.MathUtil.mod2Pi;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+import oyyq.calendar.util.elpmpp02.ElpMpp02Fit;
+import oyyq.calendar.util.elpmpp02.ElpMpp02Util;
+
+/**
+ * 预先计算的星历文件(由{@link EphemerisFileWriter}生成)，保存太阳和月球视黄经的切比雪夫系数。<br />
+ * 文件格式(大端序)：
+ * <ul>
+ * <li>文件头：魔数{@value #MAGIC}(int)、版本号{@value #VERSION}(int)、天体个数(int)、
+ * 月球视黄经所用的ELP/MPP02拟合常数(int，{@link ElpMpp02Fit#getIcor()})</li>
+ * <li>目录：每个天体一条，依次为天体编号(int，{@value #SUN}为太阳，{@value #MOON}为月球)、每段的系数个数(int)、第一段的段号(long)、
+ * 段数(int)、保留(int)、每段的长度(double，日)、最大拟合误差(double，rad)、数据偏移(long)</li>
+ * <li>数据：每个天体依次存放各段的系数(double)，第k段的区间从(第一段的段号 + k) * 每段的长度开始</li>
+ * </ul>
+ * 文件用{@link FileChannel#map}映射，查询时直接从映射的缓冲区读系数做Clenshaw递推，不在堆上分配对象。
+ * 分段方式与{@link EphemerisCache}相同，有没有星历文件得到的结果相同。
+ * 
+ * @author oyyq
+ */
+public final class EphemerisFile {
+
+    /**
+     * 指定星历文件路径的系统属性
+     */
+    public static final String PROPERTY    = "oyyq.calendar.ephemeris";
+
+    /**
+     * 魔数"EPH1"
+     */
+    static final int           MAGIC       = 0x45504831;
+
+    /**
+     * 文件格式版本，版本2在文件头中记录ELP/MPP02的拟合常数
+     */
+    static final int           VERSION     = 2;
+
+    static final int           HEADER_SIZE = 16;
+    static final int           ENTRY_SIZE  = 48;
+
+    /**
+     * 太阳视黄经
+     */
+    static final int           SUN         = 0;
+
+    /**
+     * 月球视黄经(ELP/MPP02)
+     */
+    static final int           MOON        = 1;
+
+    /**
+     * 按系统属性{@value #PROPERTY}打开的星历文件，第一次用到时才打开
+     */
+    private static class DefaultHolder {
+        static final EphemerisFile DEFAULT = openDefault();
+    }
+
+    /**
+     * 星历文件中一个天体的数据
+     */
+    private static final class Section {
+
+        private final ByteBuffer buffer;
+        private final int        size;
+        private final long       firstIndex;
+        private final int        count;
+        private final double     segmentLength;
+        private final double     maxFitError;
+        private final int        offset;
+
+        Section(ByteBuffer buffer, int entry) {
+            this.buffer = buffer;
+            this.size = buffer.getInt(entry + 4);
+            this.firstIndex = buffer.getLong(entry + 8);
+            this.count = buffer.getInt(entry + 16);
+            this.segmentLength = buffer.getDouble(entry + 24);
+            this.maxFitError = buffer.getDouble(entry + 32);
+            long offset = buffer.getLong(entry + 40);
+            if (size < 1 || count < 0 || !(segmentLength > 0) || offset < 0
+                    || offset + (long) count * size * 8 > buffer.capacity()) {
+                throw new IllegalStateException("Truncated or corrupt ephemeris file: body "
+                        + buffer.getInt(entry) + " needs " + count + " segments of " + size
+                        + " coefficients at offset " + offset + ", file has "
+                        + buffer.capacity() + " bytes");
+            }
+            this.offset = (int) offset;
+        }
+
+        boolean contains(double jd) {
+            long index = (long) floor(jd / segmentLength) - firstIndex;
+            return index >= 0 && index < count;
+        }
+
+        double value(double jd) {
+            long index = (long) floor(jd / segmentLength);
+            long k = index - firstIndex;
+            if (k < 0 || k >= count) {
+                throw new IllegalArgumentException("Julian day out of ephemeris range: " + jd);
+            }
+            int p = offset + (int) k * size * 8;
+            double u = 2.0d * (jd - index * segmentLength) / segmentLength - 1.0d;
+            double u2 = 2.0d * u;
+            double b1 = 0.0d;
+            double b2 = 0.0d;
+            for (int j = size - 1; j >= 1; j--) {
+                double b = u2 * b1 - b2 + buffer.getDouble(p + j * 8);
+                b2 = b1;
+                b1 = b;
+            }
+            return mod2Pi(u * b1 - b2 + buffer.getDouble(p) / 2.0d);
+        }
+
+        /**
+         * 导数Σj * c(j) * U(j-1)(u)，用第二类切比雪夫多项式的Clenshaw递推
+         */
+        double derivative(double jd) {
+            long index = (long) floor(jd / segmentLength);
+            long k = index - firstIndex;
+            if (k < 0 || k >= count) {
+                throw new IllegalArgumentException("Julian day out of ephemeris range: " + jd);
+            }
+            int p = offset + (int) k * size * 8;
+            double u = 2.0d * (jd - index * segmentLength) / segmentLength - 1.0d;
+            double u2 = 2.0d * u;
+            double b1 = 0.0d;
+            double b2 = 0.0d;
+            for (int j = size - 1; j >= 1; j--) {
+                double b = u2 * b1 - b2 + j * buffer.getDouble(p + j * 8);
+                b2 = b1;
+                b1 = b;
+            }
+            return b1 * 2.0d / segmentLength;
+        }
+    }
+
+    private final ElpMpp02Fit fit;
+
+    private final Section     sun;
+
+    private final Section     moon;
+
+    private EphemerisFile(ByteBuffer buffer) {
+        if (buffer.getInt(0) != MAGIC) {
+            throw new IllegalStateException("Not an ephemeris file");
+        }
+        int version = buffer.getInt(4);
+        if (version != VERSION) {
+            throw new IllegalStateException("Unsupported ephemeris file version: " + version);
+        }
+        try {
+            this.fit = ElpMpp02Fit.fromIcor(buffer.getInt(12));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalStateException("Corrupt ephemeris file", e);
+        }
+        Section s = null;
+        Section m = null;
+        int bodies = buffer.getInt(8);
+        if (bodies < 0 || HEADER_SIZE + (long) bodies * ENTRY_SIZE > buffer.capacity()) {
+            throw new IllegalStateException("Truncated or corrupt ephemeris file: " + bodies
+                    + " bodies");
+        }
+        for (int i = 0; i < bodies; i++) {
+            int entry = HEADER_SIZE + i * ENTRY_SIZE;
+            int body = buffer.getInt(entry);
+            if (body == SUN) {
+                s = new Section(buffer, entry);
+            } else if (body == MOON) {
+                m = new Section(buffer, entry);
+            }
+        }
+        if (s == null || m == null) {
+            throw new IllegalStateException("Incomplete ephemeris file");
+        }
+        this.sun = s;
+        this.moon = m;
+    }
+
+    /**
+     * 打开星历文件
+     * 
+     * @param path
+     *            文件路径
+     * @return 星历文件
+     */
+    public static EphemerisFile open(Path path) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return new EphemerisFile(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static EphemerisFile openDefault() {
+        String path = System.getProperty(PROPERTY);
+        if (path == null || !Files.isRegularFile(Paths.get(path))) {
+            return null;
+        }
+        EphemerisFile file = open(Paths.get(path));
+        if (file.getFit() != ElpMpp02Util.getFit()) {
+            return null;
+        }
+        return file;
+    }
+
+    /**
+     * 取默认的星历文件。文件中的月球视黄经按另一套ELP/MPP02拟合常数生成时(见{@link ElpMpp02Fit#PROPERTY})不使用该文件，
+     * 以保证有没有星历文件得到的结果相同
+     *
+     * @return 系统属性{@value #PROPERTY}指定的星历文件，没有指定、文件不存在或拟合常数不同时返回null
+     */
+    public static EphemerisFile getDefault() {
+        return DefaultHolder.DEFAULT;
+    }
+
+    /**
+     * @param jd
+     *            儒略日
+     * @return 星历文件是否包含该时刻的太阳视黄经
+     */
+    public boolean containsSun(double jd) {
+        return sun.contains(jd);
+    }
+
+    /**
+     * @param jd
+     *            儒略日
+     * @return 星历文件是否包含该时刻的月球视黄经
+     */
+    public boolean containsMoon(double jd) {
+        return moon.contains(jd);
+    }
+
+    /**
+     * 由星历文件计算太阳的地心视黄经
+     * 
+     * @param jd
+     *            儒略日
+     * @return 太阳的地心视黄经(rad)
+     */
+    public double getEarthEclipticLongitudeForSun(double jd) {
+        return sun.value(jd);
+    }
+
+    /**
+     * 由星历文件计算太阳地心视黄经的变化率
+     * 
+     * @param jd
+     *            儒略日
+     * @return 每日的变化量(rad)
+     */
+    public double getEarthEclipticLongitudeRateForSun(double jd) {
+        return sun.derivative(jd);
+    }
+
+    /**
+     * 由星历文件同时计算太阳的地心视黄经和它的变化率
+     * 
+     * @param jd
+     *            儒略日
+     * @param result
+     *            result[0]存放太阳的地心视黄经(rad)，result[1]存放每日的变化量(rad)
+     */
+    public void getEarthEclipticLongitudeForSun(double jd, double[] result) {
+        result[0] = sun.value(jd);
+        result[1] = sun.derivative(jd);
+    }
+
+    /**
+     * 由星历文件同时计算ELP/MPP02的月球地心视黄经和它的变化率
+     * 
+     * @param jd
+     *            儒略日
+     * @param result
+     *            result[0]存放月球的地心视黄经(rad)，result[1]存放每日的变化量(rad)
+     */
+    public void getEarthApparentLongitudeForMoon(double jd, double[] result) {
+        result[0] = moon.value(jd);
+        result[1] = moon.derivative(jd);
+    }
+
+    /**
+     * 由星历文件计算ELP/MPP02的月球地心视黄经
+     * 
+     * @param jd
+     *            儒略日
+     * @return 月球的地心视黄经(rad)
+     */
+    public double getEarthApparentLongitudeForMoon(double jd) {
+        return moon.value(jd);
+    }
+
+    /**
+     * @return 生成月球视黄经所用的ELP/MPP02拟合常数
+     */
+    public ElpMpp02Fit getFit() {
+        return fit;
+    }
+
+    /**
+     * @return 太阳视黄经的最大拟合误差(rad)
+     */
+    public double getSunFitError() {
+        return sun.maxFitError;
+    }
+
+    /**
+     * @return 月球视黄经的最大拟合误差(rad)
+     */
+    public double getMoonFitError() {
+        return moon.maxFitError;
+    }
+}
@@ -0,0 +1,162 @@
+package oyyq.calendar.util;
+
+import static oyyq.calendar.util.EphemerisFile.*;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import oyyq.calendar.util.elpmpp02.ElpMpp02Util;
+
+/**
+ * 生成{@link EphemerisFile}读取的星历文件。<br />
+ * 在给定的年份范围内按{@link EphemerisCache}的分段方式拟合太阳视黄经(VSOP87D + 章动 + 光行差)和ELP/MPP02的月球视黄经
+ * (拟合常数由系统属性{@value oyyq.calendar.util.elpmpp02.ElpMpp02Fit#PROPERTY}决定，记录在文件头中)，
+ * 各段并行拟合，按段号顺序写出，结果与线程数无关。默认覆盖VSOP87D的适用范围：公元前2000年到公元6000年。<br />
+ * 用法：EphemerisFileWriter 输出文件 [起始年份 结束年份]，年份是天文纪年(公元前2000年为-1999)，结束年份不包括在内。
+ * 
+ * @author oyyq
+ */
+public class EphemerisFileWriter {
+
+    /**
+     * 每个并行任务拟合的段数
+     */
+    private static final int BLOCK = 256;
+
+    private final double     startJd;
+
+    private final double     endJd;
+
+    /**
+     * @param startJd
+     *            起始儒略日
+     * @param endJd
+     *            结束儒略日
+     */
+    public EphemerisFileWriter(double startJd, double endJd) {
+        this.startJd = startJd;
+        this.endJd = endJd;
+    }
+
+    /**
+     * 一个天体的拟合结果
+     */
+    private static final class Body {
+        int      id;
+        int      size;
+        long     firstIndex;
+        int      count;
+        double   segmentLength;
+        double   maxFitError;
+        double[] coefficients;
+    }
+
+    private Body fit(int id, final Function f, final double segmentLength, final int size,
+            ExecutorService executor) throws InterruptedException, ExecutionException {
+        final Body body = new Body();
+        body.id = id;
+        body.size = size;
+        body.segmentLength = segmentLength;
+        body.firstIndex = (long) Math.floor(startJd / segmentLength);
+        body.count = (int) ((long) Math.ceil(endJd / segmentLength) - body.firstIndex);
+        body.coefficients = new double[body.count * size];
+        List<Future<Double>> futures = new ArrayList<Future<Double>>();
+        for (int from = 0; from < body.count; from += BLOCK) {
+            final int first = from;
+            final int last = Math.min(from + BLOCK, body.count);
+            futures.add(executor.submit(() -> {
+                double error = 0.0d;
+                for (int k = first; k < last; k++) {
+                    ChebyshevSegment segment = ChebyshevSegment.fit(f, (body.firstIndex + k)
+                            * segmentLength, segmentLength, size, true);
+                    System.arraycopy(segment.getCoefficients(), 0, body.coefficients, k * size,
+                            size);
+                    error = Math.max(error, segment.getFitError());
+                }
+                return error;
+            }));
+        }
+        for (Future<Double> future : futures) {
+            body.maxFitError = Math.max(body.maxFitError, future.get());
+        }
+        return body;
+    }
+
+    /**
+     * 拟合并写出星历文件
+     * 
+     * @param out
+     *            输出流
+     */
+    public void write(OutputStream out) throws IOException, InterruptedException,
+            ExecutionException {
+        ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime()
+                .availableProcessors());
+        Body[] bodies;
+        try {
+            bodies = new Body[] {
+                    fit(SUN, (double jd) -> Vsop87dEarthUtil.getEarthEclipticLongitudeForSun(jd),
+                            EphemerisCache.SUN_SEGMENT_DAYS, EphemerisCache.SUN_SIZE, executor),
+                    fit(MOON, (double jd) -> ElpMpp02Util.getEarthApparentLongitudeForMoon(jd),
+                            EphemerisCache.MOON_SEGMENT_DAYS, EphemerisCache.MOON_SIZE, executor)};
+        } finally {
+            executor.shutdown();
+        }
+
+        DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out));
+        data.writeInt(MAGIC);
+        data.writeInt(VERSION);
+        data.writeInt(bodies.length);
+        data.writeInt(ElpMpp02Util.getFit().getIcor());
+        long offset = HEADER_SIZE + bodies.length * ENTRY_SIZE;
+        for (Body body : bodies) {
+            data.writeInt(body.id);
+            data.writeInt(body.size);
+            data.writeLong(body.firstIndex);
+            data.writeInt(body.count);
+            data.writeInt(0);
+            data.writeDouble(body.segmentLength);
+            data.writeDouble(body.maxFitError);
+            data.writeLong(offset);
+            offset += body.coefficients.length * 8L;
+        }
+        for (Body body : bodies) {
+            for (double c : body.coefficients) {
+                data.writeDouble(c);
+            }
+        }
+        data.flush();
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length != 1 && args.length != 3) {
+            System.err.println("Usage: EphemerisFileWriter <output> [<start year> <end year>]");
+            System.exit(1);
+        }
+        int startYear = args.length == 3 ? Integer.parseInt(args[1]) : -1999;
+        int endYear = args.length == 3 ? Integer.parseInt(args[2]) : 6001;
+        EphemerisFileWriter writer = new EphemerisFileWriter(CalendarUtil.toJulianDate(startYear,
+                1, 1), CalendarUtil.toJulianDate(endYear, 1, 1));
+        long start = System.nanoTime();
+        try (OutputStream out = Files.newOutputStream(Paths.get(args[0]))) {
+            writer.write(out);
+        }
+        System.out.println(String.format("%s: %d bytes, %d s", args[0],
+                Files.size(Paths.get(args[0])), (System.nanoTime() - start) / 1000000000L));
+        EphemerisFile file = EphemerisFile.open(Paths.get(args[0]));
+        System.out.println("ELP/MPP02 fit: " + file.getFit());
+        System.out.println(String.format("max fit error: sun %.6f\", moon %.6f\"",
+                Math.toDegrees(file.getSunFitError()) * 3600,
+                Math.toDegrees(file.getMoonFitError()) * 3600));
+    }
+}
@@ -0,0 +1,376 @@
+package oyyq.calendar.util;
+
+import java.util.Arrays;
+import java.util.TimeZone;
+
+/**
+ * 农历(夏历)，按现行规则由合朔和中气推算：
+ * <ul>
+ * <li>以北京时间(UTC+8)的日期为准，合朔所在的一天为初一</li>
+ * <li>冬至所在的月为十一月</li>
+ * <li>两个冬至之间(岁)有13个月时，十一月以后第一个不含中气的月为闰月，月份与上一个月相同</li>
+ * <li>正月初一为农历年的开始</li>
+ * </ul>
+ * 构造时一次求出范围内的所有合朔和中气，按月存放每月初一的儒略日数(有序的int数组)和打包的月份属性。
+ * 公历转农历只是一次二分查找，农历转公历只是一次下标计算。1929年以前的日期同样按UTC+8推算，与当时以北京地方时编算的历书可能相差一天。
+ *
+ * @author oyyq
+ */
+public final class LunarCalendar {
+
+    /**
+     * 月份在属性中的位置和掩码
+     */
+    private static final int          MONTH_MASK = 0xF;
+
+    /**
+     * 闰月标志位
+     */
+    private static final int          LEAP_FLAG  = 0x10;
+
+    /**
+     * 农历年在属性中的位置
+     */
+    private static final int          YEAR_SHIFT = 5;
+
+    private static final TimeZone     CHINA      = TimeZone.getTimeZone("GMT+08:00");
+
+    /**
+     * 十二个中气(冬至、大寒、雨水……小雪)
+     */
+    private static final SolarTerms[] MAJOR_TERMS;
+
+    static {
+        SolarTerms[] terms = SolarTerms.values();
+        MAJOR_TERMS = new SolarTerms[terms.length / 2];
+        int n = 0;
+        for (SolarTerms term : terms) {
+            if (term.getOrder() % 2 == 1) {
+                MAJOR_TERMS[n++] = term;
+            }
+        }
+    }
+
+    /**
+     * 完整包含的第一个农历年
+     */
+    private final int             firstYear;
+
+    /**
+     * 完整包含的最后一个农历年
+     */
+    private final int             lastYear;
+
+    /**
+     * 各月初一的儒略日数，最后多一个元素是最后一个月的下一个月的初一
+     */
+    private final int[]           monthStarts;
+
+    /**
+     * 各月的属性：农历年 << {@value #YEAR_SHIFT} | 闰月标志 | 月份
+     */
+    private final int[]           attributes;
+
+    /**
+     * 各农历年正月在monthStarts中的下标，最后多一个元素
+     */
+    private final int[]           newYears;
+
+    /**
+     * 各农历年的闰月，没有闰月为0
+     */
+    private final byte[]          leapMonths;
+
+    /**
+     * 构造农历，包含公历from年到to年的每一天。公历from年年初的几十天属于农历from - 1年，
+     * 所以完整包含的农历年是from - 1到to
+     *
+     * @param from
+     *            公历第一年
+     * @param to
+     *            公历最后一年
+     */
+    public LunarCalendar(int from, int to) {
+        if (to < from) {
+            throw new IllegalArgumentException("to < from");
+        }
+        this.firstYear = from - 1;
+        this.lastYear = to;
+
+        // 岁s从公历s年的冬至到s + 1年的冬至，firstYear - 1到lastYear岁包含所需的所有月份
+        int suiCount = lastYear - firstYear + 2;
+        int[] solstices = new int[suiCount + 1];
+        for (int i = 0; i <= suiCount; i++) {
+            solstices[i] = SolarTermsCalculator.getJulianDayNumberForTerm(SolarTerms.DONG_ZHI,
+                    firstYear - 1 + i, CHINA);
+        }
+        int[] majorTerms = new int[(suiCount + 2) * MAJOR_TERMS.length];
+        int n = 0;
+        for (int year = firstYear - 1; year <= lastYear + 2; year++) {
+            for (SolarTerms term : MAJOR_TERMS) {
+                majorTerms[n++] = SolarTermsCalculator.getJulianDayNumberForTerm(term, year, CHINA);
+            }
+        }
+        Arrays.sort(majorTerms, 0, n);
+
+        int k0 = NewMoonCalculator.getMeanLunation(solstices[0]) - 1;
+        int k1 = NewMoonCalculator.getMeanLunation(solstices[suiCount]) + 2;
+        int[] newMoons = new int[k1 - k0 + 1];
+        for (int k = k0; k <= k1; k++) {
+            newMoons[k - k0] = NewMoonCalculator.getJulianDayNumberForNewMoon(k, CHINA);
+        }
+
+        int first = floorIndex(newMoons, newMoons.length, solstices[0]);
+        int last = floorIndex(newMoons, newMoons.length, solstices[suiCount]);
+        monthStarts = Arrays.copyOfRange(newMoons, first, last + 1);
+        attributes = new int[last - first];
+        newYears = new int[lastYear - firstYear + 2];
+        leapMonths = new byte[lastYear - firstYear + 1];
+        for (int i = 0; i < suiCount; i++) {
+            int start = floorIndex(monthStarts, monthStarts.length, solstices[i]);
+            int end = floorIndex(monthStarts, monthStarts.length, solstices[i + 1]);
+            boolean leapSui = end - start == 13;
+            int month = 11;
+            int year = firstYear - 1 + i;
+            for (int j = start; j < end; j++) {
+                boolean leap = false;
+                if (j > start) {
+                    if (leapSui && !hasMajorTerm(majorTerms, n, j)) {
+                        leap = true;
+                        leapSui = false;
+                    } else {
+                        month = month % 12 + 1;
+                        if (month == 1) {
+                            year++;
+                            if (year >= firstYear && year <= lastYear + 1) {
+                                newYears[year - firstYear] = j;
+                            }
+                        }
+                    }
+                }
+                attributes[j] = year << YEAR_SHIFT | (leap ? LEAP_FLAG : 0) | month;
+                if (leap && year >= firstYear && year <= lastYear) {
+                    leapMonths[year - firstYear] = (byte) month;
+                }
+            }
+        }
+    }
+
+    /**
+     * @param majorTerms
+     *            有序的中气儒略日数
+     * @param n
+     *            中气个数
+     * @param index
+     *            月的下标
+     * @return 这个月是否包含中气
+     */
+    private boolean hasMajorTerm(int[] majorTerms, int n, int index) {
+        int i = floorIndex(majorTerms, n, monthStarts[index + 1] - 1);
+        return i >= 0 && majorTerms[i] >= monthStarts[index];
+    }
+
+    /**
+     * @param a
+     *            有序数组
+     * @param n
+     *            只查找前n个元素
+     * @param key
+     *            要查找的值
+     * @return 不大于key的最后一个元素的下标，都大于key时返回-1
+     */
+    static int floorIndex(int[] a, int n, int key) {
+        int i = Arrays.binarySearch(a, 0, n, key);
+        if (i >= 0) {
+            return i;
+        }
+        return -i - 2;
+    }
+
+    /**
+     * @return 完整包含的第一个农历年
+     */
+    public int getFirstYear() {
+        return firstYear;
+    }
+
+    /**
+     * @return 完整包含的最后一个农历年
+     */
+    public int getLastYear() {
+        return lastYear;
+    }
+
+    /**
+     * 公历(儒略日数)转农历
+     *
+     * @param jdn
+     *            儒略日数
+     * @return 农历日期
+     */
+    public LunarDate fromJulianDayNumber(int jdn) {
+        int i = floorIndex(monthStarts, monthStarts.length, jdn);
+        if (i < 0 || i >= attributes.length) {
+            throw new IllegalArgumentException("Julian day number out of range: " + jdn);
+        }
+        int attribute = attributes[i];
+        return new LunarDate(attribute >> YEAR_SHIFT, attribute & MONTH_MASK,
+                (attribute & LEAP_FLAG) != 0, jdn - monthStarts[i] + 1);
+    }
+
+    /**
+     * 公历转农历，1582年10月4日及以前按Julian历
+     *
+     * @param year
+     *            年
+     * @param month
+     *            月
+     * @param date
+     *            日
+     * @return 农历日期
+     */
+    public LunarDate fromSolarDate(int year, int month, int date) {
+        return fromJulianDayNumber(CalendarUtil.toJulianDate(year, month, date));
+    }
+
+    /**
+     * 农历转公历
+     *
+     * @param year
+     *            农历年
+     * @param month
+     *            月份，1到12
+     * @param leap
+     *            是否闰月
+     * @param day
+     *            日
+     * @return 儒略日数
+     */
+    public int toJulianDayNumber(int year, int month, boolean leap, int day) {
+        int i = getMonthIndex(year, month, leap);
+        if (day < 1 || day > monthStarts[i + 1] - monthStarts[i]) {
+            throw new IllegalArgumentException("No such day: " + day);
+        }
+        return monthStarts[i] + day - 1;
+    }
+
+    /**
+     * 农历转公历
+     *
+     * @param date
+     *            农历日期
+     * @return 儒略日数
+     */
+    public int toJulianDayNumber(LunarDate date) {
+        return toJulianDayNumber(date.getYear(), date.getMonth(), date.isLeap(), date.getDay());
+    }
+
+    /**
+     * @param year
+     *            农历年
+     * @param month
+     *            月份
+     * @param leap
+     *            是否闰月
+     * @return 这个月在monthStarts中的下标
+     */
+    private int getMonthIndex(int year, int month, boolean leap) {
+        if (year < firstYear || year > lastYear) {
+            throw new IllegalArgumentException("Year out of range: " + year);
+        }
+        if (month < 1 || month > 12) {
+            throw new IllegalArgumentException("No such month: " + month);
+        }
+        int leapMonth = getLeapMonth(year);
+        if (leap && leapMonth != month) {
+            throw new IllegalArgumentException("No leap month " + month + " in " + year);
+        }
+        int i = newYears[year - firstYear] + month - 1;
+        if (leapMonth != 0 && (month > leapMonth || leap)) {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * @param year
+     *            农历年
+     * @return 正月初一的儒略日数
+     */
+    public int getNewYear(int year) {
+        return monthStarts[getMonthIndex(year, 1, false)];
+    }
+
+    /**
+     * @param year
+     *            农历年
+     * @return 闰几月，没有闰月时返回0
+     */
+    public int getLeapMonth(int year) {
+        if (year < firstYear || year > lastYear) {
+            throw new IllegalArgumentException("Year out of range: " + year);
+        }
+        return leapMonths[year - firstYear];
+    }
+
+    /**
+     * @param year
+     *            农历年
+     * @param month
+     *            月份
+     * @param leap
+     *            是否闰月
+     * @return 这个月的天数，29或30
+     */
+    public int getMonthLength(int year, int month, boolean leap) {
+        int i = getMonthIndex(year, month, leap);
+        return monthStarts[i + 1] - monthStarts[i];
+    }
+
+    /**
+     * @param year
+     *            农历年
+     * @return 这一年的月数，12或13
+     */
+    public int getMonthCount(int year) {
+        if (year < firstYear || year > lastYear) {
+            throw new IllegalArgumentException("Year out of range: " + year);
+        }
+        return newYears[year - firstYear + 1] - newYears[year - firstYear];
+    }
+
+    public static void main(String[] args) {
+        long start = System.nanoTime();
+        LunarCalendar calendar = new LunarCalendar(2000, 2040);
+        System.out.printf("2000-2040: %d months, %.1f ms%n", calendar.attributes.length,
+                (System.nanoTime() - start) / 1e6);
+
+        for (int year : new int[] { 2017, 2020, 2023, 2024, 2025, 2033, 2034 }) {
+            int leap = calendar.getLeapMonth(year);
+            String newYear = PackedDateTime.toString(CalendarUtil.toPackedDateTime(calendar
+                    .getNewYear(year) - 0.5d));
+            System.out.println(year + ": 正月初一 " + newYear.substring(0, 10) + ", 闰月 " + leap + ", "
+                    + calendar.getMonthCount(year) + "个月");
+        }
+        int[][] dates = { { 2023, 3, 22 }, { 2024, 2, 9 }, { 2024, 2, 10 }, { 2033, 12, 22 },
+                { 2034, 1, 20 }, { 2000, 1, 1 }, { 2040, 12, 31 } };
+        for (int[] d : dates) {
+            LunarDate date = calendar.fromSolarDate(d[0], d[1], d[2]);
+            int jdn = calendar.toJulianDayNumber(date);
+            System.out.println(d[0] + "-" + d[1] + "-" + d[2] + " " + date + " "
+                    + (jdn == CalendarUtil.toJulianDate(d[0], d[1], d[2])));
+        }
+
+        int first = calendar.getNewYear(calendar.getFirstYear());
+        int last = calendar.getNewYear(calendar.getLastYear()) + 353;
+        int mismatches = 0;
+        start = System.nanoTime();
+        for (int jdn = first; jdn <= last; jdn++) {
+            if (calendar.toJulianDayNumber(calendar.fromJulianDayNumber(jdn)) != jdn) {
+                mismatches++;
+            }
+        }
+        System.out.printf("round trip %d days: %d mismatches, %.1f ns/day%n", last - first + 1,
+                mismatches, (double) (System.nanoTime() - start) / (last - first + 1));
+    }
+}
@@ -0,0 +1,113 @@
+package oyyq.calendar.util;
+
+/**
+ * 农历日期：年、月、是否闰月、日
+ *
+ * @author oyyq
+ */
+public final class LunarDate {
+
+    private static final String[] MONTH_NAMES = { "正", "二", "三", "四", "五", "六", "七", "八",
+            "九", "十", "冬", "腊" };
+
+    private static final String[] TENS        = { "初", "十", "廿", "三" };
+
+    private static final String[] DIGITS      = { "十", "一", "二", "三", "四", "五", "六", "七",
+            "八", "九" };
+
+    private final int             year;
+
+    private final int             month;
+
+    private final boolean         leap;
+
+    private final int             day;
+
+    /**
+     * @param year
+     *            农历年，以正月初一为年首，与这一天所在的公历年相同
+     * @param month
+     *            月份，1到12
+     * @param leap
+     *            是否闰月
+     * @param day
+     *            日，1到30
+     */
+    public LunarDate(int year, int month, boolean leap, int day) {
+        this.year = year;
+        this.month = month;
+        this.leap = leap;
+        this.day = day;
+    }
+
+    /**
+     * @return 农历年
+     */
+    public int getYear() {
+        return year;
+    }
+
+    /**
+     * @return 月份，1到12
+     */
+    public int getMonth() {
+        return month;
+    }
+
+    /**
+     * @return 是否闰月
+     */
+    public boolean isLeap() {
+        return leap;
+    }
+
+    /**
+     * @return 日，1到30
+     */
+    public int getDay() {
+        return day;
+    }
+
+    /**
+     * @return 月名，例如"闰二月"、"腊月"
+     */
+    public String getMonthName() {
+        return (leap ? "闰" : "") + MONTH_NAMES[month - 1] + "月";
+    }
+
+    /**
+     * @return 日名，例如"初一"、"廿九"
+     */
+    public String getDayName() {
+        if (day == 10) {
+            return "初十";
+        }
+        if (day == 20) {
+            return "二十";
+        }
+        if (day == 30) {
+            return "三十";
+        }
+        return TENS[day / 10] + DIGITS[day % 10];
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof LunarDate)) {
+            return false;
+        }
+        LunarDate other = (LunarDate) obj;
+        return year == other.year && month == other.month && leap == other.leap
+                && day == other.day;
+    }
+
+    @Override
+    public int hashCode() {
+        return ((year * 13 + month) * 2 + (leap ? 1 : 0)) * 31 + day;
+    }
+
+    @Override
+    public String toString() {
+        return year + "年" + getMonthName() + getDayName();
+    }
+}
@@ -0,0 +1,43 @@
+package oyyq.calendar.util;
+
+import static java.lang.Math.PI;
+
+/**
+ * 四个主要月相，按月球与太阳的视黄经差划分
+ * 
+ * @author oyyq
+ */
+public enum LunarPhase {
+
+    NEW_MOON(0, "朔"),
+    FIRST_QUARTER(1, "上弦"),
+    FULL_MOON(2, "望"),
+    LAST_QUARTER(3, "下弦");
+
+    private int    quarter;
+    private String name;
+
+    LunarPhase(int quarter, String name) {
+        this.quarter = quarter;
+        this.name = name;
+    }
+
+    /**
+     * @return 在一个朔望月中的序号，朔为0
+     */
+    public int getQuarter() {
+        return quarter;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return 月球与太阳的视黄经差(rad)，朔为0，上弦为π/2，望为π，下弦为3π/2
+     */
+    public double getAngle() {
+        return quarter * PI / 2;
+    }
+
+}
@@ -0,0 +1,223 @@
+package oyyq.calendar.util;
+
+import static oyyq.calendar.util.CalendarUtil.fromJulianDate;
+import static oyyq.calendar.util.MathUtil.findRoot;
+import static oyyq.calendar.util.MathUtil.modPi;
+
+import java.util.Calendar;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import oyyq.calendar.util.metrics.SolverMetrics;
+import oyyq.calendar.util.metrics.SolverMetrics.Solver;
+
+/**
+ * 计算朔、上弦、望、下弦四个主要月相的时间，求解的方程为: <br />
+ * <i>f(x) = 月球视黄经 - 太阳视黄经 - phase.getAngle() = 0</i><br />
+ * 日月黄经差与{@link NewMoonCalculator}相同，以<i>Jean Meeus</i>的平均月相为初值，用保护的牛顿迭代求解。
+ * 按时间段求月相时逐个求解，只保存当前的状态，内存占用与时间段的长短无关。
+ * 
+ * @author oyyq
+ */
+public class LunarPhaseCalculator {
+
+    /**
+     * 实际月相与平均月相之差的上限(日)，实际的差不超过0.85日
+     */
+    private static final double MAX_DEVIATION = 1.0d;
+
+    /**
+     * 求根区间的半宽(日)
+     */
+    private static final double BRACKET       = 2.0d;
+
+    /**
+     * 求根的容差(日)
+     */
+    private static final double TOLERANCE     = 1e-7;
+
+    /**
+     * 每次求根最多的求值次数
+     */
+    private static final int    BUDGET        = 40;
+
+    /**
+     * 计算序号为k的朔望月中某一月相的时间，日月视黄经取自{@link EphemerisCache}的切比雪夫拟合
+     * 
+     * @param k
+     *            朔望月序号，2000年1月6日的合朔所在的朔望月为0
+     * @param phase
+     *            月相
+     * @return 月相时间的儒略日(TT)
+     */
+    public static double getJulianDayForPhase(int k, LunarPhase phase) {
+        double mean = NewMoonCalculator.getMeanPhase(k + phase.getQuarter() / 4.0d);
+        return solve(NewMoonCalculator.getElongation(), phase, mean, mean - BRACKET);
+    }
+
+    /**
+     * 按精度等级计算序号为k的朔望月中某一月相的时间
+     * 
+     * @param k
+     *            朔望月序号，2000年1月6日的合朔所在的朔望月为0
+     * @param phase
+     *            月相
+     * @param precision
+     *            精度等级
+     * @return 月相时间的儒略日(TT)
+     */
+    public static double getJulianDayForPhase(int k, LunarPhase phase, Precision precision) {
+        double mean = NewMoonCalculator.getMeanPhase(k + phase.getQuarter() / 4.0d);
+        return solve(NewMoonCalculator.getElongation(precision), phase, mean, mean - BRACKET);
+    }
+
+    /**
+     * 按时间顺序逐个给出区间[jd1, jd2)内的全部月相，日月视黄经取自{@link EphemerisCache}的切比雪夫拟合。
+     * 月相在遍历时才求解，每次调用iterator()都从头开始
+     * 
+     * @param jd1
+     *            区间起点的儒略日(TT)
+     * @param jd2
+     *            区间终点的儒略日(TT)，不包含在内
+     * @return 月相的序列
+     */
+    public static Iterable<LunarPhaseEvent> getLunarPhases(final double jd1, final double jd2) {
+        return () -> new PhaseIterator(NewMoonCalculator.getElongation(), jd1, jd2);
+    }
+
+    /**
+     * 按精度等级逐个给出区间[jd1, jd2)内的全部月相
+     * 
+     * @param jd1
+     *            区间起点的儒略日(TT)
+     * @param jd2
+     *            区间终点的儒略日(TT)，不包含在内
+     * @param precision
+     *            精度等级
+     * @return 月相的序列
+     */
+    public static Iterable<LunarPhaseEvent> getLunarPhases(final double jd1, final double jd2,
+            final Precision precision) {
+        return () -> new PhaseIterator(NewMoonCalculator.getElongation(precision), jd1, jd2);
+    }
+
+    /**
+     * 在区间[max(low, seed - BRACKET), seed + BRACKET]内求月相的时间
+     * 
+     * @param elongation
+     *            日月黄经差(太阳减月球)和它的变化量
+     * @param phase
+     *            月相
+     * @param seed
+     *            初值，即平均月相的时间
+     * @param low
+     *            月相不早于这个时刻，逐个求解时是前一个月相的时间
+     * @return 月相时间的儒略日(TT)
+     */
+    private static double solve(final DifferentiableFunction elongation, LunarPhase phase,
+            double seed, double low) {
+        final double angle = phase.getAngle();
+        long start = SolverMetrics.start();
+        RootResult result = findRoot((double x, double[] fx) -> {
+            elongation.f(x, fx);
+            fx[0] = modPi(-fx[0] - angle);
+            fx[1] = -fx[1];
+        }, seed, Math.max(low, seed - BRACKET), seed + BRACKET, TOLERANCE, BUDGET);
+        SolverMetrics.record(Solver.LUNAR_PHASE, result, start);
+        return result.getConvergedRoot();
+    }
+
+    /**
+     * 逐个求解月相的迭代器，预先求出下一个月相以回答hasNext()
+     */
+    private static final class PhaseIterator implements Iterator<LunarPhaseEvent> {
+
+        private final DifferentiableFunction elongation;
+
+        private final double                 jd2;
+
+        /**
+         * 下一个要求解的月相，朔望月序号的4倍加上月相的序号
+         */
+        private int                          quarter;
+
+        /**
+         * 上一个月相的时间，下一个月相一定在它之后
+         */
+        private double                       last;
+
+        private LunarPhaseEvent              next;
+
+        PhaseIterator(DifferentiableFunction elongation, double jd1, double jd2) {
+            this.elongation = elongation;
+            this.jd2 = jd2;
+            // 从平均时间不晚于jd1 - MAX_DEVIATION的最后一个月相开始，它一定早于jd1
+            int k = NewMoonCalculator.getMeanLunation(jd1 - MAX_DEVIATION);
+            this.quarter = 4 * k;
+            while (NewMoonCalculator.getMeanPhase((quarter + 1) / 4.0d) <= jd1 - MAX_DEVIATION) {
+                quarter++;
+            }
+            this.last = Double.NEGATIVE_INFINITY;
+            do {
+                advance();
+            } while (next != null && next.getJulianDay() < jd1);
+        }
+
+        private void advance() {
+            LunarPhase phase = LunarPhase.values()[Math.floorMod(quarter, 4)];
+            double mean = NewMoonCalculator.getMeanPhase(quarter / 4.0d);
+            if (mean - MAX_DEVIATION >= jd2) {
+                next = null;
+                return;
+            }
+            double jd = solve(elongation, phase, mean, last + TOLERANCE);
+            last = jd;
+            next = jd < jd2 ? new LunarPhaseEvent(phase, Math.floorDiv(quarter, 4), jd) : null;
+            quarter++;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public LunarPhaseEvent next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            LunarPhaseEvent result = next;
+            advance();
+            return result;
+        }
+    }
+
+    public static void main(String[] args) {
+        double jd1 = CalendarUtil.toJulianDate(2024, 1, 1);
+        double jd2 = CalendarUtil.toJulianDate(2024, 3, 1);
+        for (LunarPhaseEvent event : getLunarPhases(jd1, jd2)) {
+            Calendar cal = fromJulianDate(event.getJulianDay());
+            System.out.println(event.getPhase().getName()
+                    + ": "
+                    + String.format("%04d-%02d-%02d %02d:%02d:%02d", cal.get(Calendar.YEAR),
+                            cal.get(Calendar.MONTH) + 1, cal.get(Calendar.DATE),
+                            cal.get(Calendar.HOUR_OF_DAY), cal.get(Calendar.MINUTE),
+                            cal.get(Calendar.SECOND)));
+        }
+
+        // 二十年的月相逐个求出，不保存
+        long start = System.nanoTime();
+        int count = 0;
+        double lastJd = 0.0d;
+        for (LunarPhaseEvent event : getLunarPhases(CalendarUtil.toJulianDate(2000, 1, 1),
+                CalendarUtil.toJulianDate(2020, 1, 1))) {
+            if (event.getJulianDay() <= lastJd) {
+                throw new IllegalStateException("out of order: " + event);
+            }
+            lastJd = event.getJulianDay();
+            count++;
+        }
+        System.out.println(String.format("%d phases in 20 years (%d ms)", count,
+                (System.nanoTime() - start) / 1000000));
+    }
+}
@@ -0,0 +1,55 @@
+package oyyq.calendar.util;
+
+/**
+ * 一次月相：月相、所在的朔望月序号和时间
+ * 
+ * @author oyyq
+ */
+public final class LunarPhaseEvent {
+
+    private final LunarPhase phase;
+
+    private final int        lunation;
+
+    private final double     julianDay;
+
+    /**
+     * @param phase
+     *            月相
+     * @param lunation
+     *            朔望月序号，2000年1月6日的合朔所在的朔望月为0
+     * @param julianDay
+     *            月相时间的儒略日(TT)
+     */
+    public LunarPhaseEvent(LunarPhase phase, int lunation, double julianDay) {
+        this.phase = phase;
+        this.lunation = lunation;
+        this.julianDay = julianDay;
+    }
+
+    /**
+     * @return 月相
+     */
+    public LunarPhase getPhase() {
+        return phase;
+    }
+
+    /**
+     * @return 朔望月序号
+     */
+    public int getLunation() {
+        return lunation;
+    }
+
+    /**
+     * @return 月相时间的儒略日(TT)
+     */
+    public double getJulianDay() {
+        return julianDay;
+    }
+
+    @Override
+    public String toString() {
+        return phase.getName() + "[" + lunation + "]: " + julianDay;
+    }
+}
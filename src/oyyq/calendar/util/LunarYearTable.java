@@ -0,0 +1,195 @@
+package oyyq.calendar.util;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * 每年一个int的农历年表(由{@link LunarYearTableWriter}生成)，查询时只做位运算，不需要推算合朔和节气。<br />
+ * 每年的int从低位起依次是：
+ * <ul>
+ * <li>0-3位：闰几月，没有闰月为0</li>
+ * <li>4位：闰月是否为大月(30天)</li>
+ * <li>5-16位：正月到十二月是否为大月，正月在第5位</li>
+ * <li>17-22位：正月初一距公历1月1日的天数</li>
+ * </ul>
+ * 文件格式(大端序)：魔数{@value #MAGIC}(int)、版本号{@value #VERSION}(int)、第一年(int)、年数(int)，然后是各年的int。
+ *
+ * @author oyyq
+ */
+public final class LunarYearTable {
+
+    /**
+     * 默认年表的资源文件名，相对于本类所在的包，包含1900年到2100年
+     */
+    static final String      RESOURCE        = "data/lunar_years.dat";
+
+    /**
+     * 魔数"LUNY"
+     */
+    static final int         MAGIC           = 0x4C554E59;
+
+    /**
+     * 文件格式版本
+     */
+    static final int         VERSION         = 1;
+
+    static final int         LEAP_MONTH_MASK = 0xF;
+    static final int         LEAP_BIG        = 1 << 4;
+    static final int         BIG_SHIFT       = 5;
+    static final int         NEW_YEAR_SHIFT  = 17;
+    static final int         NEW_YEAR_MASK   = 0x3F;
+
+    private final int        firstYear;
+
+    private final int[]      years;
+
+    /**
+     * 默认年表，第一次用到时才读入
+     */
+    private static class DefaultHolder {
+        static final LunarYearTable DEFAULT = openDefault();
+    }
+
+    /**
+     * @param firstYear
+     *            第一年
+     * @param years
+     *            各年的int
+     */
+    LunarYearTable(int firstYear, int[] years) {
+        this.firstYear = firstYear;
+        this.years = years;
+    }
+
+    /**
+     * 读入年表
+     *
+     * @param in
+     *            输入流
+     * @return 年表
+     */
+    public static LunarYearTable read(InputStream in) {
+        try {
+            DataInputStream data = new DataInputStream(in);
+            if (data.readInt() != MAGIC) {
+                throw new IllegalStateException("Not a lunar year table");
+            }
+            int version = data.readInt();
+            if (version != VERSION) {
+                throw new IllegalStateException("Unsupported lunar year table version: "
+                        + version);
+            }
+            int firstYear = data.readInt();
+            int[] years = new int[data.readInt()];
+            for (int i = 0; i < years.length; i++) {
+                years[i] = data.readInt();
+            }
+            return new LunarYearTable(firstYear, years);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static LunarYearTable openDefault() {
+        try (InputStream in = LunarYearTable.class.getResourceAsStream(RESOURCE)) {
+            if (in == null) {
+                throw new IllegalStateException("Missing lunar year table resource: "
+                        + RESOURCE);
+            }
+            return read(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * @return 资源文件{@value #RESOURCE}中的年表，包含1900年到2100年
+     */
+    public static LunarYearTable getDefault() {
+        return DefaultHolder.DEFAULT;
+    }
+
+    /**
+     * @return 第一年
+     */
+    public int getFirstYear() {
+        return firstYear;
+    }
+
+    /**
+     * @return 最后一年
+     */
+    public int getLastYear() {
+        return firstYear + years.length - 1;
+    }
+
+    /**
+     * @param year
+     *            农历年
+     * @return 这一年的int
+     */
+    public int getInfo(int year) {
+        if (year < firstYear || year >= firstYear + years.length) {
+            throw new IllegalArgumentException("Year out of range: " + year);
+        }
+        return years[year - firstYear];
+    }
+
+    /**
+     * @param year
+     *            农历年
+     * @return 闰几月，没有闰月时返回0
+     */
+    public int getLeapMonth(int year) {
+        return getInfo(year) & LEAP_MONTH_MASK;
+    }
+
+    /**
+     * @param year
+     *            农历年
+     * @param month
+     *            月份，1到12
+     * @param leap
+     *            是否闰月
+     * @return 这个月的天数，29或30
+     */
+    public int getMonthLength(int year, int month, boolean leap) {
+        int info = getInfo(year);
+        if (month < 1 || month > 12) {
+            throw new IllegalArgumentException("No such month: " + month);
+        }
+        if (leap) {
+            if ((info & LEAP_MONTH_MASK) != month) {
+                throw new IllegalArgumentException("No leap month " + month + " in " + year);
+            }
+            return (info & LEAP_BIG) != 0 ? 30 : 29;
+        }
+        return (info >>> (BIG_SHIFT + month - 1) & 1) != 0 ? 30 : 29;
+    }
+
+    /**
+     * @param year
+     *            农历年
+     * @return 这一年的天数
+     */
+    public int getYearLength(int year) {
+        int info = getInfo(year);
+        int days = 12 * 29 + Integer.bitCount(info >>> BIG_SHIFT & 0xFFF);
+        if ((info & LEAP_MONTH_MASK) != 0) {
+            days += (info & LEAP_BIG) != 0 ? 30 : 29;
+        }
+        return days;
+    }
+
+    /**
+     * @param year
+     *            农历年
+     * @return 正月初一的儒略日数
+     */
+    public int getNewYear(int year) {
+        int info = getInfo(year);
+        return CalendarUtil.toJulianDate(year, 1, 1) + (info >>> NEW_YEAR_SHIFT & NEW_YEAR_MASK);
+    }
+}
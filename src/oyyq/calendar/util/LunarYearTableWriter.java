@@ -0,0 +1,238 @@
+package oyyq.calendar.util;
+
+import static oyyq.calendar.util.LunarYearTable.*;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 由{@link LunarCalendar}推算农历年表，写成{@link LunarYearTable}读取的二进制文件或Java源文件。<br />
+ * 各年按块并行推算，每块单独构造一个{@link LunarCalendar}，各年的结果只取决于该年的合朔和中气，按年份顺序写出，结果与线程数无关。<br />
+ * 用法：LunarYearTableWriter [输出文件 [起始年份 结束年份]]，输出文件以.java结尾时写Java源文件，否则写二进制文件，
+ * 默认生成1900年到2100年的{@value LunarYearTable#RESOURCE}。
+ *
+ * @author oyyq
+ */
+public class LunarYearTableWriter {
+
+    /**
+     * 每个并行任务推算的年数
+     */
+    private static final int BLOCK = 10;
+
+    private final int        firstYear;
+
+    private final int        lastYear;
+
+    /**
+     * @param firstYear
+     *            第一年
+     * @param lastYear
+     *            最后一年(包括在内)
+     */
+    public LunarYearTableWriter(int firstYear, int lastYear) {
+        if (lastYear < firstYear) {
+            throw new IllegalArgumentException("lastYear < firstYear");
+        }
+        this.firstYear = firstYear;
+        this.lastYear = lastYear;
+    }
+
+    /**
+     * 把一年编码成一个int
+     *
+     * @param calendar
+     *            包含这一年的农历
+     * @param year
+     *            农历年
+     * @return 这一年的int
+     */
+    static int encode(LunarCalendar calendar, int year) {
+        int leapMonth = calendar.getLeapMonth(year);
+        int info = leapMonth;
+        if (leapMonth != 0 && calendar.getMonthLength(year, leapMonth, true) == 30) {
+            info |= LEAP_BIG;
+        }
+        for (int month = 1; month <= 12; month++) {
+            if (calendar.getMonthLength(year, month, false) == 30) {
+                info |= 1 << (BIG_SHIFT + month - 1);
+            }
+        }
+        int offset = calendar.getNewYear(year) - CalendarUtil.toJulianDate(year, 1, 1);
+        if (offset < 0 || offset > NEW_YEAR_MASK) {
+            throw new IllegalStateException("New year out of range in " + year + ": " + offset);
+        }
+        return info | offset << NEW_YEAR_SHIFT;
+    }
+
+    /**
+     * 并行推算各年的int
+     *
+     * @param executor
+     *            执行推算的线程池
+     * @return 各年的int，按年份排列
+     */
+    public int[] generate(ExecutorService executor) throws InterruptedException,
+            ExecutionException {
+        final int[] years = new int[lastYear - firstYear + 1];
+        List<Future<?>> futures = new ArrayList<Future<?>>();
+        for (int from = firstYear; from <= lastYear; from += BLOCK) {
+            final int first = from;
+            final int last = Math.min(from + BLOCK - 1, lastYear);
+            futures.add(executor.submit(() -> {
+                LunarCalendar calendar = new LunarCalendar(first, last);
+                for (int year = first; year <= last; year++) {
+                    years[year - firstYear] = encode(calendar, year);
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        return years;
+    }
+
+    /**
+     * 写出二进制年表
+     *
+     * @param out
+     *            输出流
+     * @param years
+     *            {@link #generate(ExecutorService)}的结果
+     */
+    public void writeBinary(OutputStream out, int[] years) throws IOException {
+        DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out));
+        data.writeInt(MAGIC);
+        data.writeInt(VERSION);
+        data.writeInt(firstYear);
+        data.writeInt(years.length);
+        for (int info : years) {
+            data.writeInt(info);
+        }
+        data.flush();
+    }
+
+    /**
+     * 写出包含年表的Java源文件，类中有FIRST_YEAR和YEARS两个常量，YEARS每行8年
+     *
+     * @param out
+     *            输出
+     * @param packageName
+     *            包名
+     * @param className
+     *            类名
+     * @param years
+     *            {@link #generate(ExecutorService)}的结果
+     */
+    public void writeJava(Writer out, String packageName, String className, int[] years)
+            throws IOException {
+        StringBuilder sb = new StringBuilder();
+        sb.append("package ").append(packageName).append(";\n\n");
+        sb.append("/**\n * 农历年表，").append(firstYear).append("年到").append(lastYear)
+                .append("年，由LunarYearTableWriter生成，编码见LunarYearTable\n */\n");
+        sb.append("public final class ").append(className).append(" {\n\n");
+        sb.append("    public static final int   FIRST_YEAR = ").append(firstYear).append(";\n\n");
+        sb.append("    public static final int[] YEARS      = {");
+        for (int i = 0; i < years.length; i++) {
+            sb.append(i % 8 == 0 ? "\n            " : " ");
+            sb.append(String.format("0x%06x", years[i]));
+            if (i < years.length - 1) {
+                sb.append(',');
+            }
+        }
+        sb.append(" };\n\n    private ").append(className).append("() {\n    }\n}\n");
+        out.write(sb.toString());
+        out.flush();
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length != 0 && args.length != 1 && args.length != 3) {
+            System.err.println("Usage: LunarYearTableWriter [<output> [<first year> <last year>]]");
+            System.exit(1);
+        }
+        String path = args.length > 0 ? args[0] : "src/oyyq/calendar/util/" + RESOURCE;
+        int firstYear = args.length == 3 ? Integer.parseInt(args[1]) : 1900;
+        int lastYear = args.length == 3 ? Integer.parseInt(args[2]) : 2100;
+        LunarYearTableWriter writer = new LunarYearTableWriter(firstYear, lastYear);
+
+        int threads = Runtime.getRuntime().availableProcessors();
+        long start = System.nanoTime();
+        int[] years;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            years = writer.generate(executor);
+        } finally {
+            executor.shutdown();
+        }
+        System.out.println(String.format("%d-%d: %d threads, %d ms", firstYear, lastYear,
+                threads, (System.nanoTime() - start) / 1000000L));
+
+        // 换一个线程数再推算一次，二进制结果必须完全相同
+        executor = Executors.newFixedThreadPool(threads == 1 ? 3 : 1);
+        int[] check;
+        try {
+            check = writer.generate(executor);
+        } finally {
+            executor.shutdown();
+        }
+        ByteArrayOutputStream a = new ByteArrayOutputStream();
+        ByteArrayOutputStream b = new ByteArrayOutputStream();
+        writer.writeBinary(a, years);
+        writer.writeBinary(b, check);
+        System.out.println("identical with " + (threads == 1 ? 3 : 1) + " threads: "
+                + Arrays.equals(a.toByteArray(), b.toByteArray()));
+
+        if (path.endsWith(".java")) {
+            String name = Paths.get(path).getFileName().toString();
+            try (Writer out = Files.newBufferedWriter(Paths.get(path), StandardCharsets.UTF_8)) {
+                writer.writeJava(out, LunarYearTableWriter.class.getPackage().getName(),
+                        name.substring(0, name.length() - 5), years);
+            }
+        } else {
+            try (OutputStream out = Files.newOutputStream(Paths.get(path))) {
+                writer.writeBinary(out, years);
+            }
+        }
+        System.out.println(path + ": " + Files.size(Paths.get(path)) + " bytes");
+
+        // 年表的查询结果与直接推算的农历逐月核对
+        LunarYearTable table = LunarYearTable.read(new ByteArrayInputStream(a.toByteArray()));
+        LunarCalendar calendar = new LunarCalendar(firstYear, lastYear);
+        int mismatches = 0;
+        StringBuilder leaps = new StringBuilder();
+        for (int year = firstYear; year <= lastYear; year++) {
+            int leap = table.getLeapMonth(year);
+            boolean ok = leap == calendar.getLeapMonth(year)
+                    && table.getNewYear(year) == calendar.getNewYear(year);
+            for (int month = 1; ok && month <= 12; month++) {
+                ok = table.getMonthLength(year, month, false) == calendar.getMonthLength(year,
+                        month, false);
+            }
+            if (ok && leap != 0) {
+                ok = table.getMonthLength(year, leap, true) == calendar.getMonthLength(year,
+                        leap, true);
+                leaps.append(' ').append(year).append(':').append(leap);
+            }
+            if (!ok) {
+                mismatches++;
+            }
+        }
+        System.out.println("leap months:" + leaps);
+        System.out.println("mismatches: " + mismatches);
+    }
+}
@@ -4,8 +4,18 @@ import static java.lang.Math.PI;
 import static java.lang.Math.toRadians;
 import static java.lang.Math.abs;
 
+import java.util.Arrays;
+import java.util.Comparator;
+
+import oyyq.calendar.util.jfr.RootSolveEvent;
+
 public class MathUtil {
 
+    /**
+     * 不带区间的牛顿迭代的最多迭代次数，估值合理时几次就能收敛
+     */
+    public static final int MAX_NEWTON_ITERATIONS = 50;
+
     /**
      * 把角秒换算成弧度
      * 
@@ -108,24 +118,454 @@ public class MathUtil {
     }
 
     /**
-     * 牛顿迭代求解方程的根
+     * 计算级数截断的阈值：按误差上界从小到大舍去级数项，舍去项的误差上界之和不超过budget。
+     * 
+     * @param weights
+     *            各项的误差上界
+     * @param budget
+     *            允许的总误差
+     * @return 阈值，误差上界小于阈值的项可以舍去
+     */
+    public static double getTruncationThreshold(double[] weights, double budget) {
+        double[] sorted = weights.clone();
+        Arrays.sort(sorted);
+        double sum = 0.0d;
+        for (double w : sorted) {
+            if (sum + w > budget) {
+                return w;
+            }
+            sum += w;
+        }
+        return Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * 挑出误差上界不小于阈值的项，按误差上界从大到小排列
+     * 
+     * @param weights
+     *            各项的误差上界
+     * @param threshold
+     *            阈值，由{@link #getTruncationThreshold(double[], double)}计算
+     * @return 保留的项的下标
+     */
+    public static int[] getTruncatedOrder(final double[] weights, double threshold) {
+        Integer[] kept = new Integer[weights.length];
+        int n = 0;
+        for (int i = 0; i < weights.length; i++) {
+            if (weights[i] >= threshold) {
+                kept[n++] = i;
+            }
+        }
+        kept = Arrays.copyOf(kept, n);
+        Arrays.sort(kept, new Comparator<Integer>() {
+            @Override
+            public int compare(Integer a, Integer b) {
+                return Double.compare(weights[b], weights[a]);
+            }
+        });
+        int[] result = new int[n];
+        for (int i = 0; i < n; i++) {
+            result[i] = kept[i];
+        }
+        return result;
+    }
+
+    /**
+     * 牛顿迭代求解方程的根，导数用中心差分计算，最多迭代{@value #MAX_NEWTON_ITERATIONS}次
      *
      * @param f
      *            方程表达式
      * @param x0
      *            对根的估值
      * @return 在x0附近的一个根
+     * @throws IllegalStateException
+     *             没有收敛
      */
     public static double newtonIteration(Function f, double x0) {
-        final double EPSILON = 1e-7;
+        return newtonIteration(f, x0, 1e-7);
+    }
+
+    /**
+     * 牛顿迭代求解方程的根，相邻两次迭代之差小于tolerance时停止，最多迭代{@value #MAX_NEWTON_ITERATIONS}次
+     *
+     * @param f
+     *            方程表达式
+     * @param x0
+     *            对根的估值
+     * @param tolerance
+     *            自变量的容差
+     * @return 在x0附近的一个根
+     * @throws IllegalArgumentException
+     *             tolerance不是正数
+     * @throws IllegalStateException
+     *             没有收敛
+     */
+    public static double newtonIteration(Function f, double x0, double tolerance) {
+        return newton(f, x0, tolerance, MAX_NEWTON_ITERATIONS).getConvergedRoot();
+    }
+
+    /**
+     * 牛顿迭代求根，导数用中心差分计算，每次迭代求值3次，迭代次数有上限。
+     * 结果的状态与{@link #newton(DifferentiableFunction, double, double, int)}相同
+     *
+     * @param f
+     *            方程表达式
+     * @param x0
+     *            对根的估值
+     * @param tolerance
+     *            自变量的容差
+     * @param maxIterations
+     *            最多迭代次数
+     * @return 求根的结果
+     * @throws IllegalArgumentException
+     *             tolerance不是正数或maxIterations小于1
+     */
+    public static RootResult newton(final Function f, double x0, double tolerance,
+            int maxIterations) {
+        checkNewtonArguments(tolerance, maxIterations);
         final double DELTA = 5e-6;
-        double x;
-        do {
-            x = x0;
+        RootSolveEvent event = new RootSolveEvent();
+        event.begin();
+        double x = x0;
+        RootResult result = null;
+        for (int i = 1; result == null; i++) {
             double fx = f.f(x);
             double fpx = (f.f(x + DELTA) - f.f(x - DELTA)) / DELTA / 2;
-            x0 = x - fx / fpx;
-        } while (abs(x0 - x) > EPSILON);
-        return x;
+            double step = fx / fpx;
+            x -= step;
+            if (!Double.isFinite(x)) {
+                result = new RootResult(RootResult.Status.DIVERGED, x, 3 * i, i);
+            } else if (abs(step) <= tolerance) {
+                result = new RootResult(RootResult.Status.CONVERGED, x, 3 * i, i);
+            } else if (i >= maxIterations) {
+                result = new RootResult(RootResult.Status.BUDGET_EXHAUSTED, x, 3 * i, i);
+            }
+        }
+        event.finish("newton", x0, result);
+        return result;
+    }
+
+    /**
+     * 用解析导数的牛顿迭代求解方程的根，每次迭代只计算一次函数值和导数，最多迭代{@value #MAX_NEWTON_ITERATIONS}次
+     *
+     * @param f
+     *            方程表达式，同时给出函数值和导数
+     * @param x0
+     *            对根的估值
+     * @return 在x0附近的一个根
+     * @throws IllegalStateException
+     *             没有收敛
+     */
+    public static double newtonIteration(DifferentiableFunction f, double x0) {
+        return newtonIteration(f, x0, 1e-7);
+    }
+
+    /**
+     * 用解析导数的牛顿迭代求解方程的根，牛顿步小于tolerance时停止，最多迭代{@value #MAX_NEWTON_ITERATIONS}次
+     *
+     * @param f
+     *            方程表达式，同时给出函数值和导数
+     * @param x0
+     *            对根的估值
+     * @param tolerance
+     *            自变量的容差
+     * @return 在x0附近的一个根
+     * @throws IllegalArgumentException
+     *             tolerance不是正数
+     * @throws IllegalStateException
+     *             没有收敛
+     */
+    public static double newtonIteration(DifferentiableFunction f, double x0, double tolerance) {
+        return newton(f, x0, tolerance, MAX_NEWTON_ITERATIONS).getConvergedRoot();
+    }
+
+    /**
+     * 用解析导数的牛顿迭代求根，不需要区间，但迭代次数有上限。牛顿步小于tolerance时收敛；
+     * 迭代maxIterations次仍未收敛时返回{@link RootResult.Status#BUDGET_EXHAUSTED}，
+     * 得到非有限值时返回{@link RootResult.Status#DIVERGED}
+     *
+     * @param f
+     *            方程表达式，同时给出函数值和导数
+     * @param x0
+     *            对根的估值
+     * @param tolerance
+     *            自变量的容差
+     * @param maxIterations
+     *            最多迭代次数
+     * @return 求根的结果
+     * @throws IllegalArgumentException
+     *             tolerance不是正数或maxIterations小于1
+     */
+    public static RootResult newton(DifferentiableFunction f, double x0, double tolerance,
+            int maxIterations) {
+        checkNewtonArguments(tolerance, maxIterations);
+        RootSolveEvent event = new RootSolveEvent();
+        event.begin();
+        double[] fx = new double[2];
+        double x = x0;
+        RootResult result = null;
+        for (int i = 1; result == null; i++) {
+            f.f(x, fx);
+            double step = fx[0] / fx[1];
+            x -= step;
+            if (!Double.isFinite(x)) {
+                result = new RootResult(RootResult.Status.DIVERGED, x, i, i);
+            } else if (abs(step) <= tolerance) {
+                result = new RootResult(RootResult.Status.CONVERGED, x, i, i);
+            } else if (i >= maxIterations) {
+                result = new RootResult(RootResult.Status.BUDGET_EXHAUSTED, x, i, i);
+            }
+        }
+        event.finish("newton", x0, result);
+        return result;
+    }
+
+    /**
+     * tolerance为0、负数或NaN时牛顿步永远达不到容差，只会耗尽迭代次数
+     */
+    private static void checkNewtonArguments(double tolerance, int maxIterations) {
+        if (!(tolerance > 0)) {
+            throw new IllegalArgumentException("tolerance must be positive: " + tolerance);
+        }
+        if (maxIterations < 1) {
+            throw new IllegalArgumentException("maxIterations must be positive: " + maxIterations);
+        }
+    }
+
+    /**
+     * 在区间[a, b]内求根：保护的牛顿迭代，牛顿步跳出区间或下降不够快时改用二分，区间始终包含根，求值次数不超过budget
+     *
+     * @param f
+     *            方程表达式，同时给出函数值和导数
+     * @param x0
+     *            对根的估值，不在区间内时从区间中点开始
+     * @param a
+     *            区间的一端
+     * @param b
+     *            区间的另一端
+     * @param tolerance
+     *            自变量的容差
+     * @param budget
+     *            最多求值次数，包括两端的求值
+     * @return 求根的结果
+     */
+    public static RootResult findRoot(DifferentiableFunction f, double x0, double a, double b,
+            double tolerance, int budget) {
+        RootSolveEvent event = new RootSolveEvent();
+        event.begin();
+        RootResult result = rtsafe(f, x0, a, b, tolerance, budget);
+        event.finish("rtsafe", x0, result);
+        return result;
+    }
+
+    private static RootResult rtsafe(DifferentiableFunction f, double x0, double a, double b,
+            double tolerance, int budget) {
+        double[] fx = new double[2];
+        f.f(a, fx);
+        double fa = fx[0];
+        f.f(b, fx);
+        double fb = fx[0];
+        int evaluations = 2;
+        int iterations = 0;
+        if (fa == 0.0d) {
+            return new RootResult(RootResult.Status.CONVERGED, a, evaluations, iterations);
+        }
+        if (fb == 0.0d) {
+            return new RootResult(RootResult.Status.CONVERGED, b, evaluations, iterations);
+        }
+        if ((fa > 0) == (fb > 0)) {
+            return new RootResult(RootResult.Status.NOT_BRACKETED, Double.NaN,
+                    evaluations, iterations);
+        }
+
+        // 保持f(low) < 0 < f(high)
+        double low = fa < 0 ? a : b;
+        double high = fa < 0 ? b : a;
+        double x = (x0 - a) * (x0 - b) < 0 ? x0 : (a + b) / 2;
+        double dxOld = abs(b - a);
+        double dx = dxOld;
+        f.f(x, fx);
+        evaluations++;
+        while (true) {
+            double fv = fx[0];
+            double dfv = fx[1];
+            if (fv == 0.0d) {
+                return new RootResult(RootResult.Status.CONVERGED, x, evaluations, iterations);
+            }
+            if (fv < 0) {
+                low = x;
+            } else {
+                high = x;
+            }
+            iterations++;
+            if (((x - high) * dfv - fv) * ((x - low) * dfv - fv) > 0
+                    || abs(2.0d * fv) > abs(dxOld * dfv)) {
+                dxOld = dx;
+                dx = (high - low) / 2;
+                x = low + dx;
+            } else {
+                dxOld = dx;
+                dx = fv / dfv;
+                x -= dx;
+            }
+            if (abs(dx) < tolerance) {
+                return new RootResult(RootResult.Status.CONVERGED, x, evaluations, iterations);
+            }
+            if (evaluations >= budget) {
+                return new RootResult(RootResult.Status.BUDGET_EXHAUSTED, x,
+                        evaluations, iterations);
+            }
+            f.f(x, fx);
+            evaluations++;
+        }
+    }
+
+    /**
+     * 只确定根落在哪一格，不求根的精确值。格子的边界是origin + k * spacing，从x0所在的格子开始求两端的值，
+     * 两端异号时根就在这一格；否则沿函数值绝对值较小一端的牛顿步的方向移到相邻的一格，只需再求一次值。
+     * 估值离根不到一格时，一般两三次求值就能确定，不需要迭代到根的精确值
+     *
+     * @param f
+     *            方程表达式，同时给出函数值和导数
+     * @param x0
+     *            对根的估值
+     * @param origin
+     *            格子边界的起点
+     * @param spacing
+     *            格子的宽度
+     * @param budget
+     *            最多求值次数
+     * @return 求根的结果，根是所在格子的起点origin + k * spacing，迭代次数是移动的格数
+     */
+    public static RootResult findRootCell(DifferentiableFunction f, double x0, double origin,
+            double spacing, int budget) {
+        RootSolveEvent event = new RootSolveEvent();
+        event.begin();
+        RootResult result = locateCell(f, x0, origin, spacing, budget);
+        event.finish("cell", x0, result);
+        return result;
+    }
+
+    private static RootResult locateCell(DifferentiableFunction f, double x0, double origin,
+            double spacing, int budget) {
+        long k = (long) Math.floor((x0 - origin) / spacing);
+        double[] fx = new double[2];
+        f.f(origin + k * spacing, fx);
+        double flo = fx[0];
+        double dlo = fx[1];
+        f.f(origin + (k + 1) * spacing, fx);
+        double fhi = fx[0];
+        double dhi = fx[1];
+        int evaluations = 2;
+        int iterations = 0;
+        while (true) {
+            if (fhi == 0.0d) {
+                return new RootResult(RootResult.Status.CONVERGED, origin + (k + 1) * spacing,
+                        evaluations, iterations);
+            }
+            if (flo == 0.0d || (flo > 0) != (fhi > 0)) {
+                return new RootResult(RootResult.Status.CONVERGED, origin + k * spacing,
+                        evaluations, iterations);
+            }
+            if (evaluations >= budget) {
+                return new RootResult(RootResult.Status.BUDGET_EXHAUSTED, origin + k * spacing,
+                        evaluations, iterations);
+            }
+            iterations++;
+            boolean forward = abs(fhi) < abs(flo) ? fhi / dhi < 0 : flo / dlo < 0;
+            if (forward) {
+                k++;
+                flo = fhi;
+                dlo = dhi;
+                f.f(origin + (k + 1) * spacing, fx);
+                fhi = fx[0];
+                dhi = fx[1];
+            } else {
+                k--;
+                fhi = flo;
+                dhi = dlo;
+                f.f(origin + k * spacing, fx);
+                flo = fx[0];
+                dlo = fx[1];
+            }
+            evaluations++;
+        }
+    }
+
+    /**
+     * 在区间[a, b]内用Illinois法(修正的试位法)求根，不需要导数，区间始终包含根，求值次数不超过budget
+     *
+     * @param f
+     *            方程表达式
+     * @param a
+     *            区间的一端
+     * @param b
+     *            区间的另一端
+     * @param tolerance
+     *            自变量的容差
+     * @param budget
+     *            最多求值次数，包括两端的求值
+     * @return 求根的结果
+     */
+    public static RootResult findRoot(Function f, double a, double b, double tolerance,
+            int budget) {
+        RootSolveEvent event = new RootSolveEvent();
+        event.begin();
+        RootResult result = illinois(f, a, b, tolerance, budget);
+        event.finish("illinois", (a + b) / 2, result);
+        return result;
+    }
+
+    private static RootResult illinois(Function f, double a, double b, double tolerance,
+            int budget) {
+        double fa = f.f(a);
+        double fb = f.f(b);
+        int evaluations = 2;
+        int iterations = 0;
+        if (fa == 0.0d) {
+            return new RootResult(RootResult.Status.CONVERGED, a, evaluations, iterations);
+        }
+        if (fb == 0.0d) {
+            return new RootResult(RootResult.Status.CONVERGED, b, evaluations, iterations);
+        }
+        if ((fa > 0) == (fb > 0)) {
+            return new RootResult(RootResult.Status.NOT_BRACKETED, Double.NaN,
+                    evaluations, iterations);
+        }
+        int side = 0;
+        double c = Double.NaN;
+        while (true) {
+            double last = c;
+            c = (a * fb - b * fa) / (fb - fa);
+            iterations++;
+            if (abs(c - last) < tolerance || abs(b - a) < tolerance) {
+                return new RootResult(RootResult.Status.CONVERGED, c, evaluations, iterations);
+            }
+            if (evaluations >= budget) {
+                return new RootResult(RootResult.Status.BUDGET_EXHAUSTED, c,
+                        evaluations, iterations);
+            }
+            double fc = f.f(c);
+            evaluations++;
+            if (fc == 0.0d) {
+                return new RootResult(RootResult.Status.CONVERGED, c, evaluations, iterations);
+            }
+            if ((fc > 0) == (fb > 0)) {
+                // c替换b，如果连续两次替换同一端，把另一端的函数值减半
+                b = c;
+                fb = fc;
+                if (side == -1) {
+                    fa /= 2;
+                }
+                side = -1;
+            } else {
+                a = c;
+                fa = fc;
+                if (side == 1) {
+                    fb /= 2;
+                }
+                side = 1;
+            }
+        }
     }
 }
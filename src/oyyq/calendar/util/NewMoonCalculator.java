@@ -1,49 +1,413 @@
 package oyyq.calendar.util;
 
 import static oyyq.calendar.util.CalendarUtil.fromJulianDate;
+import static oyyq.calendar.util.CalendarUtil.getCivilDayOffset;
+import static oyyq.calendar.util.CalendarUtil.getDeltaT;
 import static oyyq.calendar.util.CalendarUtil.toJulianDate;
 import static oyyq.calendar.util.MathUtil.modPi;
-import static oyyq.calendar.util.MathUtil.newtonIteration;
+import static oyyq.calendar.util.MathUtil.findRoot;
+import static oyyq.calendar.util.MathUtil.findRootCell;
 import static oyyq.calendar.util.Vsop87dEarthUtil.getEarthEclipticLongitudeForSun;
-import static oyyq.calendar.util.elp82simple.Elp82Util.getEarthEclipticLongitudeForMoon;
 
 import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.TimeZone;
+import java.util.function.IntToDoubleFunction;
+
+import oyyq.calendar.util.elpmpp02.ElpMpp02Util;
+import oyyq.calendar.util.jfr.NewMoonSolveEvent;
+import oyyq.calendar.util.metrics.SolverMetrics;
+import oyyq.calendar.util.metrics.SolverMetrics.Solver;
 
 /**
- * 使用牛顿迭代法计算日月合朔的时间 求解的方程为: <br />
+ * 使用保护的牛顿迭代法计算日月合朔的时间，导数由日月视黄经的解析变化率给出 求解的方程为: <br />
  * <i>f(x) = Vsop87dEarthUtil.getEarthEclipticLongitudeForSun(x) -
- * ElpMpp02Util.getEarthEclipticLongitudeForMoon(x) = 0</i>
+ * ElpMpp02Util.getEarthApparentLongitudeForMoon(x) = 0</i><br />
+ * 每次合朔按<i>Jean Meeus</i>的朔望月序号k求解，以平均合朔时间为初值，每个朔望月只求解一次。<br />
+ * 不指定精度等级时，太阳和月球的视黄经取自{@link EphemerisCache}的切比雪夫拟合，有星历文件时直接读取星历文件
  * 
  * @author oyyq
  */
 public class NewMoonCalculator {
 
     /**
-     * 用牛顿迭代计算日月合朔时间
+     * 平均朔望月(日)
+     */
+    private static final double SYNODIC_MONTH = 29.530588861d;
+
+    /**
+     * 序号为0的平均合朔(2000年1月6日)的儒略日
+     */
+    private static final double LUNATION_BASE = 2451550.09766d;
+
+    /**
+     * 实际合朔与平均合朔之差的上限(日)，实际的差不超过0.75日
+     */
+    private static final double MAX_DEVIATION = 1.0d;
+
+    /**
+     * 求根区间的半宽(日)，区间内日月黄经差不超过±30°，不会越过黄经差从-π跳到π的望
+     */
+    private static final double BRACKET       = 2.0d;
+
+    /**
+     * 求根的容差(日)
+     */
+    private static final double TOLERANCE     = 1e-7;
+
+    /**
+     * 每次求根最多的求值次数
+     */
+    private static final int    BUDGET        = 40;
+
+    /**
+     * 由朔望月序号计算平均合朔的时间，公式见<i>Jean Meeus</i>的<i>Astronomical Algorithms</i>第49章
      * 
-     * @param term
-     *            节气
-     * @param year
-     *            年份
-     * @return 节气时间的儒略日
+     * @param k
+     *            朔望月序号，2000年1月6日的合朔为0
+     * @return 平均合朔的儒略日(TT)
      */
-    public static ArrayList<Double> getJulianDayInYearAndMonthForNewMoon(int year, int month) {
+    public static double getMeanNewMoon(int k) {
+        return getMeanPhase(k);
+    }
+
+    /**
+     * 计算平均月相的时间，k的小数部分为0.25、0.5和0.75时分别是上弦、望和下弦
+     * 
+     * @param k
+     *            朔望月序号，可以带小数
+     * @return 平均月相的儒略日(TT)
+     */
+    static double getMeanPhase(double k) {
+        double t = k / 1236.85d;
+        double t2 = t * t;
+        return LUNATION_BASE + SYNODIC_MONTH * k + t2
+                * (0.00015437d + t * (-0.000000150d + t * 0.00000000073d));
+    }
+
+    /**
+     * 计算平均合朔时间不晚于jd的最后一个朔望月的序号
+     * 
+     * @param jd
+     *            儒略日(TT)
+     * @return 朔望月序号
+     */
+    public static int getMeanLunation(double jd) {
+        int k = (int) Math.floor((jd - LUNATION_BASE) / SYNODIC_MONTH);
+        // 二次以上的项在几千年内不过几个小时，最多调整一次
+        if (getMeanNewMoon(k) > jd) {
+            k--;
+        } else if (getMeanNewMoon(k + 1) <= jd) {
+            k++;
+        }
+        return k;
+    }
+
+    /**
+     * 计算序号为k的合朔时间，太阳和月球的视黄经取自{@link EphemerisCache}的切比雪夫拟合
+     * 
+     * @param k
+     *            朔望月序号，2000年1月6日的合朔为0
+     * @return 合朔时间的儒略日(TT)
+     */
+    public static double getNewMoon(int k) {
+        return getNewMoon(k, getElongation());
+    }
+
+    /**
+     * 计算序号为k的合朔时间，只要求到给定的容差，太阳和月球的视黄经取自{@link EphemerisCache}的切比雪夫拟合
+     * 
+     * @param k
+     *            朔望月序号，2000年1月6日的合朔为0
+     * @param tolerance
+     *            容差(日)，例如只需要精确到分钟时取1.0 / 1440
+     * @return 合朔时间的儒略日(TT)
+     */
+    public static double getNewMoon(int k, double tolerance) {
+        return getNewMoon(k, getElongation(), tolerance);
+    }
+
+    /**
+     * 只求序号为k的合朔落在时区tz的哪一天。从平均合朔所在的一天开始，只在午夜求日月黄经差，
+     * 合朔离午夜较远时不需要迭代到合朔的精确时间
+     * 
+     * @param k
+     *            朔望月序号，2000年1月6日的合朔为0
+     * @param tz
+     *            时区
+     * @return 合朔所在日期(时区tz的民用日)的儒略日数
+     */
+    public static int getJulianDayNumberForNewMoon(int k, TimeZone tz) {
+        double mean = getMeanNewMoon(k);
+        double offset = getCivilDayOffset(mean, tz);
+        final DifferentiableFunction elongation = getElongation();
+        long start = SolverMetrics.start();
+        NewMoonSolveEvent event = new NewMoonSolveEvent();
+        event.begin();
+        RootResult result = findRootCell((double x, double[] fx) -> {
+            elongation.f(x, fx);
+            fx[0] = modPi(fx[0]);
+        }, mean, offset, 1.0d, BUDGET);
+        event.finish(k, mean, result);
+        SolverMetrics.record(Solver.NEW_MOON, result, start);
+        return (int) Math.round(result.getConvergedRoot() - offset);
+    }
+
+    /**
+     * 按精度等级计算序号为k的合朔时间
+     * 
+     * @param k
+     *            朔望月序号，2000年1月6日的合朔为0
+     * @param precision
+     *            精度等级
+     * @return 合朔时间的儒略日(TT)
+     */
+    public static double getNewMoon(int k, Precision precision) {
+        return getNewMoon(k, getElongation(precision));
+    }
+
+    /**
+     * 用Illinois法在平均合朔前后{@value #BRACKET}日的区间内求序号为k的合朔时间
+     * 
+     * @param k
+     *            朔望月序号，2000年1月6日的合朔为0
+     * @param elongation
+     *            日月黄经差(rad)，不必限制在-π到π之间
+     * @return 合朔时间的儒略日(TT)
+     */
+    public static double getNewMoon(int k, final Function elongation) {
+        double mean = getMeanNewMoon(k);
+        long start = SolverMetrics.start();
+        NewMoonSolveEvent event = new NewMoonSolveEvent();
+        event.begin();
+        RootResult result = findRoot((double x) -> modPi(elongation.f(x)), mean - BRACKET, mean
+                + BRACKET, TOLERANCE, BUDGET);
+        event.finish(k, mean, result);
+        SolverMetrics.record(Solver.NEW_MOON, result, start);
+        return result.getConvergedRoot();
+    }
+
+    /**
+     * 以平均合朔为初值，用保护的牛顿迭代求序号为k的合朔时间，导数是解析的
+     * 
+     * @param k
+     *            朔望月序号，2000年1月6日的合朔为0
+     * @param elongation
+     *            日月黄经差(rad)和它每日的变化量，黄经差不必限制在-π到π之间
+     * @return 合朔时间的儒略日(TT)
+     */
+    public static double getNewMoon(int k, DifferentiableFunction elongation) {
+        return getNewMoon(k, elongation, TOLERANCE);
+    }
+
+    /**
+     * 以平均合朔为初值，用保护的牛顿迭代求序号为k的合朔时间，只要求到给定的容差
+     * 
+     * @param k
+     *            朔望月序号，2000年1月6日的合朔为0
+     * @param elongation
+     *            日月黄经差(rad)和它每日的变化量，黄经差不必限制在-π到π之间
+     * @param tolerance
+     *            容差(日)
+     * @return 合朔时间的儒略日(TT)
+     */
+    public static double getNewMoon(int k, final DifferentiableFunction elongation,
+            double tolerance) {
+        double mean = getMeanNewMoon(k);
+        long start = SolverMetrics.start();
+        NewMoonSolveEvent event = new NewMoonSolveEvent();
+        event.begin();
+        RootResult result = findRoot((double x, double[] fx) -> {
+            elongation.f(x, fx);
+            fx[0] = modPi(fx[0]);
+        }, mean, mean - BRACKET, mean + BRACKET, tolerance, BUDGET);
+        event.finish(k, mean, result);
+        SolverMetrics.record(Solver.NEW_MOON, result, start);
+        return result.getConvergedRoot();
+    }
+
+    /**
+     * 计算区间[jd1, jd2)内的全部合朔时间，太阳和月球的视黄经取自{@link EphemerisCache}的切比雪夫拟合
+     * 
+     * @param jd1
+     *            区间起点的儒略日(TT)
+     * @param jd2
+     *            区间终点的儒略日(TT)，不包含在内
+     * @return 按时间顺序排列的合朔时间的儒略日(TT)
+     */
+    public static ArrayList<Double> getNewMoons(double jd1, double jd2) {
+        final DifferentiableFunction elongation = getElongation();
+        return getNewMoons(jd1, jd2, (int k) -> getNewMoon(k, elongation));
+    }
+
+    /**
+     * 按精度等级计算区间[jd1, jd2)内的全部合朔时间
+     * 
+     * @param jd1
+     *            区间起点的儒略日(TT)
+     * @param jd2
+     *            区间终点的儒略日(TT)，不包含在内
+     * @param precision
+     *            精度等级
+     * @return 按时间顺序排列的合朔时间的儒略日(TT)
+     */
+    public static ArrayList<Double> getNewMoons(double jd1, double jd2, Precision precision) {
+        final DifferentiableFunction elongation = getElongation(precision);
+        return getNewMoons(jd1, jd2, (int k) -> getNewMoon(k, elongation));
+    }
+
+    /**
+     * 计算区间[jd1, jd2)内的全部合朔时间
+     * 
+     * @param jd1
+     *            区间起点的儒略日(TT)
+     * @param jd2
+     *            区间终点的儒略日(TT)，不包含在内
+     * @param elongation
+     *            日月黄经差(rad)和它每日的变化量，黄经差不必限制在-π到π之间
+     * @return 按时间顺序排列的合朔时间的儒略日(TT)
+     */
+    public static ArrayList<Double> getNewMoons(double jd1, double jd2,
+            final DifferentiableFunction elongation) {
+        return getNewMoons(jd1, jd2, (int k) -> getNewMoon(k, elongation));
+    }
+
+    /**
+     * 计算区间[jd1, jd2)内的全部合朔时间。平均合朔离区间超过{@value #MAX_DEVIATION}日的朔望月不必求解，
+     * 其余每个朔望月求解一次
+     * 
+     * @param jd1
+     *            区间起点的儒略日(TT)
+     * @param jd2
+     *            区间终点的儒略日(TT)，不包含在内
+     * @param newMoon
+     *            由朔望月序号求合朔时间
+     * @return 按时间顺序排列的合朔时间的儒略日(TT)
+     */
+    private static ArrayList<Double> getNewMoons(double jd1, double jd2, IntToDoubleFunction newMoon) {
         ArrayList<Double> jds = new ArrayList<Double>();
-        double lastJd = 0.0d;
-        for (int i = 0; i < 2; i++) {
-            double jd1 = toJulianDate(year, month, 10 * (i + 1));
-            double jd = newtonIteration((double x) -> modPi(getEarthEclipticLongitudeForSun(x)
-                    - getEarthEclipticLongitudeForMoon(x)), jd1);
-            Calendar cal = fromJulianDate(jd);
-            if (cal.get(Calendar.MONTH) + 1 == month && (jd - lastJd > 1e-7)) {
+        int first = getMeanLunation(jd1 - MAX_DEVIATION) + 1;
+        int last = getMeanLunation(jd2 + MAX_DEVIATION);
+        for (int k = first; k <= last; k++) {
+            double jd = newMoon.applyAsDouble(k);
+            if (jd >= jd1 && jd < jd2) {
                 jds.add(jd);
-                lastJd = jd;
             }
         }
         return jds;
     }
 
+    /**
+     * 用牛顿迭代计算日月合朔时间，太阳和月球的视黄经取自{@link EphemerisCache}的切比雪夫拟合
+     * 
+     * @param year
+     *            年份
+     * @param month
+     *            月份
+     * @return 合朔时间的儒略日，按系统默认时区的民用时落在这个月内
+     */
+    public static ArrayList<Double> getJulianDayInYearAndMonthForNewMoon(int year, int month) {
+        return getJulianDayInYearAndMonthForNewMoon(year, month, getElongation());
+    }
+
+    /**
+     * 按精度等级计算日月合朔时间，太阳用截断的VSOP87D级数，月亮用截断的ELP/MPP02级数。<br />
+     * 黄经1″的误差约相当于合朔时间2秒，{@link Precision#ARCSEC_0_1}可以保证秒级的精度。
+     * 
+     * @param year
+     *            年份
+     * @param month
+     *            月份
+     * @param precision
+     *            精度等级
+     * @return 合朔时间的儒略日，按系统默认时区的民用时落在这个月内
+     */
+    public static ArrayList<Double> getJulianDayInYearAndMonthForNewMoon(int year, int month,
+            final Precision precision) {
+        return getJulianDayInYearAndMonthForNewMoon(year, month, getElongation(precision));
+    }
+
+    /**
+     * 用Illinois法计算日月合朔时间
+     * 
+     * @param year
+     *            年份
+     * @param month
+     *            月份
+     * @param elongation
+     *            日月黄经差(rad)，不必限制在-π到π之间
+     * @return 合朔时间的儒略日，按系统默认时区的民用时落在这个月内
+     */
+    public static ArrayList<Double> getJulianDayInYearAndMonthForNewMoon(int year, int month,
+            final Function elongation) {
+        return getNewMoons(getMonthStart(year, month), getMonthStart(year, month + 1),
+                (int k) -> getNewMoon(k, elongation));
+    }
+
+    /**
+     * 用保护的牛顿迭代计算日月合朔时间，导数是解析的
+     * 
+     * @param year
+     *            年份
+     * @param month
+     *            月份
+     * @param elongation
+     *            日月黄经差(rad)和它每日的变化量，黄经差不必限制在-π到π之间
+     * @return 合朔时间的儒略日，按系统默认时区的民用时落在这个月内
+     */
+    public static ArrayList<Double> getJulianDayInYearAndMonthForNewMoon(int year, int month,
+            final DifferentiableFunction elongation) {
+        return getNewMoons(getMonthStart(year, month), getMonthStart(year, month + 1), elongation);
+    }
+
+    /**
+     * 计算系统默认时区某月1日0时对应的儒略日(TT)
+     * 
+     * @param year
+     *            年份
+     * @param month
+     *            月份，13表示下一年的1月
+     * @return 儒略日(TT)
+     */
+    private static double getMonthStart(int year, int month) {
+        if (month > 12) {
+            year++;
+            month -= 12;
+        }
+        double jd = toJulianDate(year, month, 1) - 0.5d;
+        long millis = Math.round((jd - 2440587.5d) * 86400000.0d);
+        jd -= TimeZone.getDefault().getOffset(millis) / 86400000.0d;
+        return jd + getDeltaT(jd) / 86400;
+    }
+
+    /**
+     * @return 由{@link EphemerisCache}计算的日月黄经差和它的变化量
+     */
+    static DifferentiableFunction getElongation() {
+        final double[] moon = new double[2];
+        return (double x, double[] result) -> {
+            EphemerisCache.getEarthEclipticLongitudeForSun(x, result);
+            EphemerisCache.getEarthApparentLongitudeForMoon(x, moon);
+            result[0] -= moon[0];
+            result[1] -= moon[1];
+        };
+    }
+
+    /**
+     * @param precision
+     *            精度等级
+     * @return 由截断的VSOP87D和ELP/MPP02级数计算的日月黄经差和它的变化量
+     */
+    static DifferentiableFunction getElongation(final Precision precision) {
+        final double[] moon = new double[2];
+        return (double x, double[] result) -> {
+            getEarthEclipticLongitudeForSun(x, precision, result);
+            ElpMpp02Util.getEarthApparentLongitudeForMoon(x, precision, moon);
+            result[0] -= moon[0];
+            result[1] -= moon[1];
+        };
+    }
+
     public static void main(String[] args) {
         for (int month = 1; month <= 12; month++) {
             ArrayList<Double> jds = getJulianDayInYearAndMonthForNewMoon(1995, month);
@@ -55,6 +419,23 @@ public class NewMoonCalculator {
                         cal.get(Calendar.SECOND), cal.get(Calendar.MILLISECOND)));
             }
         }
+
+        // 各精度等级与完整级数的差
+        for (Precision precision : Precision.values()) {
+            double maxDiff = 0.0d;
+            long start = System.nanoTime();
+            for (int month = 1; month <= 12; month++) {
+                ArrayList<Double> full = getJulianDayInYearAndMonthForNewMoon(1995, month,
+                        Precision.FULL);
+                ArrayList<Double> jds = getJulianDayInYearAndMonthForNewMoon(1995, month, precision);
+                for (int i = 0; i < jds.size(); i++) {
+                    maxDiff = Math.max(maxDiff, Math.abs(jds.get(i) - full.get(i)) * 86400);
+                }
+            }
+            long elapsed = System.nanoTime() - start;
+            System.out.println(String.format("%-10s max difference %.3f s (%d ms)", precision,
+                    maxDiff, elapsed / 1000000));
+        }
     }
 
 }
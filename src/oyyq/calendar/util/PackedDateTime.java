@@ -0,0 +1,132 @@
+package oyyq.calendar.util;
+
+/**
+ * 把日期时间的各字段打包在一个long里，转换时不需要创建对象。<br />
+ * 从低位起依次是毫秒(10位)、秒(6位)、分(6位)、时(5位)、日(5位)、月(4位)，其余高位是有符号的年份。
+ * 年份是天文纪年，公元前1年为0；1582年10月4日及以前的日期是Julian历日期，与{@link CalendarUtil}一致。
+ * 
+ * @author oyyq
+ */
+public final class PackedDateTime {
+
+    private static final int MILLISECOND_SHIFT = 0;
+    private static final int SECOND_SHIFT      = 10;
+    private static final int MINUTE_SHIFT      = 16;
+    private static final int HOUR_SHIFT        = 22;
+    private static final int DATE_SHIFT        = 27;
+    private static final int MONTH_SHIFT       = 32;
+    private static final int YEAR_SHIFT        = 36;
+
+    private PackedDateTime() {
+    }
+
+    /**
+     * 打包日期时间
+     * 
+     * @param year
+     *            年份，天文纪年
+     * @param month
+     *            月份，1到12
+     * @param date
+     *            日期
+     * @param hour
+     *            小时
+     * @param minute
+     *            分钟
+     * @param second
+     *            秒
+     * @param millisecond
+     *            毫秒
+     * @return 打包的日期时间
+     */
+    public static long of(int year, int month, int date, int hour, int minute, int second,
+            int millisecond) {
+        return (long) year << YEAR_SHIFT | (long) month << MONTH_SHIFT | (long) date << DATE_SHIFT
+                | hour << HOUR_SHIFT | minute << MINUTE_SHIFT | second << SECOND_SHIFT
+                | millisecond << MILLISECOND_SHIFT;
+    }
+
+    /**
+     * @param packed
+     *            打包的日期时间
+     * @return 年份，天文纪年
+     */
+    public static int getYear(long packed) {
+        return (int) (packed >> YEAR_SHIFT);
+    }
+
+    /**
+     * @param packed
+     *            打包的日期时间
+     * @return 月份，1到12
+     */
+    public static int getMonth(long packed) {
+        return (int) (packed >>> MONTH_SHIFT) & 0xf;
+    }
+
+    /**
+     * @param packed
+     *            打包的日期时间
+     * @return 日期
+     */
+    public static int getDate(long packed) {
+        return (int) (packed >>> DATE_SHIFT) & 0x1f;
+    }
+
+    /**
+     * @param packed
+     *            打包的日期时间
+     * @return 小时
+     */
+    public static int getHour(long packed) {
+        return (int) (packed >>> HOUR_SHIFT) & 0x1f;
+    }
+
+    /**
+     * @param packed
+     *            打包的日期时间
+     * @return 分钟
+     */
+    public static int getMinute(long packed) {
+        return (int) (packed >>> MINUTE_SHIFT) & 0x3f;
+    }
+
+    /**
+     * @param packed
+     *            打包的日期时间
+     * @return 秒
+     */
+    public static int getSecond(long packed) {
+        return (int) (packed >>> SECOND_SHIFT) & 0x3f;
+    }
+
+    /**
+     * @param packed
+     *            打包的日期时间
+     * @return 毫秒
+     */
+    public static int getMillisecond(long packed) {
+        return (int) (packed >>> MILLISECOND_SHIFT) & 0x3ff;
+    }
+
+    /**
+     * @param packed
+     *            打包的日期时间
+     * @return 一天中已过的毫秒数
+     */
+    public static int getMillisOfDay(long packed) {
+        return ((getHour(packed) * 60 + getMinute(packed)) * 60 + getSecond(packed)) * 1000
+                + getMillisecond(packed);
+    }
+
+    /**
+     * @param packed
+     *            打包的日期时间
+     * @return yyyy-MM-dd HH:mm:ss.SSS格式的字符串
+     */
+    public static String toString(long packed) {
+        return String.format("%04d-%02d-%02d %02d:%02d:%02d.%03d", getYear(packed),
+                getMonth(packed), getDate(packed), getHour(packed), getMinute(packed),
+                getSecond(packed), getMillisecond(packed));
+    }
+}
@@ -0,0 +1,56 @@
+package oyyq.calendar.util;
+
+import static oyyq.calendar.util.MathUtil.secondsToRadians;
+
+/**
+ * 级数截断的精度等级。<br />
+ * 每个等级给出一个角度误差的上界ε，按振幅从小到大舍去级数项，直到再舍去一项就会使舍去项的误差上界之和超过ε为止。
+ * 一项<i>A * cos(φ) * t<sup>n</sup></i>的误差上界取<i>|A| * |t|<sub>max</sub><sup>n</sup></i>，<i>|t|<sub>max</sub></i>
+ * 取公元前2000年到公元6000年的范围(VSOP87为4个儒略千年，ELP/MPP02为40个儒略世纪)。由三角不等式，在这个范围内截断后的结果与完整级数之差不超过ε，
+ * 实际误差通常远小于这个上界。<br />
+ * 换算成时间：太阳视黄经每秒约移动0.041″，1″的误差约相当于节气时间24秒；日月黄经差每秒约移动0.5″，1″的误差约相当于合朔时间2秒。
+ * 
+ * @author oyyq
+ */
+public enum Precision {
+
+    /**
+     * 使用完整的级数
+     */
+    FULL(0.0),
+
+    /**
+     * 误差不超过0.1″
+     */
+    ARCSEC_0_1(0.1),
+
+    /**
+     * 误差不超过1″
+     */
+    ARCSEC_1(1.0),
+
+    /**
+     * 误差不超过10″
+     */
+    ARCSEC_10(10.0);
+
+    private final double arcseconds;
+
+    Precision(double arcseconds) {
+        this.arcseconds = arcseconds;
+    }
+
+    /**
+     * @return 误差上界，单位是角秒
+     */
+    public double getArcseconds() {
+        return arcseconds;
+    }
+
+    /**
+     * @return 误差上界，单位是弧度(rad)
+     */
+    public double getRadians() {
+        return secondsToRadians(arcseconds);
+    }
+}
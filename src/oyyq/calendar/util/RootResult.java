@@ -0,0 +1,115 @@
+package oyyq.calendar.util;
+
+/**
+ * 有界求根的结果：根的估值、求值次数和状态。没有收敛时不抛出异常，由调用者决定如何处理。
+ * 
+ * @author oyyq
+ */
+public final class RootResult {
+
+    /**
+     * 求根的状态
+     */
+    public enum Status {
+
+        /**
+         * 已收敛到容差以内
+         */
+        CONVERGED,
+
+        /**
+         * 区间两端的函数值同号，区间内不一定有根
+         */
+        NOT_BRACKETED,
+
+        /**
+         * 求值次数用完，根是当前的最好估值
+         */
+        BUDGET_EXHAUSTED,
+
+        /**
+         * 迭代得到非有限值(例如导数为0)，根不可用
+         */
+        DIVERGED
+    }
+
+    private final Status status;
+
+    private final double root;
+
+    private final int    evaluations;
+
+    private final int    iterations;
+
+    /**
+     * @param status
+     *            状态
+     * @param root
+     *            根的估值
+     * @param evaluations
+     *            求值次数
+     * @param iterations
+     *            迭代次数
+     */
+    public RootResult(Status status, double root, int evaluations, int iterations) {
+        this.status = status;
+        this.root = root;
+        this.evaluations = evaluations;
+        this.iterations = iterations;
+    }
+
+    /**
+     * @return 状态
+     */
+    public Status getStatus() {
+        return status;
+    }
+
+    /**
+     * @return 是否已收敛
+     */
+    public boolean isConverged() {
+        return status == Status.CONVERGED;
+    }
+
+    /**
+     * @return 根的估值，没有收敛时是当前的最好估值，区间不含根时是NaN
+     */
+    public double getRoot() {
+        return root;
+    }
+
+    /**
+     * @return 求值次数
+     */
+    public int getEvaluations() {
+        return evaluations;
+    }
+
+    /**
+     * @return 迭代次数(牛顿步、二分步或试位步)
+     */
+    public int getIterations() {
+        return iterations;
+    }
+
+    /**
+     * 取收敛的根
+     * 
+     * @return 根
+     * @throws IllegalStateException
+     *             没有收敛时
+     */
+    public double getConvergedRoot() {
+        if (status != Status.CONVERGED) {
+            throw new IllegalStateException("Root finding failed: " + this);
+        }
+        return root;
+    }
+
+    @Override
+    public String toString() {
+        return status + "(root=" + root + ", evaluations=" + evaluations + ", iterations="
+                + iterations + ")";
+    }
+}
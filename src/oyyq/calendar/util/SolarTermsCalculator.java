@@ -1,18 +1,35 @@
 package oyyq.calendar.util;
 
 import static java.lang.Math.PI;
+import static java.lang.Math.abs;
+import static java.lang.Math.cos;
+import static java.lang.Math.sin;
+import static java.lang.Math.toRadians;
+import static oyyq.calendar.util.CalendarUtil.DAYS_OF_CENTURY;
 import static oyyq.calendar.util.CalendarUtil.fromJulianDate;
+import static oyyq.calendar.util.CalendarUtil.getCivilDayOffset;
+import static oyyq.calendar.util.CalendarUtil.getJulianCentury;
 import static oyyq.calendar.util.CalendarUtil.toJulianDate;
+import static oyyq.calendar.util.MathUtil.mod2Pi;
 import static oyyq.calendar.util.MathUtil.modPi;
-import static oyyq.calendar.util.MathUtil.newtonIteration;
+import static oyyq.calendar.util.MathUtil.findRoot;
+import static oyyq.calendar.util.MathUtil.findRootCell;
 import static oyyq.calendar.util.Vsop87dEarthUtil.getEarthEclipticLongitudeForSun;
 
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Map;
+import java.util.TimeZone;
+
+import oyyq.calendar.util.jfr.SolarTermSolveEvent;
+import oyyq.calendar.util.metrics.SolverMetrics;
+import oyyq.calendar.util.metrics.SolverMetrics.Solver;
 
 /**
- * 使用牛顿迭代法计算24节气的时间 求解的方程为: <br />
- * <i>f(x) = Vsop87dEarthUtil.getEarthEclipticLongitudeForSun(x) - angle = 0</i>
+ * 使用保护的牛顿迭代法计算24节气的时间，导数由太阳视黄经的解析变化率给出 求解的方程为: <br />
+ * <i>f(x) = Vsop87dEarthUtil.getEarthEclipticLongitudeForSun(x) - angle = 0</i><br />
+ * 除24节气外也可以求任意太阳视黄经的时刻，例如72候；批量求解时每个根外推出下一个的初值。<br />
+ * 不指定精度等级时，太阳视黄经取自{@link EphemerisCache}的切比雪夫拟合，拟合误差不超过0.001″
  * 
  * @author oyyq
  */
@@ -20,6 +37,54 @@ public class SolarTermsCalculator {
 
     private static final double RADIANS_PER_TERM = PI / 12;
 
+    /**
+     * 求根区间的半宽(日)，低精度太阳模型估计的节气时间与实际相差不过几十分钟
+     */
+    private static final double BRACKET          = 1.0d;
+
+    /**
+     * 求根的容差(日)
+     */
+    private static final double TOLERANCE        = 1e-7;
+
+    /**
+     * 每次求根最多的求值次数
+     */
+    private static final int    BUDGET           = 40;
+
+    /**
+     * 批量求解时牛顿迭代的最多次数，超过后改用有区间保护的求根
+     */
+    private static final int    MAX_ITERATIONS   = 8;
+
+    /**
+     * 回归年(日)
+     */
+    private static final double TROPICAL_YEAR    = 365.24219d;
+
+    /**
+     * 一年的候数
+     */
+    public static final int     PENTADS          = 72;
+
+    /**
+     * 批量计算太阳视黄经和它的变化率
+     */
+    private interface LongitudeBatch {
+
+        /**
+         * @param jd
+         *            各时刻的儒略日
+         * @param values
+         *            存放各时刻太阳的地心视黄经(rad)
+         * @param rates
+         *            存放各时刻每日的变化量(rad)
+         * @param n
+         *            计算前n个
+         */
+        void f(double[] jd, double[] values, double[] rates, int n);
+    }
+
     /**
      * 用牛顿迭代计算节气时间
      * 
@@ -30,16 +95,571 @@ public class SolarTermsCalculator {
      * @return 节气时间的儒略日
      */
     public static double getJulianDayInYearForTermOrder(SolarTerms term, int year) {
+        return getJulianDayInYearForTermOrder(term, year, TOLERANCE);
+    }
+
+    /**
+     * 用牛顿迭代计算节气时间，只要求到给定的容差
+     * 
+     * @param term
+     *            节气
+     * @param year
+     *            年份
+     * @param tolerance
+     *            容差(日)，例如只需要精确到分钟时取1.0 / 1440
+     * @return 节气时间的儒略日
+     */
+    public static double getJulianDayInYearForTermOrder(SolarTerms term, int year,
+            double tolerance) {
         int order = term.getOrder();
         double angle = (order - 1) * RADIANS_PER_TERM;
-        int month = term.getMonth();
-        int estimateDate = term.getEstimateDate();
-        double jd1 = toJulianDate(year, month, estimateDate);
-        double jd = newtonIteration(
-                (double x) -> modPi(getEarthEclipticLongitudeForSun(x) - angle), jd1);
+        double jd1 = getEstimatedJulianDay(term, year);
+        long start = SolverMetrics.start();
+        SolarTermSolveEvent event = new SolarTermSolveEvent();
+        event.begin();
+        RootResult result = findRoot(getEquation(angle), jd1, jd1 - BRACKET, jd1 + BRACKET,
+                tolerance, BUDGET);
+        event.finish(year, term.getName(), angle, null, result);
+        SolverMetrics.record(Solver.SOLAR_TERM, result, start);
+        return result.getConvergedRoot();
+    }
+
+    /**
+     * 按精度等级用牛顿迭代计算节气时间。太阳视黄经1″的误差约相当于节气时间24秒
+     * 
+     * @param term
+     *            节气
+     * @param year
+     *            年份
+     * @param precision
+     *            精度等级
+     * @return 节气时间的儒略日
+     */
+    public static double getJulianDayInYearForTermOrder(SolarTerms term, int year,
+            Precision precision) {
+        return getJulianDayInYearForTermOrder(term, year, precision, TOLERANCE);
+    }
+
+    /**
+     * 按精度等级用牛顿迭代计算节气时间，只要求到给定的容差
+     * 
+     * @param term
+     *            节气
+     * @param year
+     *            年份
+     * @param precision
+     *            精度等级
+     * @param tolerance
+     *            容差(日)
+     * @return 节气时间的儒略日
+     */
+    public static double getJulianDayInYearForTermOrder(SolarTerms term, int year,
+            final Precision precision, double tolerance) {
+        int order = term.getOrder();
+        final double angle = (order - 1) * RADIANS_PER_TERM;
+        double jd1 = getEstimatedJulianDay(term, year);
+        long start = SolverMetrics.start();
+        SolarTermSolveEvent event = new SolarTermSolveEvent();
+        event.begin();
+        RootResult result = findRoot((double x, double[] fx) -> {
+            getEarthEclipticLongitudeForSun(x, precision, fx);
+            fx[0] = modPi(fx[0] - angle);
+        }, jd1, jd1 - BRACKET, jd1 + BRACKET, tolerance, BUDGET);
+        event.finish(year, term.getName(), angle, precision, result);
+        SolverMetrics.record(Solver.SOLAR_TERM, result, start);
+        return result.getConvergedRoot();
+    }
+
+    /**
+     * 只求节气落在时区tz的哪一天。以节气时间的估值所在的一天为起点，只在两个午夜求太阳视黄经，
+     * 节气离午夜较远时不需要迭代；估值与节气隔着午夜时再多求一次
+     * 
+     * @param term
+     *            节气
+     * @param year
+     *            年份
+     * @param tz
+     *            时区
+     * @return 节气所在日期(时区tz的民用日)的儒略日数
+     */
+    public static int getJulianDayNumberForTerm(SolarTerms term, int year, TimeZone tz) {
+        double angle = (term.getOrder() - 1) * RADIANS_PER_TERM;
+        double jd1 = getEstimatedJulianDay(term, year);
+        double offset = getCivilDayOffset(jd1, tz);
+        long start = SolverMetrics.start();
+        SolarTermSolveEvent event = new SolarTermSolveEvent();
+        event.begin();
+        RootResult result = findRootCell(getEquation(angle), jd1, offset, 1.0d, BUDGET);
+        event.finish(year, term.getName(), angle, null, result);
+        SolverMetrics.record(Solver.SOLAR_TERM, result, start);
+        return (int) Math.round(result.getConvergedRoot() - offset);
+    }
+
+    /**
+     * @param angle
+     *            目标视黄经(rad)
+     * @return 方程f(x) = 太阳视黄经 - angle，太阳视黄经取自{@link EphemerisCache}
+     */
+    private static DifferentiableFunction getEquation(final double angle) {
+        return (double x, double[] fx) -> {
+            EphemerisCache.getEarthEclipticLongitudeForSun(x, fx);
+            fx[0] = modPi(fx[0] - angle);
+        };
+    }
+
+    /**
+     * 求太阳视黄经等于angle的时刻，取离jd最近(前后半年以内)的一次，太阳视黄经取自{@link EphemerisCache}的切比雪夫拟合
+     * 
+     * @param angle
+     *            太阳视黄经(rad)，例如候的起点是5°的整数倍
+     * @param jd
+     *            儒略日
+     * @return 时刻的儒略日
+     */
+    public static double getJulianDayForLongitude(double angle, double jd) {
+        return getJulianDayForLongitude(angle, jd, TOLERANCE);
+    }
+
+    /**
+     * 求太阳视黄经等于angle的时刻，取离jd最近(前后半年以内)的一次，只要求到给定的容差
+     * 
+     * @param angle
+     *            太阳视黄经(rad)
+     * @param jd
+     *            儒略日
+     * @param tolerance
+     *            容差(日)
+     * @return 时刻的儒略日
+     */
+    public static double getJulianDayForLongitude(double angle, double jd, double tolerance) {
+        double jd1 = getEstimatedJulianDay(angle, jd);
+        long start = SolverMetrics.start();
+        SolarTermSolveEvent event = new SolarTermSolveEvent();
+        event.begin();
+        RootResult result = findRoot(getEquation(angle), jd1, jd1 - BRACKET, jd1 + BRACKET,
+                tolerance, BUDGET);
+        record(event, angle, null, result, start);
+        return result.getConvergedRoot();
+    }
+
+    /**
+     * 按精度等级求太阳视黄经等于angle的时刻，取离jd最近(前后半年以内)的一次
+     * 
+     * @param angle
+     *            太阳视黄经(rad)
+     * @param jd
+     *            儒略日
+     * @param precision
+     *            精度等级
+     * @return 时刻的儒略日
+     */
+    public static double getJulianDayForLongitude(final double angle, double jd,
+            final Precision precision) {
+        double jd1 = getEstimatedJulianDay(angle, jd);
+        long start = SolverMetrics.start();
+        SolarTermSolveEvent event = new SolarTermSolveEvent();
+        event.begin();
+        RootResult result = findRoot((double x, double[] fx) -> {
+            getEarthEclipticLongitudeForSun(x, precision, fx);
+            fx[0] = modPi(fx[0] - angle);
+        }, jd1, jd1 - BRACKET, jd1 + BRACKET, TOLERANCE, BUDGET);
+        record(event, angle, precision, result, start);
+        return result.getConvergedRoot();
+    }
+
+    /**
+     * 依次求太阳视黄经到达各个值的时刻。第一个值取离jd最近的一次，以后每个值取前一个时刻之后、
+     * 太阳再走过两值之差的那一次；每个根按当时的变化率外推出下一个的初值，一般一两次牛顿迭代就收敛
+     * 
+     * @param angles
+     *            太阳视黄经(rad)，严格递增，可以超过2π以跨越多年
+     * @param jd
+     *            第一个时刻附近的儒略日
+     * @return 各时刻的儒略日
+     */
+    public static double[] getJulianDaysForLongitudes(double[] angles, double jd) {
+        return solveSequence(angles, jd, null, (double x, double[] fx) -> EphemerisCache
+                .getEarthEclipticLongitudeForSun(x, fx));
+    }
+
+    /**
+     * 按精度等级依次求太阳视黄经到达各个值的时刻，参见{@link #getJulianDaysForLongitudes(double[], double)}
+     * 
+     * @param angles
+     *            太阳视黄经(rad)，严格递增，可以超过2π以跨越多年
+     * @param jd
+     *            第一个时刻附近的儒略日
+     * @param precision
+     *            精度等级
+     * @return 各时刻的儒略日
+     */
+    public static double[] getJulianDaysForLongitudes(double[] angles, double jd,
+            final Precision precision) {
+        return solveSequence(angles, jd, precision,
+                (double x, double[] fx) -> getEarthEclipticLongitudeForSun(x, precision, fx));
+    }
+
+    /**
+     * 求区间[jd1, jd2)内太阳视黄经等于angles中任一值的全部时刻，按时间排列。
+     * 第一个时刻对应angles中jd1时的太阳视黄经之后的第一个值，以后依次循环
+     * 
+     * @param angles
+     *            太阳视黄经(rad)，在0到2π之间，严格递增
+     * @param jd1
+     *            区间起点的儒略日
+     * @param jd2
+     *            区间终点的儒略日，不包含在内
+     * @return 各时刻的儒略日
+     */
+    public static double[] getJulianDaysForLongitudes(double[] angles, double jd1, double jd2) {
+        int n = angles.length;
+        double lambda = mod2Pi(EphemerisCache.getEarthEclipticLongitudeForSun(jd1));
+        int first = 0;
+        while (first < n && angles[first] <= lambda) {
+            first++;
+        }
+        // 太阳每年走一圈，按平均速度多取几个值，再截去区间以外的
+        int count = (int) Math.ceil((jd2 - jd1) / TROPICAL_YEAR * n) + n / 12 + 2;
+        double[] sequence = new double[count];
+        for (int i = 0; i < count; i++) {
+            int k = first + i;
+            sequence[i] = angles[k % n] + (k / n) * 2 * PI;
+        }
+        double seed = jd1 + (sequence[0] - lambda) / (2 * PI) * TROPICAL_YEAR;
+        double[] jds = getJulianDaysForLongitudes(sequence, seed);
+        int end = 0;
+        while (end < count && jds[end] < jd2) {
+            end++;
+        }
+        return Arrays.copyOf(jds, end);
+    }
+
+    /**
+     * 求一年的72候，第i候从太阳视黄经285° + 5° * i开始，即从小寒开始，每三候中的第一候是一个节气
+     * 
+     * @param year
+     *            年份
+     * @return 72候起点的儒略日
+     */
+    public static double[] getAllPentadsForYear(int year) {
+        double[] angles = new double[PENTADS];
+        for (int i = 0; i < PENTADS; i++) {
+            angles[i] = toRadians(285 + 5 * i);
+        }
+        return getJulianDaysForLongitudes(angles, getEstimatedJulianDay(SolarTerms.XIAO_HAN,
+                year));
+    }
+
+    /**
+     * 依次求太阳视黄经到达各个值的时刻，每个根外推出下一个的初值。每个时刻各记录一次统计和{@link SolarTermSolveEvent}
+     * 
+     * @param angles
+     *            太阳视黄经(rad)，严格递增
+     * @param jd
+     *            第一个时刻附近的儒略日
+     * @param precision
+     *            精度等级，用于JFR事件，使用缓存时为null
+     * @param longitude
+     *            太阳视黄经和它的变化率
+     * @return 各时刻的儒略日
+     */
+    private static double[] solveSequence(final double[] angles, double jd, Precision precision,
+            final DifferentiableFunction longitude) {
+        int n = angles.length;
+        double[] jds = new double[n];
+        double[] fx = new double[2];
+        double x = n > 0 ? getEstimatedJulianDay(angles[0], jd) : jd;
+        double rate = 2 * PI / TROPICAL_YEAR;
+        for (int i = 0; i < n; i++) {
+            final double angle = angles[i];
+            if (i > 0) {
+                x = jds[i - 1] + (angle - angles[i - 1]) / rate;
+            }
+            double seed = x;
+            long start = SolverMetrics.start();
+            SolarTermSolveEvent event = new SolarTermSolveEvent();
+            event.begin();
+            RootResult result = null;
+            int iterations = 0;
+            while (result == null && iterations < MAX_ITERATIONS) {
+                longitude.f(x, fx);
+                rate = fx[1];
+                double dx = modPi(fx[0] - angle) / rate;
+                x -= dx;
+                iterations++;
+                if (abs(dx) < TOLERANCE) {
+                    result = new RootResult(RootResult.Status.CONVERGED, x, iterations,
+                            iterations);
+                }
+            }
+            if (result == null) {
+                RootResult fallback = findRoot((double t, double[] ft) -> {
+                    longitude.f(t, ft);
+                    ft[0] = modPi(ft[0] - angle);
+                }, seed, seed - BRACKET, seed + BRACKET, TOLERANCE, BUDGET);
+                result = new RootResult(fallback.getStatus(), fallback.getRoot(), iterations
+                        + fallback.getEvaluations(), iterations + fallback.getIterations());
+            }
+            record(event, angle, precision, result, start);
+            x = result.getConvergedRoot();
+            jds[i] = x;
+        }
+        return jds;
+    }
+
+    /**
+     * 同时求一年的24个节气，太阳视黄经取自{@link EphemerisCache}的切比雪夫拟合
+     * 
+     * @param year
+     *            年份
+     * @return 各节气时间的儒略日，按{@link SolarTerms}的顺序(小寒到冬至)排列
+     */
+    public static double[] getAllTermsForYear(int year) {
+        SolarTerms[] terms = SolarTerms.values();
+        double[] angles = new double[terms.length];
+        double[] seeds = new double[terms.length];
+        for (int i = 0; i < terms.length; i++) {
+            angles[i] = (terms[i].getOrder() - 1) * RADIANS_PER_TERM;
+            seeds[i] = getEstimatedJulianDay(terms[i], year);
+        }
+        return getJulianDays(angles, seeds);
+    }
+
+    /**
+     * 按精度等级同时求一年的24个节气
+     * 
+     * @param year
+     *            年份
+     * @param precision
+     *            精度等级
+     * @return 各节气时间的儒略日，按{@link SolarTerms}的顺序(小寒到冬至)排列
+     */
+    public static double[] getAllTermsForYear(int year, Precision precision) {
+        SolarTerms[] terms = SolarTerms.values();
+        double[] angles = new double[terms.length];
+        double[] seeds = new double[terms.length];
+        for (int i = 0; i < terms.length; i++) {
+            angles[i] = (terms[i].getOrder() - 1) * RADIANS_PER_TERM;
+            seeds[i] = getEstimatedJulianDay(terms[i], year);
+        }
+        return getJulianDays(angles, seeds, precision);
+    }
+
+    /**
+     * 同时求太阳视黄经等于各目标值的时刻，太阳视黄经取自{@link EphemerisCache}的切比雪夫拟合
+     * 
+     * @param angles
+     *            各目标视黄经(rad)
+     * @param seeds
+     *            各时刻的估值(儒略日)，与真值相差应在{@value #BRACKET}日以内，按时间排序时缓存的查找最少
+     * @return 各时刻的儒略日
+     */
+    public static double[] getJulianDays(double[] angles, double[] seeds) {
+        return solve(angles, seeds, null, EphemerisCache::getEarthEclipticLongitudeForSun);
+    }
+
+    /**
+     * 按精度等级同时求太阳视黄经等于各目标值的时刻
+     * 
+     * @param angles
+     *            各目标视黄经(rad)
+     * @param seeds
+     *            各时刻的估值(儒略日)，与真值相差应在{@value #BRACKET}日以内
+     * @param precision
+     *            精度等级
+     * @return 各时刻的儒略日
+     */
+    public static double[] getJulianDays(double[] angles, double[] seeds,
+            final Precision precision) {
+        final double[] result = new double[2];
+        LongitudeBatch longitude = (double[] jd, double[] values, double[] rates, int n) -> {
+            for (int i = 0; i < n; i++) {
+                getEarthEclipticLongitudeForSun(jd[i], precision, result);
+                values[i] = result[0];
+                rates[i] = result[1];
+            }
+        };
+        return solve(angles, seeds, precision, longitude);
+    }
+
+    /**
+     * 所有目标一起做牛顿迭代，每一轮把还没有收敛的时刻一次交给longitude批量求值。
+     * 初值足够好时不需要求根区间两端的求值，一般两轮就全部收敛；个别没有收敛的再单独用有区间保护的求根。
+     * 每个目标求得时各记录一次统计和{@link SolarTermSolveEvent}，耗时从批量求解开始算起
+     * 
+     * @param angles
+     *            各目标视黄经(rad)
+     * @param seeds
+     *            各时刻的估值(儒略日)
+     * @param precision
+     *            精度等级，用于JFR事件，使用缓存时为null
+     * @param longitude
+     *            批量计算太阳视黄经和它的变化率
+     * @return 各时刻的儒略日
+     */
+    private static double[] solve(final double[] angles, double[] seeds, Precision precision,
+            final LongitudeBatch longitude) {
+        int n = angles.length;
+        long start = SolverMetrics.start();
+        SolarTermSolveEvent[] events = new SolarTermSolveEvent[n];
+        for (int i = 0; i < n; i++) {
+            events[i] = new SolarTermSolveEvent();
+            events[i].begin();
+        }
+        double[] jds = seeds.clone();
+        int[] active = new int[n];
+        for (int i = 0; i < n; i++) {
+            active[i] = i;
+        }
+        int[] iterations = new int[n];
+        double[] x = new double[n];
+        double[] values = new double[n];
+        double[] rates = new double[n];
+        int count = n;
+        for (int iteration = 0; iteration < MAX_ITERATIONS && count > 0; iteration++) {
+            for (int k = 0; k < count; k++) {
+                x[k] = jds[active[k]];
+            }
+            longitude.f(x, values, rates, count);
+            int remaining = 0;
+            for (int k = 0; k < count; k++) {
+                int i = active[k];
+                double dx = modPi(values[k] - angles[i]) / rates[k];
+                jds[i] -= dx;
+                iterations[i]++;
+                if (abs(dx) >= TOLERANCE) {
+                    active[remaining++] = i;
+                } else {
+                    record(events[i], angles[i], precision, new RootResult(
+                            RootResult.Status.CONVERGED, jds[i], iterations[i], iterations[i]),
+                            start);
+                }
+            }
+            count = remaining;
+        }
+        final double[] point = new double[1];
+        final double[] rate = new double[1];
+        for (int k = 0; k < count; k++) {
+            final int i = active[k];
+            double seed = seeds[i];
+            RootResult fallback = findRoot((double t, double[] fx) -> {
+                point[0] = t;
+                longitude.f(point, fx, rate, 1);
+                fx[0] = modPi(fx[0] - angles[i]);
+                fx[1] = rate[0];
+            }, seed, seed - BRACKET, seed + BRACKET, TOLERANCE, BUDGET);
+            RootResult result = new RootResult(fallback.getStatus(), fallback.getRoot(),
+                    iterations[i] + fallback.getEvaluations(), iterations[i]
+                            + fallback.getIterations());
+            record(events[i], angles[i], precision, result, start);
+            jds[i] = result.getConvergedRoot();
+        }
+        return jds;
+    }
+
+    /**
+     * 结束一个按视黄经(而不是按节气名)求解的事件，并记录统计。
+     * 事件的年份取求得时刻所在的年，视黄经恰好是某个节气时取节气名，否则为null
+     * 
+     * @param event
+     *            已经开始计时的事件
+     * @param angle
+     *            目标视黄经(rad)
+     * @param precision
+     *            精度等级，使用缓存时为null
+     * @param result
+     *            求根的结果
+     * @param start
+     *            {@link SolverMetrics#start()}的返回值
+     */
+    private static void record(SolarTermSolveEvent event, double angle, Precision precision,
+            RootResult result, long start) {
+        int year = 0;
+        String term = null;
+        if (event.isEnabled()) {
+            year = PackedDateTime.getYear(CalendarUtil.toPackedDateTime(result.getRoot()));
+            term = getTermName(angle);
+        }
+        event.finish(year, term, angle, precision, result);
+        SolverMetrics.record(Solver.SOLAR_TERM, result, start);
+    }
+
+    /**
+     * @param angle
+     *            太阳视黄经(rad)，可以超过2π
+     * @return 视黄经恰好是节气时返回节气名，否则返回null
+     */
+    private static String getTermName(double angle) {
+        double k = mod2Pi(angle) / RADIANS_PER_TERM;
+        long order = Math.round(k);
+        if (abs(k - order) > 1e-9) {
+            return null;
+        }
+        for (SolarTerms term : SolarTerms.values()) {
+            if (term.getOrder() == order % 24 + 1) {
+                return term.getName();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 用低精度的太阳模型估计节气时间，作为求根的初值。从{@link SolarTerms}的估计日期出发，
+     * 对模型做牛顿迭代，估计日期因历法漂移相差几十天时也能找到同一个节气
+     * 
+     * @param term
+     *            节气
+     * @param year
+     *            年份
+     * @return 节气时间的估值(儒略日)
+     */
+    public static double getEstimatedJulianDay(SolarTerms term, int year) {
+        double angle = (term.getOrder() - 1) * RADIANS_PER_TERM;
+        return getEstimatedJulianDay(angle, toJulianDate(year, term.getMonth(),
+                term.getEstimateDate()));
+    }
+
+    /**
+     * 用低精度的太阳模型估计太阳视黄经等于angle的时刻，取离jd最近(前后半年以内)的一次
+     * 
+     * @param angle
+     *            太阳视黄经(rad)
+     * @param jd
+     *            儒略日
+     * @return 时刻的估值(儒略日)
+     */
+    public static double getEstimatedJulianDay(double angle, double jd) {
+        double[] result = new double[2];
+        for (int i = 0; i < 3; i++) {
+            getLowPrecisionLongitude(jd, result);
+            jd -= modPi(result[0] - angle) / result[1];
+        }
         return jd;
     }
 
+    /**
+     * 低精度的太阳视黄经：平黄经加中心差，再加光行差和章动的主项，公式见<i>Jean Meeus</i>的
+     * <i>Astronomical Algorithms</i>第25章，误差约0.01°，相当于节气时间十几分钟
+     * 
+     * @param jd
+     *            儒略日
+     * @param result
+     *            result[0]存放太阳视黄经(rad)，result[1]存放每日的变化量
+     */
+    private static void getLowPrecisionLongitude(double jd, double[] result) {
+        double t = getJulianCentury(jd);
+        double l0 = 280.46646 + t * (36000.76983 + t * 0.0003032);
+        double m = toRadians(357.52911 + t * (35999.05029 - t * 0.0001537));
+        double c = (1.914602 - t * (0.004817 + t * 0.000014)) * sin(m)
+                + (0.019993 - t * 0.000101) * sin(2 * m) + 0.000289 * sin(3 * m);
+        double om = toRadians(125.04 - 1934.136 * t);
+        result[0] = toRadians(l0 + c - 0.00569 - 0.00478 * sin(om));
+        // 只计平黄经和中心差主项的变化率，足够牛顿迭代用
+        double dm = toRadians(35999.05029) / DAYS_OF_CENTURY;
+        result[1] = toRadians(36000.76983) / DAYS_OF_CENTURY + toRadians(1.914602 * cos(m)
+                + 2 * 0.019993 * cos(2 * m)) * dm;
+    }
+
     public static void main(String[] args) {
         for (SolarTerms term : SolarTerms.values()) {
             double jd = getJulianDayInYearForTermOrder(term, 2011);
@@ -52,6 +672,73 @@ public class SolarTermsCalculator {
                             cal.get(Calendar.HOUR_OF_DAY), cal.get(Calendar.MINUTE),
                             cal.get(Calendar.SECOND), cal.get(Calendar.MILLISECOND)));
         }
+
+        // 各精度等级与完整级数的差
+        for (Precision precision : Precision.values()) {
+            double maxDiff = 0.0d;
+            long start = System.nanoTime();
+            for (SolarTerms term : SolarTerms.values()) {
+                double diff = getJulianDayInYearForTermOrder(term, 2011, precision)
+                        - getJulianDayInYearForTermOrder(term, 2011);
+                maxDiff = Math.max(maxDiff, Math.abs(diff) * 86400);
+            }
+            long elapsed = System.nanoTime() - start;
+            System.out.println(String.format("%-10s max difference %.3f s (%d ms)", precision,
+                    maxDiff, elapsed / 1000000));
+        }
+
+        // 两种初值的比较：SolarTerms的估计日期(区间半宽15日)和低精度太阳模型(区间半宽BRACKET)
+        String[] names = { "estimate date", "solar model" };
+        for (int i = 0; i < 2; i++) {
+            int solves = 0;
+            long iterations = 0;
+            long evaluations = 0;
+            double maxError = 0.0d;
+            for (int year = 1900; year < 2100; year++) {
+                for (SolarTerms term : SolarTerms.values()) {
+                    final double angle = (term.getOrder() - 1) * RADIANS_PER_TERM;
+                    double seed = i == 0 ? toJulianDate(year, term.getMonth(),
+                            term.getEstimateDate()) : getEstimatedJulianDay(term, year);
+                    double bracket = i == 0 ? 15.0d : BRACKET;
+                    RootResult result = findRoot((double x, double[] fx) -> {
+                        EphemerisCache.getEarthEclipticLongitudeForSun(x, fx);
+                        fx[0] = modPi(fx[0] - angle);
+                    }, seed, seed - bracket, seed + bracket, TOLERANCE, BUDGET);
+                    solves++;
+                    iterations += result.getIterations();
+                    evaluations += result.getEvaluations();
+                    maxError = Math.max(maxError, Math.abs(result.getConvergedRoot() - seed));
+                }
+            }
+            System.out.println(String.format(
+                    "%-13s %.2f iterations, %.2f evaluations per solve, max seed error %.1f min",
+                    names[i], (double) iterations / solves, (double) evaluations / solves,
+                    maxError * 1440));
+        }
+
+        // 逐个求解与整年批量求解的比较，缓存已经预热
+        for (int round = 0; round < 3; round++) {
+            double maxDiff = 0.0d;
+            long single = 0;
+            long batch = 0;
+            for (int year = 1900; year < 2100; year++) {
+                long start = System.nanoTime();
+                double[] jds = new double[24];
+                for (SolarTerms term : SolarTerms.values()) {
+                    jds[term.ordinal()] = getJulianDayInYearForTermOrder(term, year);
+                }
+                long middle = System.nanoTime();
+                double[] all = getAllTermsForYear(year);
+                batch += System.nanoTime() - middle;
+                single += middle - start;
+                for (int i = 0; i < jds.length; i++) {
+                    maxDiff = Math.max(maxDiff, Math.abs(all[i] - jds[i]) * 86400);
+                }
+            }
+            System.out.println(String.format(
+                    "200 years: single %d ms, batch %d ms, max difference %.6f s",
+                    single / 1000000, batch / 1000000, maxDiff));
+        }
     }
 
 }
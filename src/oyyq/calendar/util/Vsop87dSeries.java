@@ -0,0 +1,237 @@
+package oyyq.calendar.util;
+
+import static java.lang.Math.abs;
+import static java.lang.Math.cos;
+import static java.lang.Math.pow;
+import static java.lang.Math.sin;
+
+import java.util.Arrays;
+
+import oyyq.calendar.util.metrics.SolverMetrics;
+import oyyq.calendar.util.metrics.SolverMetrics.Component;
+
+/**
+ * VSOP87D的一组级数(某一坐标的某一阶)，每一项为<i>A * cos(B + C * t)</i>，整组的值再乘以<i>t<sup>n</sup></i>。<br />
+ * 系数按振幅、相位、频率分别存放在三个double数组里，求值是一个简单的循环，可以被JIT编译。
+ *
+ * @author oyyq
+ */
+final class Vsop87dSeries {
+
+    /**
+     * 阶数n
+     */
+    private final int      power;
+
+    /**
+     * 振幅A
+     */
+    private final double[] amplitudes;
+
+    /**
+     * 相位B
+     */
+    private final double[] phases;
+
+    /**
+     * 频率C
+     */
+    private final double[] frequencies;
+
+    /**
+     * 由系数表构造一组级数
+     *
+     * @param power
+     *            阶数
+     * @param params
+     *            系数表，每项依次为A、B、C
+     */
+    Vsop87dSeries(int power, double[] params) {
+        int n = params.length / 3;
+        this.power = power;
+        this.amplitudes = new double[n];
+        this.phases = new double[n];
+        this.frequencies = new double[n];
+        for (int i = 0; i < n; i++) {
+            amplitudes[i] = params[3 * i];
+            phases[i] = params[3 * i + 1];
+            frequencies[i] = params[3 * i + 2];
+        }
+    }
+
+    private Vsop87dSeries(int power, double[] amplitudes, double[] phases, double[] frequencies) {
+        this.power = power;
+        this.amplitudes = amplitudes;
+        this.phases = phases;
+        this.frequencies = frequencies;
+    }
+
+    /**
+     * 计算各项的误差上界<i>|A| * tMax<sup>n</sup></i>
+     *
+     * @param tMax
+     *            t的绝对值的最大值
+     * @return 各项的误差上界
+     */
+    double[] getWeights(double tMax) {
+        double[] weights = new double[amplitudes.length];
+        double scale = pow(tMax, power);
+        for (int i = 0; i < weights.length; i++) {
+            weights[i] = abs(amplitudes[i]) * scale;
+        }
+        return weights;
+    }
+
+    /**
+     * 舍去误差上界小于阈值的项，剩下的项按振幅从大到小排列
+     *
+     * @param threshold
+     *            阈值
+     * @param tMax
+     *            t的绝对值的最大值
+     * @return 截断后的级数
+     */
+    Vsop87dSeries truncate(double threshold, double tMax) {
+        int[] kept = MathUtil.getTruncatedOrder(getWeights(tMax), threshold);
+        int n = kept.length;
+        double[] a = new double[n];
+        double[] b = new double[n];
+        double[] c = new double[n];
+        for (int i = 0; i < n; i++) {
+            a[i] = amplitudes[kept[i]];
+            b[i] = phases[kept[i]];
+            c[i] = frequencies[kept[i]];
+        }
+        return new Vsop87dSeries(power, a, b, c);
+    }
+
+    /**
+     * 截断各阶级数，使舍去项的误差上界之和不超过budget
+     *
+     * @param series
+     *            各阶级数
+     * @param budget
+     *            允许的总误差
+     * @param tMax
+     *            t的绝对值的最大值
+     * @return 截断后的各阶级数
+     */
+    static Vsop87dSeries[] truncate(Vsop87dSeries[] series, double budget, double tMax) {
+        if (budget <= 0) {
+            return series;
+        }
+        double[] weights = new double[0];
+        for (Vsop87dSeries s : series) {
+            double[] w = s.getWeights(tMax);
+            int offset = weights.length;
+            weights = Arrays.copyOf(weights, offset + w.length);
+            System.arraycopy(w, 0, weights, offset, w.length);
+        }
+        double threshold = MathUtil.getTruncationThreshold(weights, budget);
+        Vsop87dSeries[] result = new Vsop87dSeries[series.length];
+        for (int i = 0; i < series.length; i++) {
+            result[i] = series[i].truncate(threshold, tMax);
+        }
+        return result;
+    }
+
+    /**
+     * 计算这组级数的值
+     *
+     * @param t
+     *            儒略千年数
+     * @return <i>t<sup>n</sup> * ΣA * cos(B + C * t)</i>
+     */
+    double evaluate(double t) {
+        final double[] a = amplitudes;
+        final double[] b = phases;
+        final double[] c = frequencies;
+        double result = 0;
+        for (int i = 0; i < a.length; i++) {
+            result += a[i] * cos(b[i] + c[i] * t);
+        }
+        for (int i = 0; i < power; i++) {
+            result *= t;
+        }
+        return result;
+    }
+
+    /**
+     * 同时计算这组级数的值和对t的导数，导数逐项求出：<i>n * t<sup>n-1</sup> * ΣA * cos(B + C * t) - t<sup>n</sup> *
+     * ΣA * C * sin(B + C * t)</i>
+     *
+     * @param t
+     *            儒略千年数
+     * @param result
+     *            result[0]加上级数的值，result[1]加上每儒略千年的变化量
+     */
+    void evaluate(double t, double[] result) {
+        final double[] a = amplitudes;
+        final double[] b = phases;
+        final double[] c = frequencies;
+        double value = 0;
+        double rate = 0;
+        for (int i = 0; i < a.length; i++) {
+            double phi = b[i] + c[i] * t;
+            value += a[i] * cos(phi);
+            rate -= a[i] * c[i] * sin(phi);
+        }
+        double tn1 = 1;
+        for (int i = 1; i < power; i++) {
+            tn1 *= t;
+        }
+        double tn = power == 0 ? 1 : tn1 * t;
+        double v = value;
+        for (int i = 0; i < power; i++) {
+            v *= t;
+        }
+        result[0] += v;
+        result[1] += (power == 0 ? 0 : power * tn1 * value) + tn * rate;
+    }
+
+    /**
+     * 计算各阶级数之和
+     *
+     * @param series
+     *            各阶级数
+     * @param t
+     *            儒略千年数
+     * @return 级数之和
+     */
+    static double evaluate(Vsop87dSeries[] series, double t) {
+        long start = SolverMetrics.start();
+        double result = 0;
+        for (Vsop87dSeries s : series) {
+            result += s.evaluate(t);
+        }
+        SolverMetrics.record(Component.VSOP87, start);
+        return result;
+    }
+
+    /**
+     * 同时计算各阶级数之和与对t的导数
+     *
+     * @param series
+     *            各阶级数
+     * @param t
+     *            儒略千年数
+     * @param result
+     *            result[0]存放级数之和，result[1]存放每儒略千年的变化量
+     */
+    static void evaluate(Vsop87dSeries[] series, double t, double[] result) {
+        long start = SolverMetrics.start();
+        result[0] = 0;
+        result[1] = 0;
+        for (Vsop87dSeries s : series) {
+            s.evaluate(t, result);
+        }
+        SolverMetrics.record(Component.VSOP87, start);
+    }
+
+    /**
+     * @return 项数
+     */
+    int size() {
+        return amplitudes.length;
+    }
+}
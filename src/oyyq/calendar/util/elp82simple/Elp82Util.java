@@ -5,6 +5,8 @@ import static java.lang.Math.toRadians;
 import static oyyq.calendar.util.CalendarUtil.getJulianCentury;
 import static oyyq.calendar.util.MathUtil.mod2Pi;
 import static oyyq.calendar.util.iau.Iau2000BUtil.getLongitudeNutation;
+import oyyq.calendar.util.metrics.SolverMetrics;
+import oyyq.calendar.util.metrics.SolverMetrics.Component;
 
 public class Elp82Util {
 
@@ -201,8 +203,11 @@ public class Elp82Util {
      * @return 月球的地心黄经，单位是弧度(rad)
      */
     public static double getEarthEclipticLongitudeForMoon(double jd) {
+        long start = SolverMetrics.start();
         double t = getJulianCentury(jd);
-        return getLp(t) + toRadians(getSumL(t) / 1000000) + getLongitudeNutation(jd);
+        double l = getLp(t) + toRadians(getSumL(t) / 1000000);
+        SolverMetrics.record(Component.ELP, start);
+        return l + getLongitudeNutation(jd);
     }
 
     public static void main(String[] args) {
@@ -0,0 +1,92 @@
+package oyyq.calendar.util.elpmpp02;
+
+/**
+ * 某一时刻各基本幅角整数倍的sin和cos值表。<br />
+ * 每个幅角只调用一次sin和cos，其余倍数用复数乘法递推：<i>e<sup>i(m+1)x</sup> = e<sup>imx</sup> * e<sup>ix</sup></i>，
+ * 级数的每一项就可以由表中的值相乘得到，不再需要对每一项调用sin和cos。
+ *
+ * @author oyyq
+ */
+final class ElpAngleTable {
+
+    /**
+     * 最大倍数
+     */
+    private final int      maxMultiple;
+
+    /**
+     * 每个幅角占用的表项数，即2 * maxMultiple + 1
+     */
+    private final int      stride;
+
+    /**
+     * 第k个幅角的m倍(-maxMultiple <= m <= maxMultiple)的cos值在k * stride + maxMultiple + m处
+     */
+    private final double[] cos;
+
+    /**
+     * 第k个幅角的m倍(-maxMultiple <= m <= maxMultiple)的sin值在k * stride + maxMultiple + m处
+     */
+    private final double[] sin;
+
+    /**
+     * 计算各幅角-maxMultiple到maxMultiple倍的sin和cos值
+     *
+     * @param args
+     *            基本幅角(rad)
+     * @param maxMultiple
+     *            最大倍数
+     */
+    ElpAngleTable(double[] args, int maxMultiple) {
+        this.maxMultiple = maxMultiple;
+        this.stride = 2 * maxMultiple + 1;
+        this.cos = new double[args.length * stride];
+        this.sin = new double[args.length * stride];
+        for (int k = 0; k < args.length; k++) {
+            int zero = k * stride + maxMultiple;
+            double c1 = Math.cos(args[k]);
+            double s1 = Math.sin(args[k]);
+            double c = 1.0d;
+            double s = 0.0d;
+            cos[zero] = c;
+            sin[zero] = s;
+            for (int m = 1; m <= maxMultiple; m++) {
+                double cm = c * c1 - s * s1;
+                s = s * c1 + c * s1;
+                c = cm;
+                cos[zero + m] = c;
+                sin[zero + m] = s;
+                cos[zero - m] = c;
+                sin[zero - m] = -s;
+            }
+        }
+    }
+
+    /**
+     * @return 最大倍数
+     */
+    int getMaxMultiple() {
+        return maxMultiple;
+    }
+
+    /**
+     * @return 每个幅角占用的表项数
+     */
+    int getStride() {
+        return stride;
+    }
+
+    /**
+     * @return cos值表，第k个幅角的m倍在k * stride + maxMultiple + m处
+     */
+    double[] getCos() {
+        return cos;
+    }
+
+    /**
+     * @return sin值表，第k个幅角的m倍在k * stride + maxMultiple + m处
+     */
+    double[] getSin() {
+        return sin;
+    }
+}
@@ -0,0 +1,186 @@
+package oyyq.calendar.util.elpmpp02;
+
+import static oyyq.calendar.util.MathUtil.secondsToRadians;
+
+import java.util.Arrays;
+
+import oyyq.calendar.util.MathUtil;
+import oyyq.calendar.util.Precision;
+import oyyq.calendar.util.metrics.SolverMetrics;
+import oyyq.calendar.util.metrics.SolverMetrics.Component;
+
+/**
+ * ELP/MPP02某一坐标的全部级数：主问题和t的0-3次幂的摄动。<br />
+ * 完整的级数直接取自{@link ElpMpp02Series}，截断的级数由{@link #truncate(Precision)}生成，各项按误差上界从大到小排列。
+ *
+ * @author oyyq
+ */
+final class ElpCoordinateSeries {
+
+    /**
+     * 级数的适用范围取公元前2000年到公元6000年，|t| ≤ 40个儒略世纪
+     */
+    static final double           T_MAX         = 40.0d;
+
+    /**
+     * 地月平均距离(km)，用来把角度的误差上界换算成距离的误差上界
+     */
+    private static final double   MEAN_DISTANCE = 385000.0d;
+
+    /**
+     * 坐标，1-3对应S1-S3
+     */
+    private final int             coordinate;
+
+    private final ElpMainSeries   main;
+
+    /**
+     * t的0-3次幂的摄动
+     */
+    private final ElpPertSeries[] pert;
+
+    /**
+     * 各组级数乘数绝对值的最大值，决定值表的大小
+     */
+    private final int             maxMultiple;
+
+    private ElpCoordinateSeries(int coordinate, ElpMainSeries main, ElpPertSeries[] pert) {
+        this.coordinate = coordinate;
+        this.main = main;
+        this.pert = pert;
+        int max = main.getMaxMultiple();
+        for (ElpPertSeries p : pert) {
+            max = Math.max(max, p.getMaxMultiple());
+        }
+        this.maxMultiple = max;
+    }
+
+    /**
+     * 读取某一坐标的完整级数
+     *
+     * @param coordinate
+     *            坐标，1-3对应S1-S3
+     * @return 完整的级数
+     */
+    static ElpCoordinateSeries load(int coordinate) {
+        ElpPertSeries[] pert = new ElpPertSeries[4];
+        for (int n = 0; n < pert.length; n++) {
+            pert[n] = ElpMpp02Series.pert(coordinate, n).pert();
+        }
+        return new ElpCoordinateSeries(coordinate, ElpMpp02Series.main(coordinate).main(), pert);
+    }
+
+    /**
+     * 按精度等级截断，舍去项的误差上界之和不超过等级的误差上界。经纬度按角秒截断，距离按同样的相对误差截断
+     *
+     * @param precision
+     *            精度等级
+     * @return 截断后的级数，{@link Precision#FULL}返回自身
+     */
+    ElpCoordinateSeries truncate(Precision precision) {
+        if (precision == Precision.FULL) {
+            return this;
+        }
+        double budget = coordinate == ElpDataReader.DISTANCE ? precision.getRadians()
+                * MEAN_DISTANCE : precision.getArcseconds();
+        double[] weights = main.getWeights();
+        for (ElpPertSeries p : pert) {
+            double[] w = p.getWeights(T_MAX);
+            int offset = weights.length;
+            weights = Arrays.copyOf(weights, offset + w.length);
+            System.arraycopy(w, 0, weights, offset, w.length);
+        }
+        double threshold = MathUtil.getTruncationThreshold(weights, budget);
+        ElpPertSeries[] truncated = new ElpPertSeries[pert.length];
+        for (int n = 0; n < pert.length; n++) {
+            truncated[n] = pert[n].truncate(threshold, T_MAX);
+        }
+        return new ElpCoordinateSeries(coordinate, main.truncate(threshold), truncated);
+    }
+
+    /**
+     * 计算各级数要用到的sin、cos值表
+     *
+     * @param args
+     *            13个基本幅角(rad)
+     * @return 值表
+     */
+    ElpAngleTable getAngleTable(double[] args) {
+        return new ElpAngleTable(args, maxMultiple);
+    }
+
+    /**
+     * 计算主问题和摄动之和
+     *
+     * @param t
+     *            儒略世纪数
+     * @param args
+     *            13个基本幅角(rad)
+     * @param table
+     *            值表，为null时直接调用sin和cos
+     * @return 经纬度的单位是弧度(rad)，距离的单位是千米
+     */
+    double evaluate(double t, double[] args, ElpAngleTable table) {
+        long start = SolverMetrics.start();
+        double m = table == null ? main.evaluate(args[0], args[1], args[2], args[3]) : main
+                .evaluate(table);
+        double p = 0.0d;
+        double pow = 1.0d;
+        for (ElpPertSeries series : pert) {
+            p += pow * (table == null ? series.evaluate(args) : series.evaluate(table));
+            pow *= t;
+        }
+        SolverMetrics.record(Component.ELP, start);
+        return coordinate == ElpDataReader.DISTANCE ? m + p : secondsToRadians(m)
+                + secondsToRadians(p);
+    }
+
+    /**
+     * 用值表同时计算主问题和摄动之和与它的导数，t的幂次也参与求导
+     *
+     * @param t
+     *            儒略世纪数
+     * @param table
+     *            值表
+     * @param rates
+     *            13个基本幅角的变化率(rad/儒略世纪)
+     * @param result
+     *            result[0]存放级数之和，result[1]存放每儒略世纪的变化量，经纬度的单位是弧度(rad)，距离的单位是千米
+     */
+    void evaluate(double t, ElpAngleTable table, double[] rates, double[] result) {
+        long start = SolverMetrics.start();
+        main.evaluate(table, rates, result);
+        double m = result[0];
+        double dm = result[1];
+        double p = 0.0d;
+        double dp = 0.0d;
+        double pow = 1.0d;
+        double dpow = 0.0d;
+        for (int n = 0; n < pert.length; n++) {
+            pert[n].evaluate(table, rates, result);
+            p += pow * result[0];
+            dp += pow * result[1] + dpow * result[0];
+            dpow = (n + 1) * pow;
+            pow *= t;
+        }
+        if (coordinate == ElpDataReader.DISTANCE) {
+            result[0] = m + p;
+            result[1] = dm + dp;
+        } else {
+            result[0] = secondsToRadians(m) + secondsToRadians(p);
+            result[1] = secondsToRadians(dm + dp);
+        }
+        SolverMetrics.record(Component.ELP, start);
+    }
+
+    /**
+     * @return 项数
+     */
+    int size() {
+        int size = main.size();
+        for (ElpPertSeries p : pert) {
+            size += p.size();
+        }
+        return size;
+    }
+}
@@ -0,0 +1,188 @@
+package oyyq.calendar.util.elpmpp02;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 读取ELP/MPP02系数的二进制资源文件(由{@link ElpDataWriter}生成)。<br />
+ * 文件格式(大端序)：
+ * <ul>
+ * <li>文件头：魔数{@value #MAGIC}(int)、版本号{@value #VERSION}(int)、级数个数(int)</li>
+ * <li>目录：每组级数一条，依次为类型(byte，0表示主问题，1表示摄动)、坐标(byte，1-3对应S1-S3)、t的幂次(byte)、保留(byte)、项数(int)、
+ * 数据偏移(int)</li>
+ * <li>主问题数据：aui、bu1i..bu5i各项数个double，然后是每项4个byte的乘数</li>
+ * <li>摄动数据：sui、cui各项数个double，然后是每项13个byte的乘数</li>
+ * </ul>
+ * 每组数据都从8字节对齐的位置开始。资源在文件系统里时用内存映射读取，否则读入直接缓冲区，系数直接批量读成基本类型数组。
+ *
+ * @author oyyq
+ */
+final class ElpDataReader {
+
+    /**
+     * 资源文件名，相对于本类所在的包
+     */
+    static final String      RESOURCE     = "data/elp_mpp02.dat";
+
+    /**
+     * 魔数"ELP2"
+     */
+    static final int         MAGIC        = 0x454C5032;
+
+    /**
+     * 文件格式版本
+     */
+    static final int         VERSION      = 1;
+
+    static final int         HEADER_SIZE  = 12;
+    static final int         ENTRY_SIZE   = 12;
+
+    static final byte        KIND_MAIN    = 0;
+    static final byte        KIND_PERT    = 1;
+
+    /**
+     * 距离(S3)的坐标编号
+     */
+    static final int         DISTANCE     = 3;
+
+    private final ByteBuffer buffer;
+
+    private ElpDataReader(ByteBuffer buffer) {
+        if (buffer.getInt(0) != MAGIC) {
+            throw new IllegalStateException("Not an ELP/MPP02 data file");
+        }
+        int version = buffer.getInt(4);
+        if (version != VERSION) {
+            throw new IllegalStateException("Unsupported ELP/MPP02 data version: " + version);
+        }
+        this.buffer = buffer;
+    }
+
+    /**
+     * 打开类路径上的系数资源
+     *
+     * @return 读取器
+     */
+    static ElpDataReader open() {
+        URL url = ElpDataReader.class.getResource(RESOURCE);
+        if (url == null) {
+            throw new IllegalStateException("Missing ELP/MPP02 data resource: " + RESOURCE);
+        }
+        try {
+            if ("file".equals(url.getProtocol())) {
+                try (FileChannel channel = FileChannel.open(Paths.get(url.toURI()),
+                        StandardOpenOption.READ)) {
+                    return new ElpDataReader(channel.map(FileChannel.MapMode.READ_ONLY, 0,
+                            channel.size()));
+                }
+            }
+            try (InputStream in = url.openStream()) {
+                return new ElpDataReader(readFully(in));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static ByteBuffer readFully(InputStream in) throws IOException {
+        ReadableByteChannel channel = Channels.newChannel(in);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(1 << 20);
+        while (channel.read(buffer) >= 0) {
+            if (!buffer.hasRemaining()) {
+                ByteBuffer larger = ByteBuffer.allocateDirect(buffer.capacity() * 2);
+                buffer.flip();
+                larger.put(buffer);
+                buffer = larger;
+            }
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    /**
+     * 找到一组级数的目录项
+     *
+     * @return 目录项的偏移
+     */
+    private int findEntry(byte kind, int coordinate, int power) {
+        int count = buffer.getInt(8);
+        for (int i = 0; i < count; i++) {
+            int entry = HEADER_SIZE + i * ENTRY_SIZE;
+            if (buffer.get(entry) == kind && buffer.get(entry + 1) == coordinate
+                    && buffer.get(entry + 2) == power) {
+                return entry;
+            }
+        }
+        throw new IllegalArgumentException("No ELP/MPP02 series: kind=" + kind + ", coordinate="
+                + coordinate + ", power=" + power);
+    }
+
+    private double[] readDoubles(ByteBuffer data, int n) {
+        double[] result = new double[n];
+        data.asDoubleBuffer().get(result);
+        data.position(data.position() + n * 8);
+        return result;
+    }
+
+    private byte[] readBytes(ByteBuffer data, int n) {
+        byte[] result = new byte[n];
+        data.get(result);
+        return result;
+    }
+
+    private ByteBuffer slice(int entry) {
+        ByteBuffer data = buffer.duplicate();
+        data.position(buffer.getInt(entry + 8));
+        return data;
+    }
+
+    /**
+     * 读取主问题的级数
+     *
+     * @param coordinate
+     *            坐标，1-3对应S1-S3
+     * @return 级数
+     */
+    ElpMainSeries readMain(int coordinate) {
+        int entry = findEntry(KIND_MAIN, coordinate, 0);
+        int n = buffer.getInt(entry + 4);
+        ByteBuffer data = slice(entry);
+        double[] aui = readDoubles(data, n);
+        double[][] bui = new double[5][];
+        for (int k = 0; k < bui.length; k++) {
+            bui[k] = readDoubles(data, n);
+        }
+        byte[] multipliers = readBytes(data, n * ElpMainSeries.ARGUMENTS);
+        return new ElpMainSeries(coordinate == DISTANCE, multipliers, aui, bui);
+    }
+
+    /**
+     * 读取摄动的级数
+     *
+     * @param coordinate
+     *            坐标，1-3对应S1-S3
+     * @param power
+     *            t的幂次，0-3
+     * @return 级数
+     */
+    ElpPertSeries readPert(int coordinate, int power) {
+        int entry = findEntry(KIND_PERT, coordinate, power);
+        int n = buffer.getInt(entry + 4);
+        ByteBuffer data = slice(entry);
+        double[] sui = readDoubles(data, n);
+        double[] cui = readDoubles(data, n);
+        byte[] multipliers = readBytes(data, n * ElpPertSeries.ARGUMENTS);
+        return new ElpPertSeries(power, coordinate == DISTANCE, multipliers, sui, cui);
+    }
+}
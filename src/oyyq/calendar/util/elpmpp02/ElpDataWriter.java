@@ -0,0 +1,151 @@
+package oyyq.calendar.util.elpmpp02;
+
+import static oyyq.calendar.util.elpmpp02.ElpDataReader.*;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import oyyq.calendar.util.elpmpp02.data.Elp_Main_S1;
+import oyyq.calendar.util.elpmpp02.data.Elp_Main_S2;
+import oyyq.calendar.util.elpmpp02.data.Elp_Main_S3;
+import oyyq.calendar.util.elpmpp02.data.Elp_Pert_S1;
+import oyyq.calendar.util.elpmpp02.data.Elp_Pert_S2;
+import oyyq.calendar.util.elpmpp02.data.Elp_Pert_S3;
+
+/**
+ * 把Elp_Main_S*和Elp_Pert_S*中的系数表转换成{@link ElpDataReader}读取的二进制资源文件。<br />
+ * 系数表修改后需要重新运行本程序生成{@value ElpDataReader#RESOURCE}。
+ *
+ * @author oyyq
+ */
+public class ElpDataWriter {
+
+    private static final Number[][]   MAIN        = {Elp_Main_S1.PARAMS, Elp_Main_S2.PARAMS,
+            Elp_Main_S3.PARAMS                   };
+
+    private static final int[]        MAIN_ITEMS  = {Elp_Main_S1.LINE_ITEMS,
+            Elp_Main_S2.LINE_ITEMS, Elp_Main_S3.LINE_ITEMS};
+
+    private static final Number[][][] PERT        = {
+            {Elp_Pert_S1.PARAMS0, Elp_Pert_S1.PARAMS1, Elp_Pert_S1.PARAMS2, Elp_Pert_S1.PARAMS3},
+            {Elp_Pert_S2.PARAMS0, Elp_Pert_S2.PARAMS1, Elp_Pert_S2.PARAMS2, Elp_Pert_S2.PARAMS3},
+            {Elp_Pert_S3.PARAMS0, Elp_Pert_S3.PARAMS1, Elp_Pert_S3.PARAMS2, Elp_Pert_S3.PARAMS3}};
+
+    private static final int[]        PERT_ITEMS  = {Elp_Pert_S1.LINE_ITEMS,
+            Elp_Pert_S2.LINE_ITEMS, Elp_Pert_S3.LINE_ITEMS};
+
+    private static final int          PERT_POWERS = 4;
+
+    /**
+     * 写出主问题的一组级数
+     *
+     * @return 项数
+     */
+    private static int writeMain(DataOutputStream out, Number[] params, int lineItems)
+            throws IOException {
+        int n = params.length / lineItems;
+        for (int k = 4; k < 10; k++) {
+            for (int j = 0; j < n; j++) {
+                out.writeDouble(params[j * lineItems + k].doubleValue());
+            }
+        }
+        for (int j = 0; j < n; j++) {
+            for (int k = 0; k < ElpMainSeries.ARGUMENTS; k++) {
+                out.writeByte(params[j * lineItems + k].intValue());
+            }
+        }
+        return n;
+    }
+
+    /**
+     * 写出摄动的一组级数
+     *
+     * @return 项数
+     */
+    private static int writePert(DataOutputStream out, Number[] params, int lineItems)
+            throws IOException {
+        int n = params.length / lineItems;
+        for (int k = 0; k < 2; k++) {
+            for (int j = 0; j < n; j++) {
+                out.writeDouble(params[j * lineItems + k].doubleValue());
+            }
+        }
+        for (int j = 0; j < n; j++) {
+            for (int k = 0; k < ElpPertSeries.ARGUMENTS; k++) {
+                out.writeByte(params[j * lineItems + 2 + k].intValue());
+            }
+        }
+        return n;
+    }
+
+    private static void align(DataOutputStream out) throws IOException {
+        while (out.size() % 8 != 0) {
+            out.writeByte(0);
+        }
+    }
+
+    /**
+     * 生成二进制资源文件
+     *
+     * @param os
+     *            输出流
+     * @throws IOException
+     *             写出失败
+     */
+    public static void write(OutputStream os) throws IOException {
+        int count = MAIN.length + PERT.length * PERT_POWERS;
+        int dataStart = HEADER_SIZE + count * ENTRY_SIZE;
+        dataStart += (8 - dataStart % 8) % 8;
+
+        ByteArrayOutputStream toc = new ByteArrayOutputStream();
+        DataOutputStream tocOut = new DataOutputStream(toc);
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        DataOutputStream bodyOut = new DataOutputStream(body);
+
+        for (int s = 0; s < MAIN.length; s++) {
+            int offset = dataStart + bodyOut.size();
+            int n = writeMain(bodyOut, MAIN[s], MAIN_ITEMS[s]);
+            align(bodyOut);
+            tocOut.writeByte(KIND_MAIN);
+            tocOut.writeByte(s + 1);
+            tocOut.writeByte(0);
+            tocOut.writeByte(0);
+            tocOut.writeInt(n);
+            tocOut.writeInt(offset);
+        }
+        for (int s = 0; s < PERT.length; s++) {
+            for (int power = 0; power < PERT_POWERS; power++) {
+                int offset = dataStart + bodyOut.size();
+                int n = writePert(bodyOut, PERT[s][power], PERT_ITEMS[s]);
+                align(bodyOut);
+                tocOut.writeByte(KIND_PERT);
+                tocOut.writeByte(s + 1);
+                tocOut.writeByte(power);
+                tocOut.writeByte(0);
+                tocOut.writeInt(n);
+                tocOut.writeInt(offset);
+            }
+        }
+
+        DataOutputStream out = new DataOutputStream(os);
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeInt(count);
+        toc.writeTo(out);
+        align(out);
+        body.writeTo(out);
+        out.flush();
+    }
+
+    public static void main(String[] args) throws IOException {
+        String path = args.length > 0 ? args[0] : "src/oyyq/calendar/util/elpmpp02/" + RESOURCE;
+        try (OutputStream os = new BufferedOutputStream(new FileOutputStream(path))) {
+            write(os);
+        }
+        System.out.println(path);
+    }
+}
@@ -0,0 +1,169 @@
+package oyyq.calendar.util.elpmpp02;
+
+/**
+ * 级数各项中非零的乘数，供{@link ElpAngleTable}求值使用。<br />
+ * 大部分项只有少数几个幅角的乘数不为零，预先把它们挑出来，求值时就只需要对这几个幅角做复数乘法。
+ *
+ * @author oyyq
+ */
+final class ElpFactors {
+
+    /**
+     * 第j项的因子是start[j]到start[j + 1] - 1
+     */
+    private final int[]  start;
+
+    /**
+     * 因子对应的幅角编号
+     */
+    private final byte[] argument;
+
+    /**
+     * 因子的乘数，不为零
+     */
+    private final byte[] multiple;
+
+    /**
+     * 乘数绝对值的最大值
+     */
+    private final int    maxMultiple;
+
+    /**
+     * 从按项依次存放的乘数中挑出非零的乘数
+     *
+     * @param multipliers
+     *            乘数
+     * @param arguments
+     *            每项的乘数个数
+     */
+    ElpFactors(byte[] multipliers, int arguments) {
+        int n = multipliers.length / arguments;
+        int count = 0;
+        for (byte m : multipliers) {
+            if (m != 0) {
+                count++;
+            }
+        }
+        this.start = new int[n + 1];
+        this.argument = new byte[count];
+        this.multiple = new byte[count];
+        int p = 0;
+        int max = 0;
+        for (int j = 0; j < n; j++) {
+            start[j] = p;
+            for (int k = 0; k < arguments; k++) {
+                byte m = multipliers[j * arguments + k];
+                if (m != 0) {
+                    argument[p] = (byte) k;
+                    multiple[p] = m;
+                    max = Math.max(max, Math.abs(m));
+                    p++;
+                }
+            }
+        }
+        start[n] = p;
+        this.maxMultiple = max;
+    }
+
+    /**
+     * @return 乘数绝对值的最大值
+     */
+    int getMaxMultiple() {
+        return maxMultiple;
+    }
+
+    /**
+     * 计算级数Σ(cosAmplitudes[j] * cos φj + sinAmplitudes[j] * sin φj)，各项的cos φj和sin φj由值表中的复数相乘得到
+     *
+     * @param cosAmplitudes
+     *            cos项的振幅，没有cos项时为null
+     * @param sinAmplitudes
+     *            sin项的振幅，没有sin项时为null
+     * @param table
+     *            当前时刻的sin、cos值表
+     * @return 级数的值
+     */
+    double sum(double[] cosAmplitudes, double[] sinAmplitudes, ElpAngleTable table) {
+        final int[] start = this.start;
+        final byte[] argument = this.argument;
+        final byte[] multiple = this.multiple;
+        final double[] cos = table.getCos();
+        final double[] sin = table.getSin();
+        final int stride = table.getStride();
+        final int zero = table.getMaxMultiple();
+        final int n = start.length - 1;
+        double result = 0.0d;
+        for (int j = 0; j < n; j++) {
+            double re = 1.0d;
+            double im = 0.0d;
+            for (int p = start[j]; p < start[j + 1]; p++) {
+                int index = argument[p] * stride + zero + multiple[p];
+                double c = cos[index];
+                double s = sin[index];
+                double r = re * c - im * s;
+                im = re * s + im * c;
+                re = r;
+            }
+            if (cosAmplitudes != null) {
+                result += cosAmplitudes[j] * re;
+            }
+            if (sinAmplitudes != null) {
+                result += sinAmplitudes[j] * im;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 同时计算级数Σ(cosAmplitudes[j] * cos φj + sinAmplitudes[j] * sin φj)和它的导数，
+     * 各项相位的变化率φj'由各幅角的变化率乘以乘数求和得到
+     *
+     * @param cosAmplitudes
+     *            cos项的振幅，没有cos项时为null
+     * @param sinAmplitudes
+     *            sin项的振幅，没有sin项时为null
+     * @param table
+     *            当前时刻的sin、cos值表
+     * @param rates
+     *            各幅角的变化率
+     * @param result
+     *            result[0]存放级数的值，result[1]存放导数
+     */
+    void sum(double[] cosAmplitudes, double[] sinAmplitudes, ElpAngleTable table, double[] rates,
+            double[] result) {
+        final int[] start = this.start;
+        final byte[] argument = this.argument;
+        final byte[] multiple = this.multiple;
+        final double[] cos = table.getCos();
+        final double[] sin = table.getSin();
+        final int stride = table.getStride();
+        final int zero = table.getMaxMultiple();
+        final int n = start.length - 1;
+        double value = 0.0d;
+        double rate = 0.0d;
+        for (int j = 0; j < n; j++) {
+            double re = 1.0d;
+            double im = 0.0d;
+            double dphi = 0.0d;
+            for (int p = start[j]; p < start[j + 1]; p++) {
+                int index = argument[p] * stride + zero + multiple[p];
+                double c = cos[index];
+                double s = sin[index];
+                double r = re * c - im * s;
+                im = re * s + im * c;
+                re = r;
+                dphi += multiple[p] * rates[argument[p]];
+            }
+            if (cosAmplitudes != null) {
+                value += cosAmplitudes[j] * re;
+                rate -= cosAmplitudes[j] * im * dphi;
+            }
+            if (sinAmplitudes != null) {
+                value += sinAmplitudes[j] * im;
+                rate += sinAmplitudes[j] * re * dphi;
+            }
+        }
+        result[0] = value;
+        result[1] = rate;
+    }
+}
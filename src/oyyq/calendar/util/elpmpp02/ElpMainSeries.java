@@ -0,0 +1,203 @@
+package oyyq.calendar.util.elpmpp02;
+
+import static java.lang.Math.cos;
+import static java.lang.Math.sin;
+import static oyyq.calendar.util.elpmpp02.ElpMpp02Constants.*;
+import oyyq.calendar.util.MathUtil;
+
+/**
+ * ELP/MPP02主问题的一组级数(ELP_MAIN.S1/S2/S3)。<br />
+ * 系数在加载时一次性转成基本类型数组：D、F、l、l'四个乘数按项依次存放在byte数组中，振幅在加载时就按拟合常数修正好，
+ * 求值时只是对sin(i1 * D + i2 * F + i3 * l + i4 * l')的乘加。
+ *
+ * @author oyyq
+ */
+final class ElpMainSeries {
+
+    /**
+     * 每项的乘数个数(i1..i4)
+     */
+    static final int         ARGUMENTS = 4;
+
+    /**
+     * 是否是距离的级数(S3)，距离用cos求和，单位是千米，经纬度用sin求和，单位是角秒
+     */
+    private final boolean    distance;
+
+    /**
+     * 乘数i1..i4，第j项的乘数从j * {@value #ARGUMENTS}开始
+     */
+    private final byte[]     multipliers;
+
+    /**
+     * 非零的乘数，供递推求值使用
+     */
+    private final ElpFactors factors;
+
+    /**
+     * 按加载时选定的拟合常数修正过的振幅aui + Δaui
+     */
+    private final double[]   amplitudes;
+
+    /**
+     * 由系数构造
+     *
+     * @param distance
+     *            是否是距离的级数
+     * @param multipliers
+     *            乘数i1..i4
+     * @param aui
+     *            振幅
+     * @param bui
+     *            振幅修正系数bu1i..bu5i
+     */
+    ElpMainSeries(boolean distance, byte[] multipliers, double[] aui, double[][] bui) {
+        this(distance, multipliers, getAmplitudes(distance, aui, bui));
+    }
+
+    private ElpMainSeries(boolean distance, byte[] multipliers, double[] amplitudes) {
+        this.distance = distance;
+        this.multipliers = multipliers;
+        this.factors = new ElpFactors(multipliers, ARGUMENTS);
+        this.amplitudes = amplitudes;
+    }
+
+    /**
+     * 计算修正后的振幅
+     */
+    private static double[] getAmplitudes(boolean distance, double[] aui, double[][] bui) {
+        double[] amplitudes = new double[aui.length];
+        for (int j = 0; j < aui.length; j++) {
+            amplitudes[j] = aui[j]
+                    + getDeltaAmplitude(distance, aui[j], bui[0][j], bui[1][j], bui[2][j], bui[3][j],
+                            bui[4][j]);
+        }
+        return amplitudes;
+    }
+
+    /**
+     * 按拟合常数计算振幅的修正值Δaui，与时间无关，只在加载时计算一次
+     */
+    private static double getDeltaAmplitude(boolean distance, double aui, double bu1i,
+            double bu2i, double bu3i, double bu4i, double bu5i) {
+        if (distance) {
+            return -M * (bu1i + 2 / 3.0 * GALPHA / M * bu5i + 2 / 3.0 * aui / M) * DELTA_GNU / GNU
+                    + (bu1i + 2 / 3.0 * GALPHA / M * bu5i) * DELTA_NP / GNU
+                    + (bu2i * DELTA_GGAMMA + bu3i * DELTA_E + bu4i * DELTA_EP);
+        }
+        return -M * (bu1i + 2 / 3.0 * GALPHA / M * bu5i) * DELTA_GNU / GNU
+                + (bu1i + 2 / 3.0 * GALPHA / M * bu5i) * DELTA_NP / GNU
+                + (bu2i * DELTA_GGAMMA + bu3i * DELTA_E + bu4i * DELTA_EP);
+    }
+
+    /**
+     * 计算各项的误差上界|aui + Δaui|
+     *
+     * @return 各项的误差上界
+     */
+    double[] getWeights() {
+        double[] weights = new double[amplitudes.length];
+        for (int j = 0; j < weights.length; j++) {
+            weights[j] = Math.abs(amplitudes[j]);
+        }
+        return weights;
+    }
+
+    /**
+     * 舍去误差上界小于阈值的项，剩下的项按振幅从大到小排列
+     *
+     * @param threshold
+     *            阈值
+     * @return 截断后的级数
+     */
+    ElpMainSeries truncate(double threshold) {
+        int[] kept = MathUtil.getTruncatedOrder(getWeights(), threshold);
+        byte[] m = new byte[kept.length * ARGUMENTS];
+        double[] a = new double[kept.length];
+        for (int j = 0; j < kept.length; j++) {
+            System.arraycopy(multipliers, kept[j] * ARGUMENTS, m, j * ARGUMENTS, ARGUMENTS);
+            a[j] = amplitudes[kept[j]];
+        }
+        return new ElpMainSeries(distance, m, a);
+    }
+
+    /**
+     * 计算级数的值
+     *
+     * @param du
+     *            D(rad)
+     * @param fu
+     *            F(rad)
+     * @param l
+     *            l(rad)
+     * @param lp
+     *            l'(rad)
+     * @return 经纬度的级数单位是角秒，距离的级数单位是千米
+     */
+    double evaluate(double du, double fu, double l, double lp) {
+        final byte[] m = multipliers;
+        final double[] a = amplitudes;
+        double result = 0.0d;
+        if (distance) {
+            for (int j = 0, i = 0; j < a.length; j++, i += ARGUMENTS) {
+                result += a[j] * cos(m[i] * du + m[i + 1] * fu + m[i + 2] * l + m[i + 3] * lp);
+            }
+        } else {
+            for (int j = 0, i = 0; j < a.length; j++, i += ARGUMENTS) {
+                result += a[j] * sin(m[i] * du + m[i + 1] * fu + m[i + 2] * l + m[i + 3] * lp);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 用各幅角整数倍的sin、cos值表计算级数的值，不再调用sin和cos
+     *
+     * @param table
+     *            当前时刻的值表，前4个幅角为D、F、l、l'
+     * @return 经纬度的级数单位是角秒，距离的级数单位是千米
+     */
+    double evaluate(ElpAngleTable table) {
+        return distance ? factors.sum(amplitudes, null, table) : factors.sum(null, amplitudes,
+                table);
+    }
+
+    /**
+     * 用值表同时计算级数的值和导数
+     *
+     * @param table
+     *            当前时刻的值表
+     * @param rates
+     *            各幅角的变化率(rad/儒略世纪)
+     * @param result
+     *            result[0]存放级数的值，result[1]存放每儒略世纪的变化量
+     */
+    void evaluate(ElpAngleTable table, double[] rates, double[] result) {
+        if (distance) {
+            factors.sum(amplitudes, null, table, rates, result);
+        } else {
+            factors.sum(null, amplitudes, table, rates, result);
+        }
+    }
+
+    /**
+     * @return 乘数绝对值的最大值
+     */
+    int getMaxMultiple() {
+        return factors.getMaxMultiple();
+    }
+
+    /**
+     * @return 是否是距离的级数
+     */
+    boolean isDistance() {
+        return distance;
+    }
+
+    /**
+     * @return 项数
+     */
+    int size() {
+        return amplitudes.length;
+    }
+}
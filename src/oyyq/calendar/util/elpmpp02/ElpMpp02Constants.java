@@ -32,21 +32,26 @@ class ElpMpp02Constants {
     static final double         LAMBDA_N_0          = (304 + 20 / 60.0 + 56.808371 / 3600.0) * D2R;
     static final double         LAMBDA_N_1          = 786547.89700 * S2R;
 
-    static final double         DELTAU_W1_0_DE      = -0.07008;
-    static final double         DELTAU_W2_0_DE      = +0.20794;
-    static final double         DELTAU_W3_0_DE      = -0.07215;
-    static final double         DELTAU_W1_1_DE      = -0.35106;
-    static final double         DELTAU_NU_DE        = DELTAU_W1_1_DE;
-    static final double         DELTAU_W2_1_DE      = +0.08017;
-    static final double         DELTAU_W3_1_DE      = -0.04317;
-    static final double         DELTAU_W1_2_DE      = -0.03743;
-    static final double         DELTAU_GGAMMA_DE    = +0.00085;
-    static final double         DELTAU_E_DE         = -0.00006;
-    static final double         DELTAU_T_0_DE       = -0.00033;
-    static final double         DELTAU_T_1_DE       = +0.00732;
-    static final double         DELTAU_NP_DE        = DELTAU_T_1_DE;
-    static final double         DELTAU_GOMEGAP_0_DE = -0.00749;
-    static final double         DELTAU_EP_DE        = +0.00224;
+    /**
+     * 加载时选定的拟合常数
+     */
+    static final ElpMpp02Fit    FIT                 = ElpMpp02Fit.fromSystemProperty();
+
+    static final double         DELTAU_W1_0         = FIT.deltaW10;
+    static final double         DELTAU_W2_0         = FIT.deltaW20;
+    static final double         DELTAU_W3_0         = FIT.deltaW30;
+    static final double         DELTAU_W1_1         = FIT.deltaW11;
+    static final double         DELTAU_NU           = DELTAU_W1_1;
+    static final double         DELTAU_W2_1         = FIT.deltaW21;
+    static final double         DELTAU_W3_1         = FIT.deltaW31;
+    static final double         DELTAU_W1_2         = FIT.deltaW12;
+    static final double         DELTAU_GGAMMA       = FIT.deltaGamma;
+    static final double         DELTAU_E            = FIT.deltaE;
+    static final double         DELTAU_T_0          = FIT.deltaT0;
+    static final double         DELTAU_T_1          = FIT.deltaT1;
+    static final double         DELTAU_NP           = DELTAU_T_1;
+    static final double         DELTAU_GOMEGAP_0    = FIT.deltaOmegap0;
+    static final double         DELTAU_EP           = FIT.deltaEp;
 
     static final double         BP_21               = +0.311079095;
     static final double         BP_22               = -0.004482398;
@@ -60,74 +65,74 @@ class ElpMpp02Constants {
     static final double         BP_34               = -0.000178028;
     static final double         BP_35               = -0.000037342;
 
-    static final double         DELTAU_W1_3         = -0.00018865;
-    static final double         DELTAU_W1_4         = -0.00001024;
-    static final double         DELTAU_W2_2         = +0.00470602;
-    static final double         DELTAU_W2_3         = -0.00025213;
-    static final double         DELTAU_W3_2         = -0.00261070;
-    static final double         DELTAU_W3_3         = -0.00010712;
+    static final double         DELTAU_W1_3         = FIT.deltaW13;
+    static final double         DELTAU_W1_4         = FIT.deltaW14;
+    static final double         DELTAU_W2_2         = FIT.deltaW22;
+    static final double         DELTAU_W2_3         = FIT.deltaW23;
+    static final double         DELTAU_W3_2         = FIT.deltaW32;
+    static final double         DELTAU_W3_3         = FIT.deltaW33;
 
-    static final double         T_0                 = (100 + 27 / 60.0 + (59.13885 + DELTAU_T_0_DE) / 3600.0)
+    static final double         T_0                 = (100 + 27 / 60.0 + (59.13885 + DELTAU_T_0) / 3600.0)
                                                             * D2R;
-    static final double         T_1                 = (129597742.2930 + DELTAU_T_1_DE) * S2R;
+    static final double         T_1                 = (129597742.2930 + DELTAU_T_1) * S2R;
     static final double         T_2                 = -0.0202 * S2R;
     static final double         T_3                 = 0.000009 * S2R;
     static final double         T_4                 = 0.00000015 * S2R;
 
     static final double         NP                  = T_1;
 
-    static final double         W1_0                = (218 + 18 / 60.0 + (59.95571 + DELTAU_W1_0_DE) / 3600.0)
+    static final double         W1_0                = (218 + 18 / 60.0 + (59.95571 + DELTAU_W1_0) / 3600.0)
                                                             * D2R;
-    static final double         W1_1                = (1732559343.73604 + DELTAU_W1_1_DE) * S2R;
+    static final double         W1_1                = (1732559343.73604 + DELTAU_W1_1) * S2R;
     static final double         GNU                 = W1_1;
     static final double         M                   = NP / GNU;
-    static final double         W1_2                = (-6.8084 + DELTAU_W1_2_DE) * S2R;
+    static final double         W1_2                = (-6.8084 + DELTAU_W1_2) * S2R;
     static final double         W1_3                = (0.006604 + DELTAU_W1_3) * S2R;
     static final double         W1_4                = (-0.00003169 + DELTAU_W1_4) * S2R;
 
-    static final double         W2_0                = (83 + 21 / 60.0 + (11.67475 + DELTAU_W2_0_DE) / 3600.0)
+    static final double         W2_0                = (83 + 21 / 60.0 + (11.67475 + DELTAU_W2_0) / 3600.0)
                                                             * D2R;
-    private static final double W21                 = (14643420.3171 + DELTAU_W2_1_DE) * S2R;
+    private static final double W21                 = (14643420.3171 + DELTAU_W2_1) * S2R;
     static final double         W2_1                = W21
                                                             + ((W21 / GNU - M
                                                                     * (BP_21 + 2 / 3.0 * GALPHA / M
                                                                             * BP_25))
-                                                                    * DELTAU_W1_1_DE
+                                                                    * DELTAU_W1_1
                                                                     + (BP_21 + 2 / 3.0 * GALPHA / M
                                                                             * BP_25)
-                                                                    * DELTAU_T_1_DE + GNU
-                                                                    * (BP_22 * DELTAU_GGAMMA_DE
-                                                                            + BP_23 * DELTAU_E_DE + BP_24
-                                                                            * DELTAU_EP_DE)) * S2R;
+                                                                    * DELTAU_T_1 + GNU
+                                                                    * (BP_22 * DELTAU_GGAMMA
+                                                                            + BP_23 * DELTAU_E + BP_24
+                                                                            * DELTAU_EP)) * S2R;
     static final double         W2_2                = (-38.2631 + DELTAU_W2_2) * S2R;
     static final double         W2_3                = (-0.045047 + DELTAU_W2_3) * S2R;
     static final double         W2_4                = 0.00021301 * S2R;
 
-    static final double         W3_0                = (125 + 2 / 60.0 + (40.39816 + DELTAU_W3_0_DE) / 3600.0)
+    static final double         W3_0                = (125 + 2 / 60.0 + (40.39816 + DELTAU_W3_0) / 3600.0)
                                                             * D2R;
-    private static final double W31                 = (-6967919.5383 + DELTAU_W3_1_DE) * S2R;
+    private static final double W31                 = (-6967919.5383 + DELTAU_W3_1) * S2R;
     static final double         W3_1                = W31
                                                             + ((W31 / GNU - M
                                                                     * (BP_31 + 2 / 3.0 * GALPHA / M
                                                                             * BP_35))
-                                                                    * DELTAU_W1_1_DE
+                                                                    * DELTAU_W1_1
                                                                     + (BP_31 + 2 / 3.0 * GALPHA / M
                                                                             * BP_35)
-                                                                    * DELTAU_T_1_DE + GNU
-                                                                    * (BP_32 * DELTAU_GGAMMA_DE
-                                                                            + BP_33 * DELTAU_E_DE + BP_34
-                                                                            * DELTAU_EP_DE)) * S2R;
+                                                                    * DELTAU_T_1 + GNU
+                                                                    * (BP_32 * DELTAU_GGAMMA
+                                                                            + BP_33 * DELTAU_E + BP_34
+                                                                            * DELTAU_EP)) * S2R;
     static final double         W3_2                = (6.3590 + DELTAU_W3_2) * S2R;
     static final double         W3_3                = (0.007625 + DELTAU_W3_3) * S2R;
     static final double         W3_4                = -0.00003586 * S2R;
 
-    static final double         DELTA_GNU           = (0.55604 + DELTAU_W1_1_DE) * S2R / W1_1;
-    static final double         DELTA_GGAMMA        = (-0.08066 + DELTAU_GGAMMA_DE) * S2R;
-    static final double         DELTA_E             = (0.01789 + DELTAU_E_DE) * S2R;
-    static final double         DELTA_EP            = (-0.12879 + DELTAU_EP_DE) * S2R;
-    static final double         DELTA_NP            = (-0.0642 + DELTAU_NP_DE) * S2R / W1_1;
+    static final double         DELTA_GNU           = (0.55604 + DELTAU_W1_1) * S2R / W1_1;
+    static final double         DELTA_GGAMMA        = (-0.08066 + DELTAU_GGAMMA) * S2R;
+    static final double         DELTA_E             = (0.01789 + DELTAU_E) * S2R;
+    static final double         DELTA_EP            = (-0.12879 + DELTAU_EP) * S2R;
+    static final double         DELTA_NP            = (-0.0642 + DELTAU_NP) * S2R / W1_1;
 
-    static final double         GOMEGAP_0           = (102 + 56 / 60.0 + (14.45766 + DELTAU_GOMEGAP_0_DE) / 3600.0)
+    static final double         GOMEGAP_0           = (102 + 56 / 60.0 + (14.45766 + DELTAU_GOMEGAP_0) / 3600.0)
                                                             * D2R;
     static final double         GOMEGAP_1           = 1161.24342 * S2R;
     static final double         GOMEGAP_2           = 0.529265 * S2R;
@@ -0,0 +1,124 @@
+package oyyq.calendar.util.elpmpp02;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * ELP/MPP02常数修正值的两套拟合结果，取自ELP/MPP02的Fortran程序(icor = 0为LLR，icor = 1为DE405)。<br />
+ * 使用哪一套在加载时由系统属性{@value #PROPERTY}决定(取值为枚举名，不区分大小写，默认为{@link #DE405})，之后不能再改变，
+ * 振幅修正和基本幅角都按这套常数在加载时算好。与Fortran程序相同，W1、W2、W3的高阶修正(Dw1_3、Dw1_4、Dw2_2、Dw2_3、
+ * Dw3_2、Dw3_3)只属于DE405的拟合，LLR的拟合中为0。
+ *
+ * @author oyyq
+ */
+public enum ElpMpp02Fit {
+
+    /**
+     * 拟合激光测月(LLR)观测的结果(icor = 0)，没有W1、W2、W3的高阶修正
+     */
+    LLR(0, -0.10525, +0.16826, -0.10760, -0.32311, +0.08017, -0.04317, -0.03794, +0.00069,
+            +0.00005, -0.04012, +0.01442, -0.04854, +0.00226, 0, 0, 0, 0, 0, 0),
+
+    /**
+     * 拟合DE405历表(1950-2060)的结果(icor = 1)，长期使用时与DE406相符
+     */
+    DE405(1, -0.07008, +0.20794, -0.07215, -0.35106, +0.08017, -0.04317, -0.03743, +0.00085,
+            -0.00006, -0.00033, +0.00732, -0.00749, +0.00224, -0.00018865, -0.00001024,
+            +0.00470602, -0.00025213, -0.00261070, -0.00010712);
+
+    /**
+     * 选择拟合常数的系统属性
+     */
+    public static final String PROPERTY = "oyyq.calendar.elpmpp02.fit";
+
+    private final int          icor;
+
+    final double               deltaW10;
+    final double               deltaW20;
+    final double               deltaW30;
+    final double               deltaW11;
+    final double               deltaW21;
+    final double               deltaW31;
+    final double               deltaW12;
+    final double               deltaGamma;
+    final double               deltaE;
+    final double               deltaT0;
+    final double               deltaT1;
+    final double               deltaOmegap0;
+    final double               deltaEp;
+    final double               deltaW13;
+    final double               deltaW14;
+    final double               deltaW22;
+    final double               deltaW23;
+    final double               deltaW32;
+    final double               deltaW33;
+
+    ElpMpp02Fit(int icor, double deltaW10, double deltaW20, double deltaW30, double deltaW11,
+            double deltaW21, double deltaW31, double deltaW12, double deltaGamma, double deltaE,
+            double deltaT0, double deltaT1, double deltaOmegap0, double deltaEp, double deltaW13,
+            double deltaW14, double deltaW22, double deltaW23, double deltaW32, double deltaW33) {
+        this.icor = icor;
+        this.deltaW10 = deltaW10;
+        this.deltaW20 = deltaW20;
+        this.deltaW30 = deltaW30;
+        this.deltaW11 = deltaW11;
+        this.deltaW21 = deltaW21;
+        this.deltaW31 = deltaW31;
+        this.deltaW12 = deltaW12;
+        this.deltaGamma = deltaGamma;
+        this.deltaE = deltaE;
+        this.deltaT0 = deltaT0;
+        this.deltaT1 = deltaT1;
+        this.deltaOmegap0 = deltaOmegap0;
+        this.deltaEp = deltaEp;
+        this.deltaW13 = deltaW13;
+        this.deltaW14 = deltaW14;
+        this.deltaW22 = deltaW22;
+        this.deltaW23 = deltaW23;
+        this.deltaW32 = deltaW32;
+        this.deltaW33 = deltaW33;
+    }
+
+    /**
+     * @return Fortran程序中这套常数的编号icor
+     */
+    public int getIcor() {
+        return icor;
+    }
+
+    /**
+     * @param icor
+     *            Fortran程序中的编号
+     * @return 编号对应的拟合常数
+     * @throws IllegalArgumentException
+     *             没有这个编号
+     */
+    public static ElpMpp02Fit fromIcor(int icor) {
+        for (ElpMpp02Fit fit : values()) {
+            if (fit.icor == icor) {
+                return fit;
+            }
+        }
+        throw new IllegalArgumentException("No ELP/MPP02 fit with icor = " + icor);
+    }
+
+    /**
+     * 按系统属性{@value #PROPERTY}取得拟合常数
+     *
+     * @return 系统属性指定的拟合常数，没有指定时返回{@link #DE405}
+     * @throws IllegalStateException
+     *             系统属性的值不是枚举名
+     */
+    static ElpMpp02Fit fromSystemProperty() {
+        String name = System.getProperty(PROPERTY);
+        if (name == null) {
+            return DE405;
+        }
+        try {
+            return valueOf(name.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalStateException("Invalid value for " + PROPERTY + ": \"" + name
+                    + "\", expected one of " + Arrays.toString(values()), e);
+        }
+    }
+}
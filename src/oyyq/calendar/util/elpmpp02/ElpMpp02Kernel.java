@@ -0,0 +1,19 @@
+package oyyq.calendar.util.elpmpp02;
+
+/**
+ * ELP/MPP02级数的求值方式
+ *
+ * @author oyyq
+ */
+public enum ElpMpp02Kernel {
+
+    /**
+     * 每一项都先求出幅角的线性组合，再调用sin和cos
+     */
+    DIRECT,
+
+    /**
+     * 每个时刻只对13个基本幅角各调用一次sin和cos，用递推得到各整数倍的值，每一项由这些值的复数乘积得到
+     */
+    RECURRENCE
+}
@@ -0,0 +1,137 @@
+package oyyq.calendar.util.elpmpp02;
+
+/**
+ * ELP/MPP02的各组级数。每组级数在第一次用到时才从资源文件读取，读取过程是线程安全的，并发的第一次调用只会读取一次。<br />
+ * 只计算黄经的程序只会读取S1的级数，需要在启动时预先读取的可以调用{@link #load()}或
+ * {@link ElpMpp02Util#preload(ElpMpp02Series...)}。
+ *
+ * @author oyyq
+ */
+public enum ElpMpp02Series {
+
+    MAIN_S1(ElpDataReader.KIND_MAIN, 1, 0),
+    MAIN_S2(ElpDataReader.KIND_MAIN, 2, 0),
+    MAIN_S3(ElpDataReader.KIND_MAIN, 3, 0),
+    PERT_S1_T0(ElpDataReader.KIND_PERT, 1, 0),
+    PERT_S1_T1(ElpDataReader.KIND_PERT, 1, 1),
+    PERT_S1_T2(ElpDataReader.KIND_PERT, 1, 2),
+    PERT_S1_T3(ElpDataReader.KIND_PERT, 1, 3),
+    PERT_S2_T0(ElpDataReader.KIND_PERT, 2, 0),
+    PERT_S2_T1(ElpDataReader.KIND_PERT, 2, 1),
+    PERT_S2_T2(ElpDataReader.KIND_PERT, 2, 2),
+    PERT_S2_T3(ElpDataReader.KIND_PERT, 2, 3),
+    PERT_S3_T0(ElpDataReader.KIND_PERT, 3, 0),
+    PERT_S3_T1(ElpDataReader.KIND_PERT, 3, 1),
+    PERT_S3_T2(ElpDataReader.KIND_PERT, 3, 2),
+    PERT_S3_T3(ElpDataReader.KIND_PERT, 3, 3);
+
+    /**
+     * 资源文件在第一次读取级数时才打开
+     */
+    private static class DataHolder {
+        static final ElpDataReader DATA = ElpDataReader.open();
+    }
+
+    private final byte      kind;
+    private final int       coordinate;
+    private final int       power;
+
+    /**
+     * 已读取的级数，ElpMainSeries或ElpPertSeries
+     */
+    private volatile Object series;
+
+    ElpMpp02Series(byte kind, int coordinate, int power) {
+        this.kind = kind;
+        this.coordinate = coordinate;
+        this.power = power;
+    }
+
+    /**
+     * @return 坐标，1-3对应S1-S3(黄经、黄纬、距离)
+     */
+    public int getCoordinate() {
+        return coordinate;
+    }
+
+    /**
+     * @return 主问题的级数返回0，摄动的级数返回t的幂次
+     */
+    public int getPower() {
+        return power;
+    }
+
+    /**
+     * @return 是否是摄动的级数
+     */
+    public boolean isPerturbation() {
+        return kind == ElpDataReader.KIND_PERT;
+    }
+
+    /**
+     * @return 是否已经读取
+     */
+    public boolean isLoaded() {
+        return series != null;
+    }
+
+    /**
+     * 读取这组级数，已经读取过的直接返回
+     */
+    public void load() {
+        get();
+    }
+
+    private Object get() {
+        Object result = series;
+        if (result == null) {
+            synchronized (this) {
+                result = series;
+                if (result == null) {
+                    result = kind == ElpDataReader.KIND_MAIN ? DataHolder.DATA.readMain(coordinate)
+                            : DataHolder.DATA.readPert(coordinate, power);
+                    series = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return 主问题的级数
+     */
+    ElpMainSeries main() {
+        return (ElpMainSeries) get();
+    }
+
+    /**
+     * @return 摄动的级数
+     */
+    ElpPertSeries pert() {
+        return (ElpPertSeries) get();
+    }
+
+    /**
+     * 某一坐标的主问题级数
+     *
+     * @param coordinate
+     *            坐标，1-3对应S1-S3
+     * @return 级数
+     */
+    static ElpMpp02Series main(int coordinate) {
+        return values()[coordinate - 1];
+    }
+
+    /**
+     * 某一坐标的摄动级数
+     *
+     * @param coordinate
+     *            坐标，1-3对应S1-S3
+     * @param power
+     *            t的幂次，0-3
+     * @return 级数
+     */
+    static ElpMpp02Series pert(int coordinate, int power) {
+        return values()[3 + (coordinate - 1) * 4 + power];
+    }
+}
@@ -1,18 +1,19 @@
 package oyyq.calendar.util.elpmpp02;
 
 import static java.lang.Math.PI;
-import static java.lang.Math.cos;
-import static java.lang.Math.sin;
+import static oyyq.calendar.util.CalendarUtil.DAYS_OF_CENTURY;
+import static oyyq.calendar.util.CalendarUtil.J2000;
 import static oyyq.calendar.util.CalendarUtil.getJulianCentury;
 import static oyyq.calendar.util.MathUtil.mod2Pi;
+import static oyyq.calendar.util.MathUtil.modPi;
 import static oyyq.calendar.util.MathUtil.secondsToRadians;
 import static oyyq.calendar.util.elpmpp02.ElpMpp02Constants.*;
-import oyyq.calendar.util.elpmpp02.data.Elp_Main;
-import oyyq.calendar.util.elpmpp02.data.Elp_Main_S1;
-import oyyq.calendar.util.elpmpp02.data.Elp_Main_S3;
-import oyyq.calendar.util.elpmpp02.data.Elp_Pert;
-import oyyq.calendar.util.elpmpp02.data.Elp_Pert_S1;
-import oyyq.calendar.util.elpmpp02.data.Elp_Pert_S3;
+import static oyyq.calendar.util.iau.Iau2000BUtil.getLongitudeNutation;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import oyyq.calendar.util.Precision;
+import oyyq.calendar.util.Vsop87dEarthUtil;
 
 public class ElpMpp02Util {
 
@@ -220,110 +221,285 @@ public class ElpMpp02Util {
         return GOMEGAP_0 + GOMEGAP_1 * t + GOMEGAP_2 * t2 + GOMEGAP_3 * t3 + GOMEGAP_4 * t4;
     }
 
-    private static double getMain(double t, Class<? extends Elp_Main> clazz) throws Exception {
-        Number[] params = (Number[]) clazz.getField("PARAMS").get(null);
-        int lineItems = clazz.getField("LINE_ITEMS").getInt(null);
-        double result = 0.0d;
-        double du = getDu(t);
-        double fu = getFu(t);
-        double l = getL(t);
-        double lp = getLp(t);
-        for (int i = 0; i < params.length; i += lineItems) {
-            int i1 = params[i].intValue();
-            int i2 = params[i + 1].intValue();
-            int i3 = params[i + 2].intValue();
-            int i4 = params[i + 3].intValue();
-            double aui = params[i + 4].doubleValue();
-            double bu1i = params[i + 5].doubleValue();
-            double bu2i = params[i + 6].doubleValue();
-            double bu3i = params[i + 7].doubleValue();
-            double bu4i = params[i + 8].doubleValue();
-            double bu5i = params[i + 9].doubleValue();
-            if (clazz.getSimpleName().equals(Elp_Main_S3.class.getSimpleName())) {
-                double deltaaui = -M * (bu1i + 2 / 3.0 * GALPHA / M * bu5i + 2 / 3.0 * aui / M)
-                        * DELTA_GNU / GNU + (bu1i + 2 / 3.0 * GALPHA / M * bu5i) * DELTA_NP / GNU
-                        + (bu2i * DELTA_GGAMMA + bu3i * DELTA_E + bu4i * DELTA_EP);
-                result += (aui + deltaaui) * (cos(i1 * du + i2 * fu + i3 * l + i4 * lp));
-            } else {
-                double deltaaui = -M * (bu1i + 2 / 3.0 * GALPHA / M * bu5i) * DELTA_GNU / GNU
-                        + (bu1i + 2 / 3.0 * GALPHA / M * bu5i) * DELTA_NP / GNU
-                        + (bu2i * DELTA_GGAMMA + bu3i * DELTA_E + bu4i * DELTA_EP);
-                result += (aui + deltaaui) * (sin(i1 * du + i2 * fu + i3 * l + i4 * lp));
-            }
-        }
-        return clazz.getSimpleName().equals(Elp_Main_S3.class.getSimpleName()) ? result
-                : secondsToRadians(result);
+    /**
+     * 按t计算ELP/MPP02需要的13个基本幅角，主问题只用到前4个
+     *
+     * @param t
+     *            儒略世纪数
+     * @return D、F、l、l'、Me、V、T、Ma、J、S、U、N、ζ的值(rad)
+     */
+    private static double[] getArguments(double t) {
+        return new double[] {getDu(t), getFu(t), getL(t), getLp(t), getMeu(t), getVu(t), getTu(t),
+                getMau(t), getJu(t), getSu(t), getUu(t), getNu(t), getGzeta(t)};
     }
 
-    private static double getPert(double t, Class<? extends Elp_Pert> clazz) throws Exception {
+    /**
+     * 按t计算13个基本幅角的变化率，各幅角多项式逐项求导
+     *
+     * @param t
+     *            儒略世纪数
+     * @return D、F、l、l'、Me、V、T、Ma、J、S、U、N、ζ每儒略世纪的变化量(rad)
+     */
+    private static double[] getArgumentRates(double t) {
         double t2 = t * t;
         double t3 = t2 * t;
-        double[] pow = {1.0, t, t2, t3};
-        int lineItems = clazz.getField("LINE_ITEMS").getInt(null);
-
-        double du = getDu(t);
-        double fu = getFu(t);
-        double l = getL(t);
-        double lp = getLp(t);
-        double meu = getMeu(t);
-        double vu = getVu(t);
-        double tu = getTu(t);
-        double mau = getMau(t);
-        double ju = getJu(t);
-        double su = getSu(t);
-        double uu = getUu(t);
-        double nu = getNu(t);
-        double gzeta = getGzeta(t);
-
-        double result = 0.0d;
-        for (int n = 0; n < 4; n++) {
-            Number[] params = (Number[]) clazz.getField("PARAMS" + n).get(null);
-            for (int i = 0; i < params.length; i += lineItems) {
-                double sui = params[i].doubleValue();
-                double cui = params[i + 1].doubleValue();
-                int i1 = params[i + 2].intValue();
-                int i2 = params[i + 3].intValue();
-                int i3 = params[i + 4].intValue();
-                int i4 = params[i + 5].intValue();
-                int i5 = params[i + 6].intValue();
-                int i6 = params[i + 7].intValue();
-                int i7 = params[i + 8].intValue();
-                int i8 = params[i + 9].intValue();
-                int i9 = params[i + 10].intValue();
-                int i10 = params[i + 11].intValue();
-                int i11 = params[i + 12].intValue();
-                int i12 = params[i + 13].intValue();
-                int i13 = params[i + 14].intValue();
-                double gphi = i1 * du + i2 * fu + i3 * l + i4 * lp + i5 * meu + i6 * vu + i7 * tu
-                        + i8 * mau + i9 * ju + i10 * su + i11 * uu + i12 * nu + i13 * gzeta;
-                result += pow[n] * (sui * sin(gphi) + cui * cos(gphi));
+        double w1 = W1_1 + 2 * W1_2 * t + 3 * W1_3 * t2 + 4 * W1_4 * t3;
+        double w2 = W2_1 + 2 * W2_2 * t + 3 * W2_3 * t2 + 4 * W2_4 * t3;
+        double w3 = W3_1 + 2 * W3_2 * t + 3 * W3_3 * t2 + 4 * W3_4 * t3;
+        double tu = T_1 + 2 * T_2 * t + 3 * T_3 * t2 + 4 * T_4 * t3;
+        double gomegap = GOMEGAP_1 + 2 * GOMEGAP_2 * t + 3 * GOMEGAP_3 * t2 + 4 * GOMEGAP_4 * t3;
+        return new double[] {w1 - tu, w1 - w3, w1 - w2, tu - gomegap, LAMBDA_ME_1, LAMBDA_V_1, tu,
+                LAMBDA_MA_1, LAMBDA_J_1, LAMBDA_S_1, LAMBDA_U_1, LAMBDA_N_1,
+                w1 + secondsToRadians(P - DELTAU_P)};
+    }
+
+    /**
+     * 按坐标和精度等级缓存的级数，下标为(坐标 - 1) * 等级数 + {@link Precision#ordinal()}
+     */
+    private static final AtomicReferenceArray<ElpCoordinateSeries> SERIES = new AtomicReferenceArray<ElpCoordinateSeries>(
+            3 * Precision.values().length);
+
+    /**
+     * 取某一坐标在某一精度等级下的级数，截断的级数在第一次用到时生成
+     */
+    private static ElpCoordinateSeries getSeries(int coordinate, Precision precision) {
+        int index = (coordinate - 1) * Precision.values().length + precision.ordinal();
+        ElpCoordinateSeries result = SERIES.get(index);
+        if (result == null) {
+            result = precision == Precision.FULL ? ElpCoordinateSeries.load(coordinate)
+                    : getSeries(coordinate, Precision.FULL).truncate(precision);
+            if (!SERIES.compareAndSet(index, null, result)) {
+                result = SERIES.get(index);
             }
         }
-        return clazz.getSimpleName().equals(Elp_Pert_S3.class.getSimpleName()) ? result
-                : secondsToRadians(result);
+        return result;
     }
 
     /**
-     * 按儒略日计算月球的地心黄经
+     * IAU 2006的黄经总岁差p<sub>A</sub> = 5028.796195˝ * t + 1.1054348˝ * t² + 0.00007964˝ * t³ - 0.000023857˝ *
+     * t⁴ - 0.0000000383˝ * t⁵
+     * 
+     * @param t
+     *            儒略世纪数
+     * @return p<sub>A</sub>的值(rad)
+     */
+    private static double getPrecessionInLongitude(double t) {
+        double pa = ((((-0.0000000383 * t - 0.000023857) * t + 0.00007964) * t + 1.1054348) * t
+                + 5028.796195) * t;
+        return secondsToRadians(pa);
+    }
+
+    /**
+     * p<sub>A</sub>的变化率
+     * 
+     * @param t
+     *            儒略世纪数
+     * @return 每儒略世纪的变化量(rad)
+     */
+    private static double getPrecessionRateInLongitude(double t) {
+        double rate = (((-0.0000001915 * t - 0.000095428) * t + 0.00023892) * t + 2.2108696) * t
+                + 5028.796195;
+        return secondsToRadians(rate);
+    }
+
+    /**
+     * @return 加载时按系统属性{@value ElpMpp02Fit#PROPERTY}选定的拟合常数
+     */
+    public static ElpMpp02Fit getFit() {
+        return FIT;
+    }
+
+    /**
+     * 预先读取指定的级数，没有指定时读取全部级数。各组级数本来会在第一次用到时读取，在启动时调用本方法可以避免第一次计算时的延迟。
+     *
+     * @param series
+     *            要读取的级数
+     */
+    public static void preload(ElpMpp02Series... series) {
+        if (series.length == 0) {
+            series = ElpMpp02Series.values();
+        }
+        for (ElpMpp02Series s : series) {
+            s.load();
+        }
+    }
+
+    /**
+     * 按儒略日计算月球的地心黄经，使用{@link ElpMpp02Kernel#RECURRENCE}方式求值。<br />
+     * ELP/MPP02的黄经是在当天的黄道上从J2000的起始点γ'<sub>2000</sub>量起的，要与当天的春分点比较，可以用
+     * {@link #getEarthApparentLongitudeForMoon(double)}。
      * 
      * @param jd
      *            儒略日
      * @return 月球的地心黄经，单位是弧度(rad)
      */
     public static double getEarthEclipticLongitudeForMoon(double jd) {
+        return getEarthEclipticLongitudeForMoon(jd, Precision.FULL, ElpMpp02Kernel.RECURRENCE);
+    }
+
+    /**
+     * 按儒略日计算月球的地心黄经
+     * 
+     * @param jd
+     *            儒略日
+     * @param kernel
+     *            级数的求值方式
+     * @return 月球的地心黄经，单位是弧度(rad)
+     */
+    public static double getEarthEclipticLongitudeForMoon(double jd, ElpMpp02Kernel kernel) {
+        return getEarthEclipticLongitudeForMoon(jd, Precision.FULL, kernel);
+    }
+
+    /**
+     * 按儒略日和精度等级计算月球的地心黄经，使用{@link ElpMpp02Kernel#RECURRENCE}方式求值
+     * 
+     * @param jd
+     *            儒略日
+     * @param precision
+     *            精度等级
+     * @return 月球的地心黄经，单位是弧度(rad)
+     */
+    public static double getEarthEclipticLongitudeForMoon(double jd, Precision precision) {
+        return getEarthEclipticLongitudeForMoon(jd, precision, ElpMpp02Kernel.RECURRENCE);
+    }
+
+    /**
+     * 按儒略日和精度等级计算月球的地心黄经
+     * 
+     * @param jd
+     *            儒略日
+     * @param precision
+     *            精度等级
+     * @param kernel
+     *            级数的求值方式
+     * @return 月球的地心黄经，单位是弧度(rad)
+     */
+    public static double getEarthEclipticLongitudeForMoon(double jd, Precision precision,
+            ElpMpp02Kernel kernel) {
         double t = getJulianCentury(jd);
-        double main = 0.0d;
-        double pert = 0.0d;
-        try {
-            main = getMain(t, Elp_Main_S1.class);
-            pert = getPert(t, Elp_Pert_S1.class);
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
-        return mod2Pi(main + pert + getW1u(t));
+        double[] args = getArguments(t);
+        ElpCoordinateSeries series = getSeries(1, precision);
+        ElpAngleTable table = kernel == ElpMpp02Kernel.RECURRENCE ? series.getAngleTable(args)
+                : null;
+        return mod2Pi(series.evaluate(t, args, table) + getW1u(t));
+    }
+
+    /**
+     * 按儒略日计算月球的地心视黄经
+     * 
+     * @param jd
+     *            儒略日
+     * @return 月球的地心视黄经，单位是弧度(rad)
+     */
+    public static double getEarthApparentLongitudeForMoon(double jd) {
+        return getEarthApparentLongitudeForMoon(jd, Precision.FULL);
     }
 
+    /**
+     * 按儒略日和精度等级计算月球的地心视黄经：ELP/MPP02的黄经加上从γ'<sub>2000</sub>到当天春分点的黄经总岁差，再修正章动，
+     * 可以直接与{@link Vsop87dEarthUtil#getEarthEclipticLongitudeForSun(double, Precision)}比较
+     * 
+     * @param jd
+     *            儒略日
+     * @param precision
+     *            精度等级
+     * @return 月球的地心视黄经，单位是弧度(rad)
+     */
+    public static double getEarthApparentLongitudeForMoon(double jd, Precision precision) {
+        double l = getEarthEclipticLongitudeForMoon(jd, precision, ElpMpp02Kernel.RECURRENCE);
+        return mod2Pi(l + getPrecessionInLongitude(getJulianCentury(jd)) + getLongitudeNutation(jd));
+    }
+
+    /**
+     * 按儒略日和精度等级同时计算月球的地心视黄经和它的变化率。<br />
+     * 变化率由级数逐项求导得到，包括基本幅角、t的幂次和岁差的变化，没有计入章动的变化率(相对影响小于10<sup>-5</sup>)。
+     * 
+     * @param jd
+     *            儒略日
+     * @param precision
+     *            精度等级
+     * @param result
+     *            result[0]存放月球的地心视黄经(rad)，result[1]存放每日的变化量(rad)
+     */
+    public static void getEarthApparentLongitudeForMoon(double jd, Precision precision,
+            double[] result) {
+        double t = getJulianCentury(jd);
+        double[] args = getArguments(t);
+        ElpCoordinateSeries series = getSeries(1, precision);
+        series.evaluate(t, series.getAngleTable(args), getArgumentRates(t), result);
+        double t2 = t * t;
+        double w1 = W1_1 + 2 * W1_2 * t + 3 * W1_3 * t2 + 4 * W1_4 * t2 * t;
+        double l = mod2Pi(result[0] + getW1u(t));
+        result[0] = mod2Pi(l + getPrecessionInLongitude(t) + getLongitudeNutation(jd));
+        result[1] = (result[1] + w1 + getPrecessionRateInLongitude(t)) / DAYS_OF_CENTURY;
+    }
+
+    /**
+     * 某一精度等级下黄经级数保留的项数
+     * 
+     * @param precision
+     *            精度等级
+     * @return 主问题和摄动的项数之和
+     */
+    public static int getTermCount(Precision precision) {
+        return getSeries(1, precision).size();
+    }
+
+    /**
+     * 比较两种求值方式以及各精度等级的精度和速度
+     */
     public static void main(String[] args) {
         System.out.println(getEarthEclipticLongitudeForMoon(0));
+
+        // 精度：-2000年到6000年之间随机取样，比较两种求值方式的差
+        java.util.Random random = new java.util.Random(2015);
+        double maxDiff = 0.0d;
+        for (int i = 0; i < 2000; i++) {
+            double jd = J2000 + (random.nextDouble() * 80 - 40) * DAYS_OF_CENTURY;
+            double diff = modPi(getEarthEclipticLongitudeForMoon(jd, ElpMpp02Kernel.DIRECT)
+                    - getEarthEclipticLongitudeForMoon(jd, ElpMpp02Kernel.RECURRENCE));
+            maxDiff = Math.max(maxDiff, Math.abs(diff));
+        }
+        System.out.println(String.format("max difference: %.3e rad (%.3e\")", maxDiff,
+                Math.toDegrees(maxDiff) * 3600));
+
+        // 速度
+        for (ElpMpp02Kernel kernel : new ElpMpp02Kernel[] {ElpMpp02Kernel.DIRECT,
+                ElpMpp02Kernel.RECURRENCE, ElpMpp02Kernel.DIRECT, ElpMpp02Kernel.RECURRENCE}) {
+            final int n = 2000;
+            double sum = 0.0d;
+            long start = System.nanoTime();
+            for (int i = 0; i < n; i++) {
+                sum += getEarthEclipticLongitudeForMoon(J2000 + i * 0.37, kernel);
+            }
+            long elapsed = System.nanoTime() - start;
+            System.out.println(String.format("%-10s %8.1f us/call, %8.0f calls/s (%f)", kernel,
+                    elapsed / 1e3 / n, n * 1e9 / elapsed, sum));
+        }
+
+        // 各精度等级的项数、实际误差和速度
+        double[] samples = new double[500];
+        for (int i = 0; i < samples.length; i++) {
+            samples[i] = J2000 + (random.nextDouble() * 80 - 40) * DAYS_OF_CENTURY;
+        }
+        for (Precision precision : Precision.values()) {
+            maxDiff = 0.0d;
+            for (double sample : samples) {
+                double diff = modPi(getEarthEclipticLongitudeForMoon(sample, precision)
+                        - getEarthEclipticLongitudeForMoon(sample));
+                maxDiff = Math.max(maxDiff, Math.abs(diff));
+            }
+            double sum = 0.0d;
+            long start = System.nanoTime();
+            for (int k = 0; k < 4; k++) {
+                for (double sample : samples) {
+                    sum += getEarthEclipticLongitudeForMoon(sample, precision);
+                }
+            }
+            long elapsed = System.nanoTime() - start;
+            System.out.println(String.format("%-10s terms %6d max error %8.4f\" %8.1f us/call (%f)",
+                    precision, getTermCount(precision), Math.toDegrees(maxDiff) * 3600, elapsed
+                            / 1e3 / samples.length / 4, sum));
+        }
     }
 }
@@ -0,0 +1,185 @@
+package oyyq.calendar.util.elpmpp02;
+
+import static java.lang.Math.cos;
+import static java.lang.Math.sin;
+import oyyq.calendar.util.MathUtil;
+
+/**
+ * ELP/MPP02摄动的一组级数(ELP_PERT.S1/S2/S3中t的某一次幂)。<br />
+ * 13个乘数按项依次存放在byte数组中，sin和cos的振幅各占一个double数组，求值时不再有反射、装箱和字符串比较。
+ *
+ * @author oyyq
+ */
+final class ElpPertSeries {
+
+    /**
+     * 每项的乘数个数(i1..i13)，分别对应D、F、l、l'、Me、V、T、Ma、J、S、U、N、ζ
+     */
+    static final int         ARGUMENTS = 13;
+
+    /**
+     * t的幂次
+     */
+    private final int        power;
+
+    /**
+     * 是否是距离的级数(S3)
+     */
+    private final boolean    distance;
+
+    /**
+     * 乘数i1..i13，第j项的乘数从j * {@value #ARGUMENTS}开始
+     */
+    private final byte[]     multipliers;
+
+    /**
+     * 非零的乘数，供递推求值使用
+     */
+    private final ElpFactors factors;
+
+    /**
+     * sin项的振幅
+     */
+    private final double[]   sui;
+
+    /**
+     * cos项的振幅
+     */
+    private final double[]   cui;
+
+    /**
+     * 由系数构造
+     *
+     * @param power
+     *            t的幂次n
+     * @param distance
+     *            是否是距离的级数
+     * @param multipliers
+     *            乘数i1..i13
+     * @param sui
+     *            sin项的振幅
+     * @param cui
+     *            cos项的振幅
+     */
+    ElpPertSeries(int power, boolean distance, byte[] multipliers, double[] sui, double[] cui) {
+        this.power = power;
+        this.distance = distance;
+        this.multipliers = multipliers;
+        this.factors = new ElpFactors(multipliers, ARGUMENTS);
+        this.sui = sui;
+        this.cui = cui;
+    }
+
+    /**
+     * 计算各项的误差上界<i>sqrt(sui² + cui²) * tMax<sup>n</sup></i>
+     *
+     * @param tMax
+     *            t的绝对值的最大值
+     * @return 各项的误差上界
+     */
+    double[] getWeights(double tMax) {
+        double[] weights = new double[sui.length];
+        double scale = Math.pow(tMax, power);
+        for (int j = 0; j < weights.length; j++) {
+            weights[j] = Math.hypot(sui[j], cui[j]) * scale;
+        }
+        return weights;
+    }
+
+    /**
+     * 舍去误差上界小于阈值的项，剩下的项按误差上界从大到小排列
+     *
+     * @param threshold
+     *            阈值
+     * @param tMax
+     *            t的绝对值的最大值
+     * @return 截断后的级数
+     */
+    ElpPertSeries truncate(double threshold, double tMax) {
+        int[] kept = MathUtil.getTruncatedOrder(getWeights(tMax), threshold);
+        byte[] m = new byte[kept.length * ARGUMENTS];
+        double[] s = new double[kept.length];
+        double[] c = new double[kept.length];
+        for (int j = 0; j < kept.length; j++) {
+            System.arraycopy(multipliers, kept[j] * ARGUMENTS, m, j * ARGUMENTS, ARGUMENTS);
+            s[j] = sui[kept[j]];
+            c[j] = cui[kept[j]];
+        }
+        return new ElpPertSeries(power, distance, m, s, c);
+    }
+
+    /**
+     * 计算级数的值，不含t的幂次
+     *
+     * @param args
+     *            13个基本幅角(rad)，顺序同乘数
+     * @return 经纬度的级数单位是角秒，距离的级数单位是千米
+     */
+    double evaluate(double[] args) {
+        final byte[] m = multipliers;
+        final double a0 = args[0], a1 = args[1], a2 = args[2], a3 = args[3], a4 = args[4];
+        final double a5 = args[5], a6 = args[6], a7 = args[7], a8 = args[8], a9 = args[9];
+        final double a10 = args[10], a11 = args[11], a12 = args[12];
+        double result = 0.0d;
+        for (int j = 0, i = 0; j < sui.length; j++, i += ARGUMENTS) {
+            double gphi = m[i] * a0 + m[i + 1] * a1 + m[i + 2] * a2 + m[i + 3] * a3 + m[i + 4] * a4
+                    + m[i + 5] * a5 + m[i + 6] * a6 + m[i + 7] * a7 + m[i + 8] * a8 + m[i + 9] * a9
+                    + m[i + 10] * a10 + m[i + 11] * a11 + m[i + 12] * a12;
+            result += sui[j] * sin(gphi) + cui[j] * cos(gphi);
+        }
+        return result;
+    }
+
+    /**
+     * 用各幅角整数倍的sin、cos值表计算级数的值，不含t的幂次，不再调用sin和cos
+     *
+     * @param table
+     *            当前时刻的值表，幅角顺序同乘数
+     * @return 经纬度的级数单位是角秒，距离的级数单位是千米
+     */
+    double evaluate(ElpAngleTable table) {
+        return factors.sum(cui, sui, table);
+    }
+
+    /**
+     * 用值表同时计算级数的值和导数，不含t的幂次
+     *
+     * @param table
+     *            当前时刻的值表
+     * @param rates
+     *            各幅角的变化率(rad/儒略世纪)
+     * @param result
+     *            result[0]存放级数的值，result[1]存放每儒略世纪的变化量
+     */
+    void evaluate(ElpAngleTable table, double[] rates, double[] result) {
+        factors.sum(cui, sui, table, rates, result);
+    }
+
+    /**
+     * @return 乘数绝对值的最大值
+     */
+    int getMaxMultiple() {
+        return factors.getMaxMultiple();
+    }
+
+    /**
+     * @return t的幂次
+     */
+    int getPower() {
+        return power;
+    }
+
+    /**
+     * @return 是否是距离的级数
+     */
+    boolean isDistance() {
+        return distance;
+    }
+
+    /**
+     * @return 项数
+     */
+    int size() {
+        return sui.length;
+    }
+}
@@ -5,6 +5,8 @@ import static java.lang.Math.sin;
 import static java.lang.Math.toRadians;
 import static oyyq.calendar.util.CalendarUtil.getJulianCentury;
 import oyyq.calendar.util.CalendarUtil;
+import oyyq.calendar.util.metrics.SolverMetrics;
+import oyyq.calendar.util.metrics.SolverMetrics.Component;
 
 /**
  * 根据IAU 2000B的数据计算章动
@@ -225,13 +227,16 @@ public class Iau2000BUtil {
      * @return 章动的值(rad)
      */
     public static double getLongitudeNutation(double jd) {
+        long start = SolverMetrics.start();
         double t = getJulianCentury(jd);
         double l = getL(t);
         double lp = getLp(t);
         double f = getF(t);
         double d = getD(t);
         double om = getOm(t);
-        return getLongitudeNutation(t, l, lp, f, d, om);
+        double result = getLongitudeNutation(t, l, lp, f, d, om);
+        SolverMetrics.record(Component.NUTATION, start);
+        return result;
     }
 
     /**
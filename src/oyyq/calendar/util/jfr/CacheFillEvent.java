@@ -0,0 +1,64 @@
+package oyyq.calendar.util.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * 切比雪夫缓存拟合一段的JFR事件，在{@link oyyq.calendar.util.ChebyshevCache}缓存未命中时产生
+ * 
+ * @author oyyq
+ */
+@Name("oyyq.calendar.CacheFill")
+@Label("Ephemeris Cache Fill")
+@Category({ "Calendar", "Cache" })
+@Description("缓存未命中时由级数拟合一段")
+public final class CacheFillEvent extends Event {
+
+    @Label("Cache")
+    String cache;
+
+    @Label("Segment Start")
+    @Description("段起点的儒略日")
+    double segmentStart;
+
+    @Label("Segment Length")
+    @Description("段长(日)")
+    double segmentLength;
+
+    @Label("Coefficients")
+    int    coefficients;
+
+    @Label("Fit Error")
+    @Description("拟合误差的估计")
+    double fitError;
+
+    /**
+     * 结束计时，JFR在记录这个事件时填入字段并提交
+     * 
+     * @param cache
+     *            缓存名
+     * @param segmentStart
+     *            段起点的儒略日
+     * @param segmentLength
+     *            段长(日)
+     * @param coefficients
+     *            系数个数
+     * @param fitError
+     *            拟合误差的估计
+     */
+    public void finish(String cache, double segmentStart, double segmentLength,
+            int coefficients, double fitError) {
+        end();
+        if (shouldCommit()) {
+            this.cache = cache;
+            this.segmentStart = segmentStart;
+            this.segmentLength = segmentLength;
+            this.coefficients = coefficients;
+            this.fitError = fitError;
+            commit();
+        }
+    }
+}
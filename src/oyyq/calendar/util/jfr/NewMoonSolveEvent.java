@@ -0,0 +1,76 @@
+package oyyq.calendar.util.jfr;
+
+import java.util.Calendar;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import oyyq.calendar.util.CalendarUtil;
+import oyyq.calendar.util.RootResult;
+
+/**
+ * 求一次合朔时间的JFR事件，在{@link oyyq.calendar.util.NewMoonCalculator}中产生
+ * 
+ * @author oyyq
+ */
+@Name("oyyq.calendar.NewMoonSolve")
+@Label("New Moon Solve")
+@Category({ "Calendar", "Solver" })
+@Description("求一次合朔时间：朔望月序号、年月、估值、迭代次数和求得的儒略日")
+public final class NewMoonSolveEvent extends Event {
+
+    @Label("Lunation")
+    @Description("Meeus的朔望月序号，2000年1月6日的合朔为0")
+    int     lunation;
+
+    @Label("Year")
+    int     year;
+
+    @Label("Month")
+    int     month;
+
+    @Label("Estimate")
+    @Description("平均合朔的儒略日，作为求解的初值")
+    double  estimate;
+
+    @Label("Iterations")
+    int     iterations;
+
+    @Label("Evaluations")
+    int     evaluations;
+
+    @Label("Converged")
+    boolean converged;
+
+    @Label("Julian Day")
+    @Description("合朔时间的儒略日(TT)")
+    double  julianDay;
+
+    /**
+     * 结束计时，JFR在记录这个事件时填入字段并提交
+     * 
+     * @param lunation
+     *            朔望月序号
+     * @param estimate
+     *            平均合朔的儒略日
+     * @param result
+     *            求根的结果
+     */
+    public void finish(int lunation, double estimate, RootResult result) {
+        end();
+        if (shouldCommit()) {
+            Calendar cal = CalendarUtil.fromJulianDate(estimate);
+            this.lunation = lunation;
+            this.year = cal.get(Calendar.YEAR);
+            this.month = cal.get(Calendar.MONTH) + 1;
+            this.estimate = estimate;
+            this.iterations = result.getIterations();
+            this.evaluations = result.getEvaluations();
+            this.converged = result.isConverged();
+            this.julianDay = result.getRoot();
+            commit();
+        }
+    }
+}
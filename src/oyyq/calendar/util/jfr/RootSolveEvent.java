@@ -0,0 +1,86 @@
+package oyyq.calendar.util.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import oyyq.calendar.util.RootResult;
+
+/**
+ * 一次求根的JFR事件，在{@link oyyq.calendar.util.MathUtil#newton}和
+ * {@link oyyq.calendar.util.MathUtil#findRoot}中产生
+ * 
+ * @author oyyq
+ */
+@Name("oyyq.calendar.RootSolve")
+@Label("Root Solve")
+@Category({ "Calendar", "Solver" })
+@Description("一次求根的迭代次数、求值次数和结果")
+public final class RootSolveEvent extends Event {
+
+    @Label("Method")
+    @Description("newton、rtsafe或illinois")
+    String method;
+
+    @Label("Initial Estimate")
+    @Description("对根的估值，没有估值时为区间中点")
+    double estimate;
+
+    @Label("Iterations")
+    int    iterations;
+
+    @Label("Evaluations")
+    int    evaluations;
+
+    @Label("Status")
+    String status;
+
+    @Label("Root")
+    double root;
+
+    /**
+     * 结束计时，JFR在记录这个事件时填入字段并提交
+     * 
+     * @param method
+     *            求根方法
+     * @param estimate
+     *            对根的估值
+     * @param iterations
+     *            迭代次数
+     * @param evaluations
+     *            求值次数
+     * @param status
+     *            求根的状态
+     * @param root
+     *            求得的根
+     */
+    public void finish(String method, double estimate, int iterations, int evaluations,
+            String status, double root) {
+        end();
+        if (shouldCommit()) {
+            this.method = method;
+            this.estimate = estimate;
+            this.iterations = iterations;
+            this.evaluations = evaluations;
+            this.status = status;
+            this.root = root;
+            commit();
+        }
+    }
+
+    /**
+     * 结束计时，JFR在记录这个事件时填入求根结果并提交
+     * 
+     * @param method
+     *            求根方法
+     * @param estimate
+     *            对根的估值
+     * @param result
+     *            求根的结果
+     */
+    public void finish(String method, double estimate, RootResult result) {
+        finish(method, estimate, result.getIterations(), result.getEvaluations(), result
+                .getStatus().name(), result.getRoot());
+    }
+}
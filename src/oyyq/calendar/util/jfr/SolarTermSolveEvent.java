@@ -0,0 +1,77 @@
+package oyyq.calendar.util.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import oyyq.calendar.util.Precision;
+import oyyq.calendar.util.RootResult;
+
+/**
+ * 求一个节气时间的JFR事件，在{@link oyyq.calendar.util.SolarTermsCalculator}中产生
+ * 
+ * @author oyyq
+ */
+@Name("oyyq.calendar.SolarTermSolve")
+@Label("Solar Term Solve")
+@Category({ "Calendar", "Solver" })
+@Description("求一个节气时间：目标黄经、迭代次数和求得的儒略日")
+public final class SolarTermSolveEvent extends Event {
+
+    @Label("Year")
+    int     year;
+
+    @Label("Term")
+    String  term;
+
+    @Label("Target Longitude")
+    @Description("节气对应的太阳视黄经(°)")
+    double  targetAngle;
+
+    @Label("Precision")
+    String  precision;
+
+    @Label("Iterations")
+    int     iterations;
+
+    @Label("Evaluations")
+    int     evaluations;
+
+    @Label("Converged")
+    boolean converged;
+
+    @Label("Julian Day")
+    @Description("节气时间的儒略日(TT)")
+    double  julianDay;
+
+    /**
+     * 结束计时，JFR在记录这个事件时填入字段并提交
+     * 
+     * @param year
+     *            年份
+     * @param term
+     *            节气名
+     * @param targetAngle
+     *            目标黄经(rad)
+     * @param precision
+     *            精度等级，使用缓存时为null
+     * @param result
+     *            求根的结果
+     */
+    public void finish(int year, String term, double targetAngle, Precision precision,
+            RootResult result) {
+        end();
+        if (shouldCommit()) {
+            this.year = year;
+            this.term = term;
+            this.targetAngle = Math.toDegrees(targetAngle);
+            this.precision = precision == null ? "CACHE" : precision.name();
+            this.iterations = result.getIterations();
+            this.evaluations = result.getEvaluations();
+            this.converged = result.isConverged();
+            this.julianDay = result.getRoot();
+            commit();
+        }
+    }
+}
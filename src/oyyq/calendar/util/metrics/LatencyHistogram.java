@@ -0,0 +1,114 @@
+package oyyq.calendar.util.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 对数-线性分桶的无锁直方图，与HdrHistogram的分桶方式相同。<br />
+ * 小于{@value #LINEAR}的值每个值一个桶，更大的值每个2的幂次区间分成{@value #SUB_BUCKETS}个桶，相对误差不超过1/{@value #SUB_BUCKETS}。
+ * 记录只是一次原子加法，不分配对象。
+ * 
+ * @author oyyq
+ */
+public final class LatencyHistogram {
+
+    /**
+     * 每个2的幂次区间的桶数
+     */
+    static final int              SUB_BUCKETS = 16;
+
+    /**
+     * 线性分桶的上限
+     */
+    static final int              LINEAR      = 2 * SUB_BUCKETS;
+
+    /**
+     * 桶数，能容纳任意非负的long值
+     */
+    private static final int      BUCKETS     = LINEAR + (63 - 5) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts      = new AtomicLongArray(BUCKETS);
+
+    /**
+     * 计算值所在的桶
+     */
+    static int index(long value) {
+        if (value < LINEAR) {
+            return (int) Math.max(value, 0L);
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int sub = (int) (value >>> (exponent - 4)) & (SUB_BUCKETS - 1);
+        return LINEAR + (exponent - 5) * SUB_BUCKETS + sub;
+    }
+
+    /**
+     * 桶的下界
+     */
+    static long lowerBound(int index) {
+        if (index < LINEAR) {
+            return index;
+        }
+        int exponent = (index - LINEAR) / SUB_BUCKETS + 5;
+        int sub = (index - LINEAR) % SUB_BUCKETS;
+        return (long) (SUB_BUCKETS + sub) << (exponent - 4);
+    }
+
+    /**
+     * 记录一个值
+     * 
+     * @param value
+     *            值，负数按0记录
+     */
+    public void record(long value) {
+        counts.incrementAndGet(index(value));
+    }
+
+    /**
+     * 取各桶计数的副本
+     * 
+     * @return 各桶的计数
+     */
+    long[] getCounts() {
+        long[] result = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            result[i] = counts.get(i);
+        }
+        return result;
+    }
+
+    /**
+     * 由各桶计数求分位数
+     * 
+     * @param counts
+     *            各桶的计数
+     * @param quantile
+     *            分位，0到1之间
+     * @return 分位数所在桶的下界，没有记录时返回0
+     */
+    static long getValueAtQuantile(long[] counts, double quantile) {
+        long total = 0;
+        for (long c : counts) {
+            total += c;
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(quantile * total));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return lowerBound(i);
+            }
+        }
+        return lowerBound(counts.length - 1);
+    }
+
+    /**
+     * 清零
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts.set(i, 0);
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package oyyq.calendar.util.metrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import oyyq.calendar.util.metrics.SolverMetrics.Component;
+import oyyq.calendar.util.metrics.SolverMetrics.Solver;
+
+/**
+ * {@link SolverMetrics}在某一时刻的快照，取快照后不再变化
+ * 
+ * @author oyyq
+ */
+public final class MetricsSnapshot {
+
+    private final long[]   solves;
+    private final long[]   failures;
+    private final long[]   evaluations;
+    private final long[]   iterations;
+    private final long[][] latency;
+    private final long[]   calls;
+    private final long[]   nanos;
+
+    MetricsSnapshot(SolverMetrics.SolverStats[] solvers,
+            SolverMetrics.ComponentStats[] components) {
+        int n = solvers.length;
+        this.solves = new long[n];
+        this.failures = new long[n];
+        this.evaluations = new long[n];
+        this.iterations = new long[n];
+        this.latency = new long[n][];
+        for (int i = 0; i < n; i++) {
+            solves[i] = solvers[i].solves.sum();
+            failures[i] = solvers[i].failures.sum();
+            evaluations[i] = solvers[i].evaluations.sum();
+            iterations[i] = solvers[i].iterations.sum();
+            latency[i] = solvers[i].latency.getCounts();
+        }
+        this.calls = new long[components.length];
+        this.nanos = new long[components.length];
+        for (int i = 0; i < components.length; i++) {
+            calls[i] = components[i].calls.sum();
+            nanos[i] = components[i].nanos.sum();
+        }
+    }
+
+    /**
+     * @param solver
+     *            求解的种类
+     * @return 求解次数
+     */
+    public long getSolves(Solver solver) {
+        return solves[solver.ordinal()];
+    }
+
+    /**
+     * @param solver
+     *            求解的种类
+     * @return 没有收敛的次数
+     */
+    public long getFailures(Solver solver) {
+        return failures[solver.ordinal()];
+    }
+
+    /**
+     * @param solver
+     *            求解的种类
+     * @return 函数求值的总次数
+     */
+    public long getEvaluations(Solver solver) {
+        return evaluations[solver.ordinal()];
+    }
+
+    /**
+     * @param solver
+     *            求解的种类
+     * @return 迭代的总次数
+     */
+    public long getIterations(Solver solver) {
+        return iterations[solver.ordinal()];
+    }
+
+    /**
+     * @param solver
+     *            求解的种类
+     * @return 平均每次求解的求值次数
+     */
+    public double getEvaluationsPerSolve(Solver solver) {
+        long n = getSolves(solver);
+        return n == 0 ? 0.0d : (double) getEvaluations(solver) / n;
+    }
+
+    /**
+     * @param solver
+     *            求解的种类
+     * @return 平均每次求解的迭代次数
+     */
+    public double getIterationsPerSolve(Solver solver) {
+        long n = getSolves(solver);
+        return n == 0 ? 0.0d : (double) getIterations(solver) / n;
+    }
+
+    /**
+     * 求解耗时的分位数，相对误差不超过1/16
+     * 
+     * @param solver
+     *            求解的种类
+     * @param quantile
+     *            分位，0到1之间
+     * @return 耗时(纳秒)
+     */
+    public long getLatencyNanos(Solver solver, double quantile) {
+        return LatencyHistogram.getValueAtQuantile(latency[solver.ordinal()], quantile);
+    }
+
+    /**
+     * @param component
+     *            组成部分
+     * @return 调用次数
+     */
+    public long getCalls(Component component) {
+        return calls[component.ordinal()];
+    }
+
+    /**
+     * @param component
+     *            组成部分
+     * @return 累计耗时(纳秒)，不含它调用的其他组成部分
+     */
+    public long getNanos(Component component) {
+        return nanos[component.ordinal()];
+    }
+
+    /**
+     * 把快照展开成键值对，键名形如solar_term.solves、new_moon.latency.p99、vsop87.nanos
+     * 
+     * @return 按固定顺序排列的键值对
+     */
+    public Map<String, Long> toMap() {
+        Map<String, Long> result = new LinkedHashMap<String, Long>();
+        for (Solver solver : Solver.values()) {
+            String prefix = solver.name().toLowerCase() + ".";
+            result.put(prefix + "solves", getSolves(solver));
+            result.put(prefix + "failures", getFailures(solver));
+            result.put(prefix + "evaluations", getEvaluations(solver));
+            result.put(prefix + "iterations", getIterations(solver));
+            result.put(prefix + "latency.p50", getLatencyNanos(solver, 0.5));
+            result.put(prefix + "latency.p90", getLatencyNanos(solver, 0.9));
+            result.put(prefix + "latency.p99", getLatencyNanos(solver, 0.99));
+            result.put(prefix + "latency.max", getLatencyNanos(solver, 1.0));
+        }
+        for (Component component : Component.values()) {
+            String prefix = component.name().toLowerCase() + ".";
+            result.put(prefix + "calls", getCalls(component));
+            result.put(prefix + "nanos", getNanos(component));
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return toMap().toString();
+    }
+}
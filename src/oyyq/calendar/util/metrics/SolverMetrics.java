@@ -0,0 +1,246 @@
+package oyyq.calendar.util.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+import oyyq.calendar.util.NewMoonCalculator;
+import oyyq.calendar.util.Precision;
+import oyyq.calendar.util.RootResult;
+import oyyq.calendar.util.SolarTerms;
+import oyyq.calendar.util.SolarTermsCalculator;
+
+/**
+ * 求解和星历计算的统计：每次求解的迭代次数、求值次数和耗时分布，以及VSOP87、ELP、章动和ΔT各自的调用次数和耗时。<br />
+ * 统计由系统属性{@value #PROPERTY}开启，开关是static final常量，关闭时记录方法被JIT内联成空操作，热路径上没有任何开销。
+ * 计数用{@link LongAdder}，耗时分布用{@link LatencyHistogram}，都不加锁；开启时同时注册{@link SolverMetricsMXBean}。
+ * 
+ * @author oyyq
+ */
+public final class SolverMetrics {
+
+    /**
+     * 开启统计的系统属性
+     */
+    public static final String  PROPERTY    = "oyyq.calendar.metrics";
+
+    /**
+     * MXBean的注册名
+     */
+    public static final String  OBJECT_NAME = "oyyq.calendar:type=SolverMetrics";
+
+    /**
+     * 是否开启统计，在类加载时确定
+     */
+    public static final boolean ENABLED     = Boolean.getBoolean(PROPERTY);
+
+    /**
+     * 求解的种类
+     */
+    public enum Solver {
+
+        /**
+         * 节气
+         */
+        SOLAR_TERM,
+
+        /**
+         * 合朔
+         */
+        NEW_MOON,
+
+        /**
+         * 月相
+         */
+        LUNAR_PHASE
+    }
+
+    /**
+     * 星历计算的组成部分
+     */
+    public enum Component {
+
+        /**
+         * VSOP87级数
+         */
+        VSOP87,
+
+        /**
+         * ELP/MPP02或ELP-2000/82级数
+         */
+        ELP,
+
+        /**
+         * 章动
+         */
+        NUTATION,
+
+        /**
+         * ΔT
+         */
+        DELTA_T
+    }
+
+    static final class SolverStats {
+        final LongAdder        solves      = new LongAdder();
+        final LongAdder        failures    = new LongAdder();
+        final LongAdder        evaluations = new LongAdder();
+        final LongAdder        iterations  = new LongAdder();
+        final LatencyHistogram latency     = new LatencyHistogram();
+    }
+
+    static final class ComponentStats {
+        final LongAdder calls = new LongAdder();
+        final LongAdder nanos = new LongAdder();
+    }
+
+    private static final SolverStats[]    SOLVERS    = new SolverStats[Solver.values().length];
+
+    private static final ComponentStats[] COMPONENTS = new ComponentStats[Component
+                                                             .values().length];
+
+    static {
+        for (int i = 0; i < SOLVERS.length; i++) {
+            SOLVERS[i] = new SolverStats();
+        }
+        for (int i = 0; i < COMPONENTS.length; i++) {
+            COMPONENTS[i] = new ComponentStats();
+        }
+        if (ENABLED) {
+            register();
+        }
+    }
+
+    private SolverMetrics() {
+    }
+
+    private static void register() {
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(new SolverMetricsMXBean() {
+                @Override
+                public boolean isEnabled() {
+                    return ENABLED;
+                }
+
+                @Override
+                public Map<String, Long> getCounters() {
+                    return snapshot().toMap();
+                }
+
+                @Override
+                public void reset() {
+                    SolverMetrics.reset();
+                }
+            }, new ObjectName(OBJECT_NAME));
+        } catch (InstanceAlreadyExistsException e) {
+            // 另一个类加载器已经注册过
+        } catch (JMException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 开始计时
+     * 
+     * @return 开启统计时返回当前的纳秒时间，否则返回0
+     */
+    public static long start() {
+        return ENABLED ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * 记录一次星历计算
+     * 
+     * @param component
+     *            组成部分
+     * @param start
+     *            {@link #start()}的返回值
+     */
+    public static void record(Component component, long start) {
+        if (ENABLED) {
+            ComponentStats stats = COMPONENTS[component.ordinal()];
+            stats.calls.increment();
+            stats.nanos.add(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * 记录一次求解
+     * 
+     * @param solver
+     *            求解的种类
+     * @param result
+     *            求解结果
+     * @param start
+     *            {@link #start()}的返回值
+     */
+    public static void record(Solver solver, RootResult result, long start) {
+        if (ENABLED) {
+            SolverStats stats = SOLVERS[solver.ordinal()];
+            stats.latency.record(System.nanoTime() - start);
+            stats.solves.increment();
+            stats.evaluations.add(result.getEvaluations());
+            stats.iterations.add(result.getIterations());
+            if (!result.isConverged()) {
+                stats.failures.increment();
+            }
+        }
+    }
+
+    /**
+     * 取当前统计的快照
+     * 
+     * @return 快照
+     */
+    public static MetricsSnapshot snapshot() {
+        return new MetricsSnapshot(SOLVERS, COMPONENTS);
+    }
+
+    /**
+     * 清零全部计数。与记录并发时，正在记录的数据可能部分保留
+     */
+    public static void reset() {
+        for (SolverStats stats : SOLVERS) {
+            stats.solves.reset();
+            stats.failures.reset();
+            stats.evaluations.reset();
+            stats.iterations.reset();
+            stats.latency.reset();
+        }
+        for (ComponentStats stats : COMPONENTS) {
+            stats.calls.reset();
+            stats.nanos.reset();
+        }
+    }
+
+    public static void main(String[] args) {
+        if (!ENABLED) {
+            System.out.println("请用 -D" + PROPERTY + "=true 开启统计");
+            return;
+        }
+        for (int year = 2000; year < 2020; year++) {
+            for (SolarTerms term : SolarTerms.values()) {
+                SolarTermsCalculator.getJulianDayInYearForTermOrder(term, year, Precision.FULL);
+            }
+            for (int month = 1; month <= 12; month++) {
+                NewMoonCalculator.getJulianDayInYearAndMonthForNewMoon(year, month,
+                        Precision.FULL);
+            }
+        }
+        MetricsSnapshot snapshot = snapshot();
+        for (Solver solver : Solver.values()) {
+            System.out.printf("%s: %d次, 平均%.2f次迭代, %.2f次求值, p50=%dμs, p99=%dμs%n", solver,
+                    snapshot.getSolves(solver), snapshot.getIterationsPerSolve(solver),
+                    snapshot.getEvaluationsPerSolve(solver), snapshot.getLatencyNanos(solver, 0.5)
+                            / 1000, snapshot.getLatencyNanos(solver, 0.99) / 1000);
+        }
+        for (Component component : Component.values()) {
+            System.out.printf("%s: %d次, %dms%n", component, snapshot.getCalls(component),
+                    snapshot.getNanos(component) / 1000000);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package oyyq.calendar.util.metrics;
+
+import java.util.Map;
+
+/**
+ * 通过JMX导出的求解统计，注册名为{@value SolverMetrics#OBJECT_NAME}
+ * 
+ * @author oyyq
+ */
+public interface SolverMetricsMXBean {
+
+    /**
+     * @return 是否开启了统计
+     */
+    public boolean isEnabled();
+
+    /**
+     * @return 当前的全部计数，键名同{@link MetricsSnapshot#toMap()}
+     */
+    public Map<String, Long> getCounters();
+
+    /**
+     * 清零全部计数
+     */
+    public void reset();
+}
@@ -0,0 +1,391 @@
+package oyyq.calendar.util.vsop87d.data;
+
+/**
+ * EARTH - VSOP87 Series Version D, 日心黄纬(B)系数表<br />
+ * 每行依次为A、B、C三项，对应于A * cos(B + C * t)，t为儒略千年数，结果单位为弧度(rad)<br />
+ * <br />
+ * VSOP87 Functions Source Code<br />
+ * Generated By The VSOP87 Source Code Generator Tool<br />
+ * &copy; Jay Tanner 2014<br />
+ * <br />
+ * Source data provided under the provisions of the<br />
+ * GNU Affero General Public License, version 3.<br />
+ * http://www.gnu.org/licenses/agpl.html
+ */
+public class Vsop87d_Earth_B {
+
+    public static final int      LINE_ITEMS   = 3;
+    public static final int      TOTAL_LINES0 = 184;
+    public static final int      TOTAL_LINES1 = 99;
+    public static final int      TOTAL_LINES2 = 49;
+    public static final int      TOTAL_LINES3 = 11;
+    public static final int      TOTAL_LINES4 = 5;
+    public static final int      TOTAL_LINES5 = 1;
+
+    public static final double[] PARAMS0      = {
+            0.00000279620, 3.19870156017, 84334.66158130829,
+            0.00000101643, 5.42248619256, 5507.5532386674,
+            0.00000080445, 3.88013204458, 5223.6939198022,
+            0.00000043806, 3.70444689758, 2352.8661537718,
+            0.00000031933, 4.00026369781, 1577.3435424478,
+            0.00000022724, 3.98473831560, 1047.7473117547,
+            0.00000016392, 3.56456119782, 5856.4776591154,
+            0.00000018141, 4.98367470263, 6283.0758499914,
+            0.00000014443, 3.70275614914, 9437.762934887,
+            0.00000014304, 3.41117857525, 10213.285546211,
+            0.00000011246, 4.82820690530, 14143.4952424306,
+            0.00000010900, 2.08574562327, 6812.766815086,
+            0.00000009714, 3.47303947752, 4694.0029547076,
+            0.00000010367, 4.05663927946, 71092.88135493269,
+            0.00000008775, 4.44016515669, 5753.3848848968,
+            0.00000008366, 4.99251512180, 7084.8967811152,
+            0.00000006921, 4.32559054073, 6275.9623029906,
+            0.00000009145, 1.14182646613, 6620.8901131878,
+            0.00000007194, 3.60193205752, 529.6909650946,
+            0.00000007698, 5.55425745881, 167621.57585086189,
+            0.00000005285, 2.48446991566, 4705.7323075436,
+            0.00000005208, 6.24992674537, 18073.7049386502,
+            0.00000004529, 2.33827747356, 6309.3741697912,
+            0.00000005579, 4.41023653738, 7860.4193924392,
+            0.00000004743, 0.70995680136, 5884.9268465832,
+            0.00000004301, 1.10255777773, 6681.2248533996,
+            0.00000003849, 1.82229412531, 5486.777843175,
+            0.00000004093, 5.11700141207, 13367.9726311066,
+            0.00000003681, 0.43793170356, 3154.6870848956,
+            0.00000003420, 5.42034800952, 6069.7767545534,
+            0.00000003617, 6.04641937526, 3930.2096962196,
+            0.00000003670, 4.58210192227, 12194.0329146209,
+            0.00000002918, 1.95463881126, 10977.078804699,
+            0.00000002797, 5.61259275048, 11790.6290886588,
+            0.00000002502, 0.60499729367, 6496.3749454294,
+            0.00000002319, 5.01648216014, 1059.3819301892,
+            0.00000002684, 1.39470396488, 22003.9146348698,
+            0.00000002428, 3.24183056052, 78051.5857313169,
+            0.00000002120, 4.30691000285, 5643.1785636774,
+            0.00000002257, 3.15557225618, 90617.7374312997,
+            0.00000001813, 3.75574218285, 3340.6124266998,
+            0.00000002226, 2.79699346659, 12036.4607348882,
+            0.00000001888, 0.86991545823, 8635.9420037632,
+            0.00000001517, 1.95852055701, 398.1490034082,
+            0.00000001581, 3.19976230948, 5088.6288397668,
+            0.00000001421, 6.25530883827, 2544.3144198834,
+            0.00000001595, 0.25619915135, 17298.1823273262,
+            0.00000001391, 4.69964175561, 7058.5984613154,
+            0.00000001478, 2.81808207569, 25934.1243310894,
+            0.00000001481, 3.65823554806, 11506.7697697936,
+            0.00000001693, 4.95689385293, 156475.2902479957,
+            0.00000001183, 1.29343061246, 775.522611324,
+            0.00000001114, 2.37889311846, 3738.761430108,
+            0.00000000994, 4.30088900425, 9225.539273283,
+            0.00000000924, 3.06451026812, 4164.311989613,
+            0.00000000867, 0.55606931068, 8429.2412664666,
+            0.00000000988, 5.97286104208, 7079.3738568078,
+            0.00000000824, 1.50984806173, 10447.3878396044,
+            0.00000000915, 0.12635654592, 11015.1064773348,
+            0.00000000742, 1.99159139281, 26087.9031415742,
+            -0.00000001039, 0, 0,
+            0.00000000850, 4.24120016095, 29864.334027309,
+            0.00000000755, 2.89631873320, 4732.0306273434,
+            0.00000000714, 1.37548118603, 2146.1654164752,
+            0.00000000708, 1.91406542362, 8031.0922630584,
+            0.00000000746, 0.57893808616, 796.2980068164,
+            0.00000000802, 5.12339137230, 2942.4634232916,
+            0.00000000751, 1.67479850166, 21228.3920235458,
+            0.00000000602, 4.09976538826, 64809.80550494129,
+            0.00000000594, 3.49580704962, 16496.3613962024,
+            0.00000000592, 4.59481504319, 4690.4798363586,
+            0.00000000530, 5.73979295200, 8827.3902698748,
+            0.00000000503, 5.66433137112, 33794.5437235286,
+            0.00000000483, 1.57106522411, 801.8209311238,
+            0.00000000438, 0.06707733767, 3128.3887650958,
+            0.00000000423, 2.86944595927, 12566.1516999828,
+            0.00000000504, 3.26207669160, 7632.9432596502,
+            0.00000000552, 1.02926440457, 239762.20451754928,
+            0.00000000427, 3.67434378210, 213.299095438,
+            0.00000000404, 1.46193297142, 15720.8387848784,
+            0.00000000503, 4.85802444134, 6290.1893969922,
+            0.00000000417, 0.81920713533, 5216.5803728014,
+            0.00000000365, 0.01002966162, 12168.0026965746,
+            0.00000000363, 1.28376436579, 6206.8097787158,
+            0.00000000353, 4.70059133110, 7234.794256242,
+            0.00000000415, 0.96862624175, 4136.9104335162,
+            0.00000000387, 3.09145061418, 25158.6017197654,
+            0.00000000373, 2.65119262792, 7342.4577801806,
+            0.00000000361, 2.97762937739, 9623.6882766912,
+            0.00000000418, 3.75759994446, 5230.807466803,
+            0.00000000396, 1.22507712354, 6438.4962494256,
+            0.00000000322, 1.21162178805, 8662.240323563,
+            0.00000000284, 5.64170320068, 1589.0728952838,
+            0.00000000379, 1.72248432748, 14945.3161735544,
+            0.00000000320, 3.94161159962, 7330.8231617461,
+            0.00000000313, 5.47602376446, 1194.4470102246,
+            0.00000000292, 1.38971327603, 11769.8536931664,
+            0.00000000305, 0.80429352049, 37724.7534197482,
+            0.00000000257, 5.81382809757, 426.598190876,
+            0.00000000265, 6.10358507671, 6836.6452528338,
+            0.00000000250, 4.56452895547, 7477.522860216,
+            0.00000000266, 2.62926282354, 7238.67559160,
+            0.00000000263, 6.22089501237, 6133.5126528568,
+            0.00000000306, 2.79682380531, 1748.016413067,
+            0.00000000236, 2.46093023714, 11371.7046897582,
+            0.00000000316, 1.62662805006, 250908.49012041549,
+            0.00000000216, 3.68721275185, 5849.3641121146,
+            0.00000000230, 0.36165162947, 5863.5912061162,
+            0.00000000233, 5.03509933858, 20426.571092422,
+            0.00000000200, 5.86073159059, 4535.0594369244,
+            0.00000000277, 4.65400292395, 82239.16695779889,
+            0.00000000209, 3.72323200804, 10973.55568635,
+            0.00000000199, 5.05186622555, 5429.8794682394,
+            0.00000000256, 2.40923279770, 19651.048481098,
+            0.00000000210, 4.50691909144, 29088.811415985,
+            0.00000000181, 6.00294783127, 4292.3308329504,
+            0.00000000249, 0.12900984422, 154379.79562448629,
+            0.00000000209, 3.87759458598, 17789.845619785,
+            0.00000000225, 3.18339652605, 18875.525869774,
+            0.00000000191, 4.53897489299, 18477.1087646123,
+            0.00000000172, 2.09694183014, 13095.8426650774,
+            0.00000000182, 3.16107943500, 16730.4636895958,
+            0.00000000188, 2.22746128596, 41654.9631159678,
+            0.00000000164, 5.18686275017, 5481.2549188676,
+            0.00000000160, 2.49298855159, 12592.4500197826,
+            0.00000000155, 1.59595438230, 10021.8372800994,
+            0.00000000135, 0.21349051064, 10988.808157535,
+            0.00000000178, 3.80375177970, 23581.2581773176,
+            0.00000000123, 1.66800739151, 15110.4661198662,
+            0.00000000122, 2.72678272244, 18849.2275499742,
+            0.00000000126, 1.17675512910, 14919.0178537546,
+            0.00000000142, 3.95053441332, 337.8142631964,
+            0.00000000116, 6.06340906229, 6709.6740408674,
+            0.00000000137, 3.52143246757, 12139.5535091068,
+            0.00000000136, 2.92179113542, 32217.2001810808,
+            0.00000000110, 3.51203379263, 18052.9295431578,
+            0.00000000147, 4.63371971408, 22805.7355659936,
+            0.00000000108, 5.45280814878, 7.1135470008,
+            0.00000000148, 0.65447253687, 95480.9471841745,
+            0.00000000119, 5.92110458985, 33019.0211122046,
+            0.00000000110, 5.34824206306, 639.897286314,
+            0.00000000106, 3.71081682629, 14314.1681130498,
+            0.00000000139, 6.17607198418, 24356.7807886416,
+            0.00000000118, 5.59738712670, 161338.5000008705,
+            0.00000000117, 3.65065271640, 45585.1728121874,
+            0.00000000127, 4.74596574209, 49515.382508407,
+            0.00000000120, 1.04211499785, 6915.8595893046,
+            0.00000000120, 5.60638811846, 5650.2921106782,
+            0.00000000115, 3.10668213289, 14712.317116458,
+            0.00000000099, 0.69018940049, 12779.4507954208,
+            0.00000000097, 1.07908724794, 9917.6968745098,
+            0.00000000093, 2.62295197319, 17260.1546546904,
+            0.00000000099, 4.45774681732, 4933.2084403326,
+            0.00000000123, 1.37488922089, 28286.9904848612,
+            0.00000000121, 5.19767249813, 27511.4678735372,
+            0.00000000105, 0.87192267806, 77375.95720492408,
+            0.00000000087, 3.93637812950, 17654.7805397496,
+            0.00000000122, 2.23956068680, 83997.09113559539,
+            0.00000000087, 4.18201600952, 22779.4372461938,
+            0.00000000104, 4.59580877295, 1349.8674096588,
+            0.00000000102, 2.83545248411, 12352.8526045448,
+            0.00000000102, 3.97386522171, 10818.1352869158,
+            0.00000000101, 4.32892825857, 36147.4098773004,
+            0.00000000094, 5.00001709261, 150192.21439800429,
+            0.00000000077, 3.97199369296, 1592.5960136328,
+            0.00000000100, 6.07733097102, 26735.9452622132,
+            0.00000000086, 5.26029638250, 28313.288804661,
+            0.00000000093, 4.31900620254, 44809.6502008634,
+            0.00000000076, 6.22743405935, 13521.7514415914,
+            0.00000000072, 1.55820597747, 6256.7775301916,
+            0.00000000082, 4.95202664555, 10575.4066829418,
+            0.00000000082, 1.69647647075, 1990.745017041,
+            0.00000000075, 2.29836095644, 3634.6210245184,
+            0.00000000075, 2.66367876557, 16200.7727245012,
+            0.00000000087, 0.26630214764, 31441.6775697568,
+            0.00000000077, 2.25530954137, 5235.3285382367,
+            0.00000000076, 1.09869730846, 12903.9659631792,
+            0.00000000058, 4.28246138307, 12559.038152982,
+            0.00000000064, 5.51112830114, 173904.65170085328,
+            0.00000000056, 2.60133794851, 73188.3759784421,
+            0.00000000055, 5.81483150022, 143233.51002162008,
+            0.00000000054, 3.38482031504, 323049.11878710288,
+            0.00000000039, 3.28500401343, 71768.50988132549,
+            0.00000000039, 3.11239910690, 96900.81328129109
+    };
+
+    public static final double[] PARAMS1      = {
+            0.00000009030, 3.89729061890, 5507.5532386674,
+            0.00000006177, 1.73038850355, 5223.6939198022,
+            0.00000003800, 5.24404145734, 2352.8661537718,
+            0.00000002834, 2.47345037450, 1577.3435424478,
+            0.00000001817, 0.41874743765, 6283.0758499914,
+            0.00000001499, 1.83320979291, 5856.4776591154,
+            0.00000001466, 5.69401926017, 5753.3848848968,
+            0.00000001301, 2.18890066314, 9437.762934887,
+            0.00000001233, 4.95222451476, 10213.285546211,
+            0.00000001021, 0.12866660208, 7860.4193924392,
+            0.00000000982, 0.09005453285, 14143.4952424306,
+            0.00000000865, 1.73949953555, 3930.2096962196,
+            0.00000000581, 2.26949174067, 5884.9268465832,
+            0.00000000524, 5.65662503159, 529.6909650946,
+            0.00000000473, 6.22750969242, 6309.3741697912,
+            0.00000000451, 1.53288619213, 18073.7049386502,
+            0.00000000364, 3.61614477374, 13367.9726311066,
+            0.00000000372, 3.22470721320, 6275.9623029906,
+            0.00000000268, 2.34341267879, 11790.6290886588,
+            0.00000000322, 0.94084045832, 6069.7767545534,
+            0.00000000232, 0.26781182579, 7058.5984613154,
+            0.00000000216, 6.05952221329, 10977.078804699,
+            0.00000000232, 2.93325646109, 22003.9146348698,
+            0.00000000204, 3.86264841382, 6496.3749454294,
+            0.00000000202, 2.81892511133, 15720.8387848784,
+            0.00000000185, 4.93512381859, 12036.4607348882,
+            0.00000000220, 3.99305643742, 6812.766815086,
+            0.00000000166, 1.74970002999, 11506.7697697936,
+            0.00000000212, 1.57166285369, 4694.0029547076,
+            0.00000000157, 1.08259734788, 5643.1785636774,
+            0.00000000154, 5.99434678412, 5486.777843175,
+            0.00000000144, 5.23285656085, 78051.5857313169,
+            0.00000000144, 1.16454655948, 90617.7374312997,
+            0.00000000137, 2.67760436027, 6290.1893969922,
+            0.00000000180, 2.06509026215, 7084.8967811152,
+            0.00000000121, 5.90212574947, 9225.539273283,
+            0.00000000150, 2.00175038718, 5230.807466803,
+            0.00000000149, 5.06157254516, 17298.1823273262,
+            0.00000000118, 5.39979058038, 3340.6124266998,
+            0.00000000161, 3.32421999691, 6283.3196674749,
+            0.00000000121, 4.36722193162, 19651.048481098,
+            0.00000000116, 5.83462858507, 4705.7323075436,
+            0.00000000128, 4.35489873365, 25934.1243310894,
+            0.00000000143, 0, 0,
+            0.00000000109, 2.52157834166, 6438.4962494256,
+            0.00000000099, 2.70727488041, 5216.5803728014,
+            0.00000000103, 0.93782340879, 8827.3902698748,
+            0.00000000082, 4.29214680390, 8635.9420037632,
+            0.00000000079, 2.24085737326, 1059.3819301892,
+            0.00000000097, 5.50959692365, 29864.334027309,
+            0.00000000072, 0.21891639822, 21228.3920235458,
+            0.00000000071, 2.86755026812, 6681.2248533996,
+            0.00000000074, 2.20184828895, 37724.7534197482,
+            0.00000000063, 4.45586625948, 7079.3738568078,
+            0.00000000061, 0.63918772258, 33794.5437235286,
+            0.00000000047, 2.09070235724, 3128.3887650958,
+            0.00000000047, 3.32543843300, 26087.9031415742,
+            0.00000000049, 1.60680905005, 6702.5604938666,
+            0.00000000057, 0.11215813438, 29088.811415985,
+            0.00000000056, 5.47982934911, 775.522611324,
+            0.00000000050, 1.89396788463, 12139.5535091068,
+            0.00000000047, 2.97214907240, 20426.571092422,
+            0.00000000041, 5.55329394890, 11015.1064773348,
+            0.00000000041, 5.91861144924, 23581.2581773176,
+            0.00000000045, 4.95273290181, 5863.5912061162,
+            0.00000000050, 3.62740835096, 41654.9631159678,
+            0.00000000037, 6.09033460601, 64809.80550494129,
+            0.00000000037, 5.86153655431, 12566.1516999828,
+            0.00000000046, 1.65798680284, 25158.6017197654,
+            0.00000000038, 2.00673650251, 426.598190876,
+            0.00000000036, 6.24373396652, 6283.14316029419,
+            0.00000000036, 0.40465162918, 6283.0085396886,
+            0.00000000032, 6.03707103538, 2942.4634232916,
+            0.00000000041, 4.86809570283, 1592.5960136328,
+            0.00000000028, 4.38359423735, 7632.9432596502,
+            0.00000000028, 6.03334294232, 17789.845619785,
+            0.00000000026, 3.88971333608, 5331.3574437408,
+            0.00000000026, 5.94932724051, 16496.3613962024,
+            0.00000000031, 1.44666331503, 16730.4636895958,
+            0.00000000026, 6.26376705837, 23543.23050468179,
+            0.00000000033, 0.93797239147, 213.299095438,
+            0.00000000026, 3.71858432944, 13095.8426650774,
+            0.00000000027, 0.60565274405, 10988.808157535,
+            0.00000000023, 4.44388985550, 18849.2275499742,
+            0.00000000028, 1.53862289477, 6279.4854213396,
+            0.00000000028, 1.96831814872, 6286.6662786432,
+            0.00000000028, 5.78094918529, 15110.4661198662,
+            0.00000000026, 2.48165809843, 5729.506447149,
+            0.00000000020, 3.85655029499, 9623.6882766912,
+            0.00000000021, 5.83006047147, 7234.794256242,
+            0.00000000021, 0.69628570421, 398.1490034082,
+            0.00000000022, 5.02222806555, 6127.6554505572,
+            0.00000000020, 3.47611265290, 6148.010769956,
+            0.00000000020, 0.90769829044, 5481.2549188676,
+            0.00000000020, 0.03081589303, 6418.1409300268,
+            0.00000000020, 3.74220084927, 1589.0728952838,
+            0.00000000021, 4.00149269576, 3154.6870848956,
+            0.00000000018, 1.58348238359, 2118.7638603784,
+            0.00000000019, 0.85407021371, 14712.317116458
+    };
+
+    public static final double[] PARAMS2      = {
+            0.00000001662, 1.62703209173, 84334.66158130829,
+            0.00000000492, 2.41382223971, 1047.7473117547,
+            0.00000000344, 2.24353004539, 5507.5532386674,
+            0.00000000258, 6.00906896311, 5223.6939198022,
+            0.00000000131, 0.95447345240, 6283.0758499914,
+            0.00000000086, 1.67530247303, 7860.4193924392,
+            0.00000000090, 0.97606804452, 1577.3435424478,
+            0.00000000090, 0.37899871725, 2352.8661537718,
+            0.00000000089, 6.25807507963, 10213.285546211,
+            0.00000000075, 0.84213523741, 167621.57585086189,
+            0.00000000052, 1.70501566089, 14143.4952424306,
+            0.00000000057, 6.15295833679, 12194.0329146209,
+            0.00000000051, 1.27616016740, 5753.3848848968,
+            0.00000000051, 5.37229738682, 6812.766815086,
+            0.00000000034, 1.73672994279, 7058.5984613154,
+            0.00000000038, 2.77761031485, 10988.808157535,
+            0.00000000046, 3.38617099014, 156475.2902479957,
+            0.00000000021, 1.95248349228, 8827.3902698748,
+            0.00000000018, 3.33419222028, 8429.2412664666,
+            0.00000000019, 4.32945160287, 17789.845619785,
+            0.00000000017, 0.66191210656, 6283.0085396886,
+            0.00000000018, 3.74885333072, 11769.8536931664,
+            0.00000000017, 4.23058370776, 10977.078804699,
+            0.00000000017, 1.78116162721, 5486.777843175,
+            0.00000000021, 1.36972913918, 12036.4607348882,
+            0.00000000017, 2.79601092529, 796.2980068164,
+            0.00000000015, 0.43087848850, 11790.6290886588,
+            0.00000000017, 1.35132152761, 78051.5857313169,
+            0.00000000015, 1.17032155085, 213.299095438,
+            0.00000000018, 2.85221514199, 5088.6288397668,
+            0.00000000017, 0.21780913672, 6283.14316029419,
+            0.00000000013, 1.21201504386, 25132.3033999656,
+            0.00000000012, 1.12953712197, 90617.7374312997,
+            0.00000000012, 5.13714452592, 7079.3738568078,
+            0.00000000013, 3.79842135217, 4933.2084403326,
+            0.00000000012, 4.89407978213, 3738.761430108,
+            0.00000000015, 6.05682328852, 398.1490034082,
+            0.00000000014, 4.81029291856, 4694.0029547076,
+            0.00000000011, 0.61684523405, 3128.3887650958,
+            0.00000000011, 5.32876538500, 6040.3472460174,
+            0.00000000014, 5.27227350286, 4535.0594369244,
+            0.00000000011, 2.39292099451, 5331.3574437408,
+            0.00000000010, 4.45296532710, 6525.8044539654,
+            0.00000000014, 4.66400985037, 8031.0922630584,
+            0.00000000010, 3.22472385926, 9437.762934887,
+            0.00000000011, 3.80913404437, 801.8209311238,
+            0.00000000010, 5.15032130575, 11371.7046897582,
+            0.00000000013, 0.98720797401, 5729.506447149,
+            0.00000000009, 5.94191743597, 7632.9432596502
+    };
+
+    public static final double[] PARAMS3      = {
+            0.00000000011, 0.23877262399, 7860.4193924392,
+            0.00000000009, 1.16069982609, 5507.5532386674,
+            0.00000000008, 1.65357552925, 5884.9268465832,
+            0.00000000008, 2.86720038197, 7058.5984613154,
+            0.00000000007, 3.04818741666, 5486.777843175,
+            0.00000000007, 2.59437103785, 529.6909650946,
+            0.00000000008, 4.02863090524, 6256.7775301916,
+            0.00000000008, 2.42003508927, 5753.3848848968,
+            0.00000000006, 0.84181087594, 6275.9623029906,
+            0.00000000006, 5.40160929468, 1577.3435424478,
+            0.00000000007, 2.73399865247, 6309.3741697912
+    };
+
+    public static final double[] PARAMS4      = {
+            0.00000000004, 0.79662198849, 6438.4962494256,
+            0.00000000005, 0.84308705203, 1047.7473117547,
+            0.00000000005, 0.05711572303, 84334.66158130829,
+            0.00000000003, 3.46779895686, 6279.5527316424,
+            0.00000000003, 2.89822201212, 6127.6554505572
+    };
+
+    public static final double[] PARAMS5      = {
+            0.00000000000, 0, 0
+    };
+}
@@ -0,0 +1,1122 @@
+package oyyq.calendar.util.vsop87d.data;
+
+/**
+ * EARTH - VSOP87 Series Version D, 日心黄经(L)系数表<br />
+ * 每行依次为A、B、C三项，对应于A * cos(B + C * t)，t为儒略千年数，结果单位为弧度(rad)<br />
+ * <br />
+ * VSOP87 Functions Source Code<br />
+ * Generated By The VSOP87 Source Code Generator Tool<br />
+ * &copy; Jay Tanner 2014<br />
+ * <br />
+ * Source data provided under the provisions of the<br />
+ * GNU Affero General Public License, version 3.<br />
+ * http://www.gnu.org/licenses/agpl.html
+ */
+public class Vsop87d_Earth_L {
+
+    public static final int      LINE_ITEMS   = 3;
+    public static final int      TOTAL_LINES0 = 559;
+    public static final int      TOTAL_LINES1 = 341;
+    public static final int      TOTAL_LINES2 = 142;
+    public static final int      TOTAL_LINES3 = 22;
+    public static final int      TOTAL_LINES4 = 11;
+    public static final int      TOTAL_LINES5 = 5;
+
+    public static final double[] PARAMS0      = {
+            1.75347045673, 0, 0,
+            0.03341656456, 4.66925680417, 6283.0758499914,
+            0.00034894275, 4.62610241759, 12566.1516999828,
+            0.00003417571, 2.82886579606, 3.523118349,
+            0.00003497056, 2.74411800971, 5753.3848848968,
+            0.00003135896, 3.62767041758, 77713.7714681205,
+            0.00002676218, 4.41808351397, 7860.4193924392,
+            0.00002342687, 6.13516237631, 3930.2096962196,
+            0.00001273166, 2.03709655772, 529.6909650946,
+            0.00001324292, 0.74246356352, 11506.7697697936,
+            0.00000901855, 2.04505443513, 26.2983197998,
+            0.00001199167, 1.10962944315, 1577.3435424478,
+            0.00000857223, 3.50849156957, 398.1490034082,
+            0.00000779786, 1.17882652114, 5223.6939198022,
+            0.00000990250, 5.23268129594, 5884.9268465832,
+            0.00000753141, 2.53339053818, 5507.5532386674,
+            0.00000505264, 4.58292563052, 18849.2275499742,
+            0.00000492379, 4.20506639861, 775.522611324,
+            0.00000356655, 2.91954116867, 0.0673103028,
+            0.00000284125, 1.89869034186, 796.2980068164,
+            0.00000242810, 0.34481140906, 5486.777843175,
+            0.00000317087, 5.84901952218, 11790.6290886588,
+            0.00000271039, 0.31488607649, 10977.078804699,
+            0.00000206160, 4.80646606059, 2544.3144198834,
+            0.00000205385, 1.86947813692, 5573.1428014331,
+            0.00000202261, 2.45767795458, 6069.7767545534,
+            0.00000126184, 1.08302630210, 20.7753954924,
+            0.00000155516, 0.83306073807, 213.299095438,
+            0.00000115132, 0.64544911683, 0.9803210682,
+            0.00000102851, 0.63599846727, 4694.0029547076,
+            0.00000101724, 4.26679821365, 7.1135470008,
+            0.00000099206, 6.20992940258, 2146.1654164752,
+            0.00000132212, 3.41118275555, 2942.4634232916,
+            0.00000097607, 0.68101272270, 155.4203994342,
+            0.00000085128, 1.29870743025, 6275.9623029906,
+            0.00000074651, 1.75508916159, 5088.6288397668,
+            0.00000101895, 0.97569221824, 15720.8387848784,
+            0.00000084711, 3.67080093025, 71430.69561812909,
+            0.00000073547, 4.67926565481, 801.8209311238,
+            0.00000073874, 3.50319443167, 3154.6870848956,
+            0.00000078756, 3.03698313141, 12036.4607348882,
+            0.00000079637, 1.80791330700, 17260.1546546904,
+            0.00000085803, 5.98322631256, 161000.6857376741,
+            0.00000056963, 2.78430398043, 6286.5989683404,
+            0.00000061148, 1.81839811024, 7084.8967811152,
+            0.00000069627, 0.83297596966, 9437.762934887,
+            0.00000056116, 4.38694880779, 14143.4952424306,
+            0.00000062449, 3.97763880587, 8827.3902698748,
+            0.00000051145, 0.28306864501, 5856.4776591154,
+            0.00000055577, 3.47006009062, 6279.5527316424,
+            0.00000041036, 5.36817351402, 8429.2412664666,
+            0.00000051605, 1.33282746983, 1748.016413067,
+            0.00000051992, 0.18914945834, 12139.5535091068,
+            0.00000049000, 0.48735065033, 1194.4470102246,
+            0.00000039200, 6.16832995016, 10447.3878396044,
+            0.00000035566, 1.77597314691, 6812.766815086,
+            0.00000036770, 6.04133859347, 10213.285546211,
+            0.00000036596, 2.56955238628, 1059.3819301892,
+            0.00000033291, 0.59309499459, 17789.845619785,
+            0.00000035954, 1.70876111898, 2352.8661537718,
+            0.00000040938, 2.39850881707, 19651.048481098,
+            0.00000030047, 2.73975123935, 1349.8674096588,
+            0.00000030412, 0.44294464135, 83996.84731811189,
+            0.00000023663, 0.48473567763, 8031.0922630584,
+            0.00000023574, 2.06527720049, 3340.6124266998,
+            0.00000021089, 4.14825464101, 951.7184062506,
+            0.00000024738, 0.21484762138, 3.5904286518,
+            0.00000025352, 3.16470953405, 4690.4798363586,
+            0.00000022820, 5.22197888032, 4705.7323075436,
+            0.00000021419, 1.42563735525, 16730.4636895958,
+            0.00000021891, 5.55594302562, 553.5694028424,
+            0.00000017481, 4.56052900359, 135.0650800354,
+            0.00000019925, 5.22208471269, 12168.0026965746,
+            0.00000019860, 5.77470167653, 6309.3741697912,
+            0.00000020300, 0.37133792946, 283.8593188652,
+            0.00000014421, 4.19315332546, 242.728603974,
+            0.00000016225, 5.98837722564, 11769.8536931664,
+            0.00000015077, 4.19567181073, 6256.7775301916,
+            0.00000019124, 3.82219996949, 23581.2581773176,
+            0.00000018888, 5.38626880969, 149854.40013480789,
+            0.00000014346, 3.72355084422, 38.0276726358,
+            0.00000017898, 2.21490735647, 13367.9726311066,
+            0.00000012054, 2.62229588349, 955.5997416086,
+            0.00000011287, 0.17739328092, 4164.311989613,
+            0.00000013971, 4.40138139996, 6681.2248533996,
+            0.00000013621, 1.88934471407, 7632.9432596502,
+            0.00000012503, 1.13052412208, 5.5229243074,
+            0.00000010498, 5.35909518669, 1592.5960136328,
+            0.00000009803, 0.99947478995, 11371.7046897582,
+            0.00000009220, 4.57138609781, 4292.3308329504,
+            0.00000010327, 6.19982566125, 6438.4962494256,
+            0.00000012003, 1.00351456700, 632.7837393132,
+            0.00000010827, 0.32734520222, 103.0927742186,
+            0.00000008356, 4.53902685948, 25132.3033999656,
+            0.00000010005, 6.02914963280, 5746.271337896,
+            0.00000008409, 3.29946744189, 7234.794256242,
+            0.00000008006, 5.82145271907, 28.4491874678,
+            0.00000010523, 0.93871805506, 11926.2544136688,
+            0.00000007686, 3.12142363172, 7238.67559160,
+            0.00000009378, 2.62414241032, 5760.4984318976,
+            0.00000008127, 6.11228001785, 4732.0306273434,
+            0.00000009232, 0.48343968736, 522.5774180938,
+            0.00000009802, 5.24413991147, 27511.4678735372,
+            0.00000007871, 0.99590177926, 5643.1785636774,
+            0.00000008123, 6.27053013650, 426.598190876,
+            0.00000009048, 5.33686335897, 6386.16862421,
+            0.00000008620, 4.16538210888, 7058.5984613154,
+            0.00000006297, 4.71724819317, 6836.6452528338,
+            0.00000007575, 3.97382858911, 11499.6562227928,
+            0.00000007756, 2.95729056763, 23013.5395395872,
+            0.00000007314, 0.60652505806, 11513.8833167944,
+            0.00000005955, 2.87641047971, 6283.14316029419,
+            0.00000006534, 5.79072926033, 18073.7049386502,
+            0.00000007188, 3.99831508699, 74.7815985673,
+            0.00000007346, 4.38582365437, 316.3918696566,
+            0.00000005413, 5.39199024641, 419.4846438752,
+            0.00000005127, 2.36062848786, 10973.55568635,
+            0.00000007056, 0.32258441903, 263.0839233728,
+            0.00000006625, 3.66475158672, 17298.1823273262,
+            0.00000006762, 5.91132535899, 90955.5516944961,
+            0.00000004938, 5.73672165674, 9917.6968745098,
+            0.00000005547, 2.45152597661, 12352.8526045448,
+            0.00000005958, 3.32051344676, 6283.0085396886,
+            0.00000004471, 2.06385999536, 7079.3738568078,
+            0.00000006153, 1.45823331144, 233141.31440436149,
+            0.00000004348, 4.42342175480, 5216.5803728014,
+            0.00000006123, 1.07494905258, 19804.8272915828,
+            0.00000004488, 3.65285037150, 206.1855484372,
+            0.00000004020, 0.83995823171, 20.3553193988,
+            0.00000005188, 4.06503864016, 6208.2942514241,
+            0.00000005307, 0.38217636096, 31441.6775697568,
+            0.00000003785, 2.34369213733, 3.881335358,
+            0.00000004497, 3.27230796845, 11015.1064773348,
+            0.00000004132, 0.92128915753, 3738.761430108,
+            0.00000003521, 5.97844807108, 3894.1818295422,
+            0.00000004215, 1.90601120623, 245.8316462294,
+            0.00000003701, 5.03069397926, 536.8045120954,
+            0.00000003865, 1.82634360607, 11856.2186514245,
+            0.00000003652, 1.01838584934, 16200.7727245012,
+            0.00000003390, 0.97785123922, 8635.9420037632,
+            0.00000003737, 2.95380107829, 3128.3887650958,
+            0.00000003507, 3.71291946325, 6290.1893969922,
+            0.00000003086, 3.64646921512, 10.6366653498,
+            0.00000003397, 1.10590684017, 14712.317116458,
+            0.00000003334, 0.83684924911, 6496.3749454294,
+            0.00000002805, 2.58504514144, 14314.1681130498,
+            0.00000003650, 1.08344142571, 88860.05707098669,
+            0.00000003388, 3.20185096055, 5120.6011455836,
+            0.00000003252, 3.47859752062, 6133.5126528568,
+            0.00000002553, 3.94869034189, 1990.745017041,
+            0.00000003520, 2.05559692878, 244287.60000722769,
+            0.00000002565, 1.56071784900, 23543.23050468179,
+            0.00000002621, 3.85639359951, 266.6070417218,
+            0.00000002955, 3.39692949667, 9225.539273283,
+            0.00000002876, 6.02635617464, 154717.60988768269,
+            0.00000002395, 1.16131956403, 10984.1923516998,
+            0.00000003161, 1.32798718453, 10873.9860304804,
+            0.00000003163, 5.08946464629, 21228.3920235458,
+            0.00000002361, 4.27212906992, 6040.3472460174,
+            0.00000003030, 1.80209931347, 35371.8872659764,
+            0.00000002343, 3.57689860500, 10969.9652576982,
+            0.00000002618, 2.57870156528, 22483.84857449259,
+            0.00000002113, 3.71393780256, 65147.6197681377,
+            0.00000002019, 0.81393923319, 170.6728706192,
+            0.00000002003, 0.38091017375, 6172.869528772,
+            0.00000002506, 3.74379142438, 10575.4066829418,
+            0.00000002381, 0.10581361289, 7.046236698,
+            0.00000001949, 4.86892513469, 36.0278666774,
+            0.00000002074, 4.22794774570, 5650.2921106782,
+            0.00000001924, 5.59460549860, 6282.0955289232,
+            0.00000001949, 1.07002512703, 5230.807466803,
+            0.00000001988, 5.19736046771, 6262.300454499,
+            0.00000001887, 3.74365662683, 23.8784377478,
+            0.00000001787, 1.25929682929, 12559.038152982,
+            0.00000001883, 1.90364058477, 15.252471185,
+            0.00000001816, 3.68083868442, 15110.4661198662,
+            0.00000001701, 4.41105895380, 110.2063212194,
+            0.00000001990, 3.93295788548, 6206.8097787158,
+            0.00000002103, 0.75354917468, 13521.7514415914,
+            0.00000001774, 0.48747535361, 1551.045222648,
+            0.00000001882, 0.86684493432, 22003.9146348698,
+            0.00000001924, 1.22898324132, 709.9330485583,
+            0.00000002009, 4.62850921980, 6037.244203762,
+            0.00000001924, 0.60231842508, 6284.0561710596,
+            0.00000001596, 3.98332956992, 13916.0191096416,
+            0.00000001664, 4.41939715469, 8662.240323563,
+            0.00000001971, 1.04560500503, 18209.33026366019,
+            0.00000001942, 4.31335979989, 6244.9428143536,
+            0.00000001476, 0.93271367331, 2379.1644735716,
+            0.00000001810, 0.49112137707, 1.4844727083,
+            0.00000001346, 1.51574702235, 4136.9104335162,
+            0.00000001528, 5.61835711404, 6127.6554505572,
+            0.00000001791, 3.22187270126, 39302.096962196,
+            0.00000001747, 3.05638656738, 18319.5365848796,
+            0.00000001431, 4.51153808594, 20426.571092422,
+            0.00000001695, 0.22047718414, 25158.6017197654,
+            0.00000001242, 4.46665769933, 17256.6315363414,
+            0.00000001463, 4.69242679213, 14945.3161735544,
+            0.00000001205, 1.86912144659, 4590.910180489,
+            0.00000001192, 2.74227166898, 12569.6748183318,
+            0.00000001222, 5.18120087482, 5333.9002410216,
+            0.00000001390, 5.42894648983, 143571.32428481648,
+            0.00000001473, 1.70479245805, 11712.9553182308,
+            0.00000001362, 2.61069503292, 6062.6632075526,
+            0.00000001148, 6.03001800540, 3634.6210245184,
+            0.00000001198, 5.15294130422, 10177.2576795336,
+            0.00000001266, 0.11421493643, 18422.62935909819,
+            0.00000001411, 1.09908857534, 3496.032826134,
+            0.00000001349, 2.99805109633, 17654.7805397496,
+            0.00000001253, 2.79850152848, 167283.76158766549,
+            0.00000001311, 1.60942984879, 5481.2549188676,
+            0.00000001079, 6.20304501787, 3.2863574178,
+            0.00000001181, 1.20653776978, 131.5419616864,
+            0.00000001254, 5.45103277798, 6076.8903015542,
+            0.00000001035, 2.32142722747, 7342.4577801806,
+            0.00000001117, 0.38838354256, 949.1756089698,
+            0.00000000966, 3.18341890851, 11087.2851259184,
+            0.00000001171, 3.39635049962, 12562.6285816338,
+            0.00000001121, 0.72627490378, 220.4126424388,
+            0.00000001024, 2.19378315386, 11403.676995575,
+            0.00000000888, 3.91173199285, 4686.8894077068,
+            0.00000000910, 1.98802695087, 735.8765135318,
+            0.00000000830, 0.48984915507, 24072.9214697764,
+            0.00000001096, 6.17377835617, 5436.9930152402,
+            0.00000000908, 0.44959639433, 7477.522860216,
+            0.00000000974, 1.52996238356, 9623.6882766912,
+            0.00000000840, 1.79543266333, 5429.8794682394,
+            0.00000000778, 6.17699177946, 38.1330356378,
+            0.00000000776, 4.09855402433, 14.2270940016,
+            0.00000001068, 4.64200173735, 43232.3066584156,
+            0.00000000954, 1.49988435748, 1162.4747044078,
+            0.00000000907, 0.86986870809, 10344.2950653858,
+            0.00000000931, 4.06044689031, 28766.924424484,
+            0.00000000739, 5.04368197372, 639.897286314,
+            0.00000000937, 3.46884698960, 1589.0728952838,
+            0.00000000763, 5.86304932998, 16858.4825329332,
+            0.00000000953, 4.20801492835, 11190.377900137,
+            0.00000000708, 1.72899988940, 13095.8426650774,
+            0.00000000969, 1.64439522215, 29088.811415985,
+            0.00000000717, 0.16688678895, 11.729352836,
+            0.00000000962, 3.53092337542, 12416.5885028482,
+            0.00000000747, 5.77866940346, 12592.4500197826,
+            0.00000000672, 1.91095796194, 3.9321532631,
+            0.00000000671, 5.46240843677, 18052.9295431578,
+            0.00000000675, 6.28311558823, 4535.0594369244,
+            0.00000000684, 0.39975012080, 5849.3641121146,
+            0.00000000799, 0.29851185294, 12132.439962106,
+            0.00000000758, 0.96370823331, 1052.2683831884,
+            0.00000000782, 5.33878339919, 13517.8701062334,
+            0.00000000730, 1.70106160291, 17267.26820169119,
+            0.00000000749, 2.59599901875, 11609.8625440122,
+            0.00000000734, 2.78417782952, 640.8776073822,
+            0.00000000688, 5.15048287468, 16496.3613962024,
+            0.00000000770, 1.62469589333, 4701.1165017084,
+            0.00000000633, 2.20587893893, 25934.1243310894,
+            0.00000000760, 4.21317219403, 377.3736079158,
+            0.00000000584, 2.13420121623, 10557.5941608238,
+            0.00000000574, 0.24250054587, 9779.1086761254,
+            0.00000000573, 3.16435264609, 533.2140834436,
+            0.00000000685, 3.19344289472, 12146.6670561076,
+            0.00000000675, 0.96179233959, 10454.5013866052,
+            0.00000000648, 1.46327342555, 6268.8487559898,
+            0.00000000589, 2.50543543638, 3097.88382272579,
+            0.00000000551, 5.28099026956, 9388.0059094152,
+            0.00000000696, 3.65342150016, 4804.209275927,
+            0.00000000669, 2.51030077026, 2388.8940204492,
+            0.00000000550, 0.06883864342, 20199.094959633,
+            0.00000000629, 4.13350995675, 45892.73043315699,
+            0.00000000678, 6.09190163533, 135.62532501,
+            0.00000000593, 1.50136257618, 226858.23855437008,
+            0.00000000542, 3.58573645173, 6148.010769956,
+            0.00000000682, 5.02203067788, 17253.04110768959,
+            0.00000000565, 4.29309238610, 11933.3679606696,
+            0.00000000486, 0.77746204893, 27.4015560968,
+            0.00000000503, 0.58963565969, 15671.0817594066,
+            0.00000000616, 4.06539884128, 227.476132789,
+            0.00000000583, 6.12695541996, 18875.525869774,
+            0.00000000537, 2.15056440980, 21954.15760939799,
+            0.00000000669, 6.06986269566, 47162.5163546352,
+            0.00000000475, 0.40343842110, 6915.8595893046,
+            0.00000000540, 2.83444222174, 5326.7866940208,
+            0.00000000530, 5.26359885263, 10988.808157535,
+            0.00000000582, 3.24533095664, 153.7788104848,
+            0.00000000641, 3.24711791371, 2107.0345075424,
+            0.00000000621, 3.09698523779, 33019.0211122046,
+            0.00000000466, 3.14982372198, 10440.2742926036,
+            0.00000000466, 0.90708835657, 5966.6839803348,
+            0.00000000528, 0.81926454470, 813.5502839598,
+            0.00000000603, 3.81378921927, 316428.22867391503,
+            0.00000000559, 1.81894804124, 17996.0311682222,
+            0.00000000437, 2.28625594435, 6303.8512454838,
+            0.00000000518, 4.86069178322, 20597.2439630412,
+            0.00000000424, 6.23520018693, 6489.2613984286,
+            0.00000000518, 6.17617826756, 0.2438174835,
+            0.00000000404, 5.72804304258, 5642.1982426092,
+            0.00000000458, 1.34117773915, 6287.0080032545,
+            0.00000000548, 5.68454458320, 155427.54293624099,
+            0.00000000547, 1.03391472061, 3646.3503773544,
+            0.00000000428, 4.69800981138, 846.0828347512,
+            0.00000000413, 6.02520699406, 6279.4854213396,
+            0.00000000534, 3.03030638223, 66567.48586525429,
+            0.00000000383, 1.49056949125, 19800.9459562248,
+            0.00000000410, 5.28319622279, 18451.07854656599,
+            0.00000000352, 4.68891600359, 4907.3020501456,
+            0.00000000480, 5.36572651091, 348.924420448,
+            0.00000000344, 5.89157452896, 6546.1597733642,
+            0.00000000340, 0.37557426440, 13119.72110282519,
+            0.00000000434, 4.98417785901, 6702.5604938666,
+            0.00000000332, 2.68902519126, 29296.6153895786,
+            0.00000000448, 2.16478480251, 5905.7022420756,
+            0.00000000344, 2.06546633735, 49.7570254718,
+            0.00000000315, 1.24023811803, 4061.2192153944,
+            0.00000000324, 2.30897526929, 5017.508371365,
+            0.00000000413, 0.17171692962, 6286.6662786432,
+            0.00000000431, 3.86601101393, 12489.8856287072,
+            0.00000000349, 4.55372342974, 4933.2084403326,
+            0.00000000323, 0.41971136084, 10770.8932562618,
+            0.00000000341, 2.68612860807, 11.0457002639,
+            0.00000000316, 3.52936906658, 17782.7320727842,
+            0.00000000315, 5.63357264999, 568.8218740274,
+            0.00000000340, 3.83571212349, 10660.6869350424,
+            0.00000000297, 0.62691416712, 20995.3929664494,
+            0.00000000405, 1.00085779471, 16460.33352952499,
+            0.00000000414, 1.21998752076, 51092.7260508548,
+            0.00000000336, 4.71465945226, 6179.9830757728,
+            0.00000000361, 3.71227508354, 28237.2334593894,
+            0.00000000385, 6.21925225757, 24356.7807886416,
+            0.00000000327, 1.05606504715, 11919.140866668,
+            0.00000000327, 6.14222420989, 6254.6266625236,
+            0.00000000268, 2.47224339737, 664.75604513,
+            0.00000000269, 1.86207884109, 23141.5583829246,
+            0.00000000345, 0.93461290184, 6058.7310542895,
+            0.00000000296, 4.51687557180, 6418.1409300268,
+            0.00000000353, 4.50033653082, 36949.2308084242,
+            0.00000000260, 4.04963546305, 6525.8044539654,
+            0.00000000298, 2.20046722622, 156137.47598479928,
+            0.00000000253, 3.49900838384, 29864.334027309,
+            0.00000000254, 2.44901693835, 5331.3574437408,
+            0.00000000296, 0.84347588787, 5729.506447149,
+            0.00000000298, 1.29194706125, 22805.7355659936,
+            0.00000000241, 2.00721280805, 16737.5772365966,
+            0.00000000311, 1.23668016334, 6281.5913772831,
+            0.00000000240, 2.51650377121, 6245.0481773556,
+            0.00000000332, 3.55576945724, 7668.6374249425,
+            0.00000000264, 4.44052061202, 12964.300703391,
+            0.00000000257, 1.79654471948, 11080.1715789176,
+            0.00000000260, 3.33077598420, 5888.4499649322,
+            0.00000000285, 0.30886361430, 11823.1616394502,
+            0.00000000290, 5.70141882483, 77.673770428,
+            0.00000000255, 4.00939664440, 5881.4037282342,
+            0.00000000253, 4.73318493678, 16723.350142595,
+            0.00000000228, 0.95333661324, 5540.0857894588,
+            0.00000000319, 1.38633229189, 163096.18036118349,
+            0.00000000224, 1.65156322696, 10027.9031957292,
+            0.00000000226, 0.34106460604, 17796.9591667858,
+            0.00000000236, 4.19817431922, 19.66976089979,
+            0.00000000280, 4.14080268970, 12539.853380183,
+            0.00000000275, 5.50306930248, 32.5325507914,
+            0.00000000223, 5.23334210294, 56.8983749356,
+            0.00000000217, 6.08587881787, 6805.6532680852,
+            0.00000000280, 4.52472044653, 6016.4688082696,
+            0.00000000227, 5.06509843737, 6277.552925684,
+            0.00000000226, 5.17755154305, 11720.0688652316,
+            0.00000000245, 3.96486270306, 22.7752014508,
+            0.00000000220, 4.72078081970, 6.62855890001,
+            0.00000000207, 5.71701403951, 41.5507909848,
+            0.00000000204, 3.91227411250, 2699.7348193176,
+            0.00000000209, 0.86881969011, 6321.1035226272,
+            0.00000000200, 2.11984445273, 4274.5183108324,
+            0.00000000200, 5.39839888163, 6019.9919266186,
+            0.00000000209, 5.67606291663, 11293.4706743556,
+            0.00000000252, 1.64965729351, 9380.9596727172,
+            0.00000000275, 5.04826903506, 73.297125859,
+            0.00000000208, 1.88207277133, 11300.5842213564,
+            0.00000000272, 0.74640926842, 1975.492545856,
+            0.00000000199, 3.30836672397, 22743.4093795164,
+            0.00000000269, 4.48560812155, 64471.99124174489,
+            0.00000000192, 2.17464236325, 5863.5912061162,
+            0.00000000228, 5.85373115869, 128.0188433374,
+            0.00000000261, 2.64321183295, 55022.9357470744,
+            0.00000000220, 5.75012110079, 29.429508536,
+            0.00000000187, 4.03230554718, 467.9649903544,
+            0.00000000200, 5.60556112058, 1066.49547719,
+            0.00000000231, 1.09802712785, 12341.8069042809,
+            0.00000000199, 0.29500625200, 149.5631971346,
+            0.00000000249, 5.10473210814, 7875.6718636242,
+            0.00000000208, 0.93013835019, 14919.0178537546,
+            0.00000000179, 0.87104393079, 12721.572099417,
+            0.00000000203, 1.56920753653, 28286.9904848612,
+            0.00000000179, 2.47036386443, 16062.1845261168,
+            0.00000000198, 3.54061588502, 30.914125635,
+            0.00000000171, 3.45356518113, 5327.4761083828,
+            0.00000000183, 0.72325421604, 6272.0301497275,
+            0.00000000216, 2.97174580686, 19402.7969528166,
+            0.00000000168, 2.51550550242, 23937.856389741,
+            0.00000000195, 0.09045393425, 156.4007205024,
+            0.00000000179, 4.49471798090, 31415.379249957,
+            0.00000000216, 0.42177594328, 23539.7073863328,
+            0.00000000189, 0.37542530191, 9814.6041002912,
+            0.00000000218, 2.36835880025, 16627.3709153772,
+            0.00000000166, 4.23182968446, 16840.67001081519,
+            0.00000000200, 2.02153258098, 16097.6799502826,
+            0.00000000169, 0.91318727000, 95.9792272178,
+            0.00000000211, 5.73370637657, 151.8972810852,
+            0.00000000204, 0.42643085174, 515.463871093,
+            0.00000000212, 3.00233538977, 12043.574281889,
+            0.00000000192, 5.46153589821, 6379.0550772092,
+            0.00000000165, 1.38698167064, 4171.4255366138,
+            0.00000000160, 6.23798383332, 202.2533951741,
+            0.00000000215, 0.20889073407, 5621.8429232104,
+            0.00000000181, 4.12439203622, 13341.6743113068,
+            0.00000000153, 1.24460848836, 29826.3063546732,
+            0.00000000150, 3.12999753018, 799.8211251654,
+            0.00000000175, 4.55671604437, 239424.39025435288,
+            0.00000000192, 1.33928820063, 394.6258850592,
+            0.00000000149, 2.65697593276, 21.335640467,
+            0.00000000146, 5.58021191726, 412.3710968744,
+            0.00000000156, 3.75650175503, 12323.4230960088,
+            0.00000000143, 3.75708566606, 58864.5439181463,
+            0.00000000143, 3.28248547724, 29.8214381488,
+            0.00000000144, 1.07862546598, 1265.5674786264,
+            0.00000000148, 0.23389236655, 10021.8372800994,
+            0.00000000193, 5.92751083086, 40879.4405046438,
+            0.00000000140, 4.97612440269, 158.9435177832,
+            0.00000000148, 2.61640453469, 17157.0618804718,
+            0.00000000141, 3.66871308723, 26084.0218062162,
+            0.00000000147, 5.09968173403, 661.232926781,
+            0.00000000146, 4.96885605695, 57375.8019008462,
+            0.00000000142, 0.78678347839, 12779.4507954208,
+            0.00000000134, 4.79432636012, 111.1866422876,
+            0.00000000140, 1.27748013377, 107.6635239386,
+            0.00000000169, 2.74893543762, 26735.9452622132,
+            0.00000000165, 3.95288000638, 6357.8574485587,
+            0.00000000183, 5.43418358741, 369.6998159404,
+            0.00000000134, 3.09132862833, 17.812522118,
+            0.00000000132, 3.05633896779, 22490.9621214934,
+            0.00000000134, 4.09472795832, 6599.467719648,
+            0.00000000181, 4.22950689891, 966.9708774356,
+            0.00000000152, 5.28885894415, 12669.2444742014,
+            0.00000000150, 5.86819430908, 97238.62754448749,
+            0.00000000142, 5.87266532526, 22476.73502749179,
+            0.00000000145, 5.07330784304, 87.30820453981,
+            0.00000000133, 5.65471067133, 31.9723058168,
+            0.00000000124, 2.83326217072, 12566.2190102856,
+            0.00000000135, 3.12861731644, 32217.2001810808,
+            0.00000000137, 0.86487461904, 9924.8104215106,
+            0.00000000172, 1.98369595114, 174242.4659640497,
+            0.00000000170, 4.41115280254, 327574.51427678125,
+            0.00000000151, 0.46542099527, 39609.6545831656,
+            0.00000000148, 2.13439571118, 491.6632924588,
+            0.00000000153, 3.78801830344, 17363.24742890899,
+            0.00000000165, 5.31654110459, 16943.7627850338,
+            0.00000000165, 4.06747587817, 58953.145443294,
+            0.00000000118, 0.63846333239, 6.0659156298,
+            0.00000000159, 0.86086959274, 221995.02880149524,
+            0.00000000119, 5.96432932413, 1385.8952763362,
+            0.00000000114, 5.16516114595, 25685.872802808,
+            0.00000000112, 3.39403722178, 21393.5419698576,
+            0.00000000112, 4.92889233335, 56.8032621698,
+            0.00000000119, 2.40637635942, 18635.9284545362,
+            0.00000000115, 0.23374479051, 418.9243989006,
+            0.00000000122, 0.93575234049, 24492.40611365159,
+            0.00000000115, 4.58880032176, 26709.6469424134,
+            0.00000000130, 4.85539251000, 22345.2603761082,
+            0.00000000140, 1.09413073202, 44809.6502008634,
+            0.00000000112, 6.05401806281, 433.7117378768,
+            0.00000000104, 1.54931540602, 127.9515330346,
+            0.00000000105, 4.82620858888, 33794.5437235286,
+            0.00000000102, 4.12448497391, 15664.03552270859,
+            0.00000000107, 4.67919356465, 77690.75950573849,
+            0.00000000118, 4.52320170120, 19004.6479494084,
+            0.00000000107, 5.71774478555, 77736.78343050249,
+            0.00000000143, 1.81201813018, 4214.0690150848,
+            0.00000000125, 1.14419195615, 625.6701923124,
+            0.00000000124, 3.27736514057, 12566.08438968,
+            0.00000000110, 1.08682570828, 2787.0430238574,
+            0.00000000105, 1.78318141871, 18139.2945014159,
+            0.00000000102, 4.75119578149, 12242.6462833254,
+            0.00000000137, 1.43510636754, 86464.61331683119,
+            0.00000000101, 4.91289409429, 401.6721217572,
+            0.00000000129, 1.23567904485, 12029.3471878874,
+            0.00000000138, 2.45654707999, 7576.560073574,
+            0.00000000103, 0.40004073416, 90279.92316810328,
+            0.00000000108, 0.98989774940, 5636.0650166766,
+            0.00000000117, 5.17362872063, 34520.3093093808,
+            0.00000000100, 3.95534628189, 5547.1993364596,
+            0.00000000098, 1.28118280598, 21548.9623692918,
+            0.00000000097, 3.34717130592, 16310.9790457206,
+            0.00000000098, 4.37041908717, 34513.2630726828,
+            0.00000000125, 2.72164432960, 24065.80792277559,
+            0.00000000102, 0.66938025772, 10239.5838660108,
+            0.00000000119, 1.21689479331, 1478.8665740644,
+            0.00000000094, 1.99595224256, 13362.4497067992,
+            0.00000000094, 4.30965982872, 26880.3198130326,
+            0.00000000095, 2.89807657534, 34911.412076091,
+            0.00000000106, 1.00156653590, 16522.6597160022,
+            0.00000000097, 0.89642320201, 71980.63357473118,
+            0.00000000116, 4.19967201116, 206.7007372966,
+            0.00000000099, 1.37437847718, 1039.0266107904,
+            0.00000000126, 3.21642544972, 305281.94307104882,
+            0.00000000094, 0.68997876060, 7834.1210726394,
+            0.00000000094, 5.58132218606, 3104.9300594238,
+            0.00000000095, 3.03823741110, 8982.810669309,
+            0.00000000108, 0.52696637156, 276.7457718644,
+            0.00000000124, 3.43899862683, 172146.97134054029,
+            0.00000000102, 1.04031728553, 95143.1329209781,
+            0.00000000104, 3.39218586218, 290.972865866,
+            0.00000000110, 3.68205877433, 22380.755800274,
+            0.00000000117, 0.78475956902, 83286.91426955358,
+            0.00000000083, 0.18241793425, 15141.390794312,
+            0.00000000089, 4.45371820659, 792.7748884674,
+            0.00000000082, 4.80703651241, 6819.8803620868,
+            0.00000000087, 3.43122851097, 27707.5424942948,
+            0.00000000101, 5.32081603011, 2301.58581590939,
+            0.00000000082, 0.87060089842, 10241.2022911672,
+            0.00000000086, 4.61919461931, 36147.4098773004,
+            0.00000000095, 2.87032884659, 23020.65308658799,
+            0.00000000088, 3.21133165690, 33326.5787331742,
+            0.00000000080, 1.84900424847, 21424.4666443034,
+            0.00000000101, 4.18796434479, 30666.1549584328,
+            0.00000000107, 5.77864921649, 34115.1140692746,
+            0.00000000104, 1.08739495962, 6288.5987742988,
+            0.00000000110, 3.32898859416, 72140.62866668739,
+            0.00000000087, 4.40657711727, 142.1786270362,
+            0.00000000109, 1.94546030825, 24279.10701821359,
+            0.00000000087, 4.32472045435, 742.9900605326,
+            0.00000000107, 4.91580912547, 277.0349937414,
+            0.00000000088, 2.10180220766, 26482.1708096244,
+            0.00000000086, 4.01887374432, 12491.3701014155,
+            0.00000000106, 5.49092372854, 62883.3551395136,
+            0.00000000080, 6.19781316983, 6709.6740408674,
+            0.00000000088, 2.09872810657, 238004.52415723629,
+            0.00000000083, 4.90662164029, 51.28033786241,
+            0.00000000095, 4.13387406591, 18216.443810661,
+            0.00000000078, 6.06949391680, 148434.53403769129,
+            0.00000000079, 3.03048221644, 838.9692877504,
+            0.00000000074, 5.49813051211, 29026.48522950779,
+            0.00000000073, 3.05008665738, 567.7186377304,
+            0.00000000084, 0.46604373274, 45.1412196366,
+            0.00000000093, 2.52267536308, 48739.859897083,
+            0.00000000076, 1.76418124905, 41654.9631159678,
+            0.00000000067, 5.77851227793, 6311.5250374592,
+            0.00000000062, 3.32967880172, 15508.6151232744,
+            0.00000000079, 5.59773841328, 71960.38658322369,
+            0.00000000057, 3.90629505268, 5999.2165311262,
+            0.00000000061, 0.05695043232, 7856.89627409019,
+            0.00000000061, 5.63297958433, 7863.9425107882,
+            0.00000000065, 3.72178394016, 12573.2652469836,
+            0.00000000057, 4.18217219541, 26087.9031415742,
+            0.00000000066, 3.92262333487, 69853.35207568129,
+            0.00000000053, 5.51119362045, 77710.24834977149,
+            0.00000000053, 4.88573986961, 77717.29458646949,
+            0.00000000062, 2.88876342225, 9411.4646150872,
+            0.00000000051, 1.12657183874, 82576.98122099529,
+            0.00000000045, 2.95671076719, 24602.61243487099,
+            0.00000000040, 5.55145719241, 12565.1713789146,
+            0.00000000039, 1.20838190039, 18842.11400297339,
+            0.00000000045, 3.18590558749, 45585.1728121874,
+            0.00000000049, 2.44790934886, 13613.804277336
+    };
+
+    public static final double[] PARAMS1      = {
+            6283.31966747491, 0, 0,
+            0.00206058863, 2.67823455584, 6283.0758499914,
+            0.00004303430, 2.63512650414, 12566.1516999828,
+            0.00000425264, 1.59046980729, 3.523118349,
+            0.00000108977, 2.96618001993, 1577.3435424478,
+            0.00000093478, 2.59212835365, 18849.2275499742,
+            0.00000119261, 5.79557487799, 26.2983197998,
+            0.00000072122, 1.13846158196, 529.6909650946,
+            0.00000067768, 1.87472304791, 398.1490034082,
+            0.00000067327, 4.40918235168, 5507.5532386674,
+            0.00000059027, 2.88797038460, 5223.6939198022,
+            0.00000055976, 2.17471680261, 155.4203994342,
+            0.00000045407, 0.39803079805, 796.2980068164,
+            0.00000036369, 0.46624739835, 775.522611324,
+            0.00000028958, 2.64707383882, 7.1135470008,
+            0.00000019097, 1.84628332577, 5486.777843175,
+            0.00000020844, 5.34138275149, 0.9803210682,
+            0.00000018508, 4.96855124577, 213.299095438,
+            0.00000016233, 0.03216483047, 2544.3144198834,
+            0.00000017293, 2.99116864949, 6275.9623029906,
+            0.00000015832, 1.43049285325, 2146.1654164752,
+            0.00000014615, 1.20532366323, 10977.078804699,
+            0.00000011877, 3.25804815607, 5088.6288397668,
+            0.00000011514, 2.07502418155, 4694.0029547076,
+            0.00000009721, 4.23925472239, 1349.8674096588,
+            0.00000009969, 1.30262991097, 6286.5989683404,
+            0.00000009452, 2.69957062864, 242.728603974,
+            0.00000012461, 2.83432285512, 1748.016413067,
+            0.00000011808, 5.27379790480, 1194.4470102246,
+            0.00000008577, 5.64475868067, 951.7184062506,
+            0.00000010641, 0.76614199202, 553.5694028424,
+            0.00000007576, 5.30062664886, 2352.8661537718,
+            0.00000005834, 1.76649917904, 1059.3819301892,
+            0.00000006385, 2.65033984967, 9437.762934887,
+            0.00000005223, 5.66135767624, 71430.69561812909,
+            0.00000005305, 0.90857521574, 3154.6870848956,
+            0.00000006101, 4.66632584188, 4690.4798363586,
+            0.00000004330, 0.24102555403, 6812.766815086,
+            0.00000005041, 1.42490103709, 6438.4962494256,
+            0.00000004259, 0.77355900599, 10447.3878396044,
+            0.00000005198, 1.85353197345, 801.8209311238,
+            0.00000003744, 2.00119516488, 8031.0922630584,
+            0.00000003558, 2.42901552681, 14143.4952424306,
+            0.00000003372, 3.86210700128, 1592.5960136328,
+            0.00000003374, 0.88776219727, 12036.4607348882,
+            0.00000003175, 3.18785710594, 4705.7323075436,
+            0.00000003221, 0.61599835472, 8429.2412664666,
+            0.00000004132, 5.23992859705, 7084.8967811152,
+            0.00000002970, 6.07026318493, 4292.3308329504,
+            0.00000002900, 2.32464208411, 20.3553193988,
+            0.00000003504, 4.79975694359, 6279.5527316424,
+            0.00000002950, 1.43108874817, 5746.271337896,
+            0.00000002697, 4.80368225199, 7234.794256242,
+            0.00000002531, 6.22290682655, 6836.6452528338,
+            0.00000002745, 0.93466065396, 5760.4984318976,
+            0.00000003250, 3.39954640038, 7632.9432596502,
+            0.00000002277, 5.00277837672, 17789.845619785,
+            0.00000002075, 3.95534978634, 10213.285546211,
+            0.00000002061, 2.22411683077, 5856.4776591154,
+            0.00000002252, 5.67166499885, 11499.6562227928,
+            0.00000002148, 5.20184578235, 11513.8833167944,
+            0.00000001886, 0.53198320577, 3340.6124266998,
+            0.00000001875, 4.73511970207, 83996.84731811189,
+            0.00000002060, 2.54987293999, 25132.3033999656,
+            0.00000001794, 1.47435409831, 4164.311989613,
+            0.00000001778, 3.02473091781, 5.5229243074,
+            0.00000002029, 0.90960209983, 6256.7775301916,
+            0.00000002075, 2.26767270157, 522.5774180938,
+            0.00000001772, 3.02622802353, 5753.3848848968,
+            0.00000001569, 6.12410242782, 5216.5803728014,
+            0.00000001590, 4.63713748247, 3.2863574178,
+            0.00000001542, 4.20004448567, 13367.9726311066,
+            0.00000001427, 1.19088061711, 3894.1818295422,
+            0.00000001375, 3.09301252193, 135.0650800354,
+            0.00000001359, 4.24532506641, 426.598190876,
+            0.00000001340, 5.76511818622, 6040.3472460174,
+            0.00000001284, 3.08524663344, 5643.1785636774,
+            0.00000001250, 3.07748157144, 11926.2544136688,
+            0.00000001551, 3.07665451458, 6681.2248533996,
+            0.00000001268, 2.09196018331, 6290.1893969922,
+            0.00000001144, 3.24444699514, 12168.0026965746,
+            0.00000001248, 3.44504937285, 536.8045120954,
+            0.00000001118, 2.31829670425, 16730.4636895958,
+            0.00000001105, 5.31966001019, 23.8784377478,
+            0.00000001051, 3.75015946014, 7860.4193924392,
+            0.00000001025, 2.44688534235, 1990.745017041,
+            0.00000000962, 0.81771017882, 3.881335358,
+            0.00000000910, 0.41727865299, 7079.3738568078,
+            0.00000000883, 5.16833917651, 11790.6290886588,
+            0.00000000957, 4.07673573735, 6127.6554505572,
+            0.00000001110, 3.90096793825, 11506.7697697936,
+            0.00000000802, 3.88778875582, 10973.55568635,
+            0.00000000780, 2.39934293755, 1589.0728952838,
+            0.00000000758, 1.30034364248, 103.0927742186,
+            0.00000000749, 4.96275803300, 6496.3749454294,
+            0.00000000765, 3.36312388424, 36.0278666774,
+            0.00000000915, 5.41543742089, 206.1855484372,
+            0.00000000776, 2.57589093871, 11371.7046897582,
+            0.00000000772, 3.98369209464, 955.5997416086,
+            0.00000000749, 5.17890001805, 10969.9652576982,
+            0.00000000806, 0.34218864254, 9917.6968745098,
+            0.00000000728, 5.20962563787, 38.0276726358,
+            0.00000000685, 2.77592961854, 20.7753954924,
+            0.00000000636, 4.28242193632, 28.4491874678,
+            0.00000000608, 5.63278508906, 10984.1923516998,
+            0.00000000704, 5.60738823665, 3738.761430108,
+            0.00000000685, 0.38876148682, 15.252471185,
+            0.00000000601, 0.73489602442, 419.4846438752,
+            0.00000000716, 2.65279791438, 6309.3741697912,
+            0.00000000584, 5.54502568227, 17298.1823273262,
+            0.00000000650, 1.13379656406, 7058.5984613154,
+            0.00000000688, 2.59683891779, 3496.032826134,
+            0.00000000485, 0.44467180946, 12352.8526045448,
+            0.00000000528, 2.74936967681, 3930.2096962196,
+            0.00000000597, 5.27668281777, 10575.4066829418,
+            0.00000000583, 3.18929067810, 4732.0306273434,
+            0.00000000526, 5.01697321546, 5884.9268465832,
+            0.00000000540, 1.29175137075, 640.8776073822,
+            0.00000000473, 5.49953306970, 5230.807466803,
+            0.00000000406, 5.21248452189, 220.4126424388,
+            0.00000000395, 1.87474483222, 16200.7727245012,
+            0.00000000370, 3.84921354713, 18073.7049386502,
+            0.00000000367, 0.88533542778, 6283.14316029419,
+            0.00000000379, 0.37983009325, 10177.2576795336,
+            0.00000000356, 3.84145204913, 11712.9553182308,
+            0.00000000374, 5.01577520608, 7.046236698,
+            0.00000000381, 4.30250406634, 6062.6632075526,
+            0.00000000471, 0.86381834647, 6069.7767545534,
+            0.00000000367, 1.32943839763, 6283.0085396886,
+            0.00000000460, 5.19667219575, 6284.0561710596,
+            0.00000000333, 5.54256205741, 4686.8894077068,
+            0.00000000341, 4.36522989934, 7238.67559160,
+            0.00000000336, 4.00205876835, 3097.88382272579,
+            0.00000000359, 6.22679790284, 245.8316462294,
+            0.00000000307, 2.35299010924, 170.6728706192,
+            0.00000000343, 3.77164927143, 6076.8903015542,
+            0.00000000296, 5.44152227481, 17260.1546546904,
+            0.00000000328, 0.13837875384, 11015.1064773348,
+            0.00000000268, 1.13904550630, 12569.6748183318,
+            0.00000000263, 0.00538633678, 4136.9104335162,
+            0.00000000282, 5.04399837480, 7477.522860216,
+            0.00000000288, 3.13401177517, 12559.038152982,
+            0.00000000259, 0.93882269387, 5642.1982426092,
+            0.00000000292, 1.98420020514, 12132.439962106,
+            0.00000000247, 3.84244798532, 5429.8794682394,
+            0.00000000245, 5.70467521726, 65147.6197681377,
+            0.00000000241, 0.99480969552, 3634.6210245184,
+            0.00000000246, 3.06168069935, 110.2063212194,
+            0.00000000239, 6.11855909114, 11856.2186514245,
+            0.00000000263, 0.66348415419, 21228.3920235458,
+            0.00000000262, 1.51070507866, 12146.6670561076,
+            0.00000000230, 1.75927314884, 9779.1086761254,
+            0.00000000223, 2.00967043606, 6172.869528772,
+            0.00000000246, 1.10411690865, 6282.0955289232,
+            0.00000000221, 3.03945240854, 8635.9420037632,
+            0.00000000214, 4.03840869663, 14314.1681130498,
+            0.00000000236, 5.46915070580, 13916.0191096416,
+            0.00000000224, 4.68408089456, 24072.9214697764,
+            0.00000000212, 2.13695625494, 5849.3641121146,
+            0.00000000207, 3.07724246401, 11.729352836,
+            0.00000000207, 6.10306282747, 23543.23050468179,
+            0.00000000266, 1.00709566823, 2388.8940204492,
+            0.00000000217, 6.27837036335, 17267.26820169119,
+            0.00000000204, 2.34615348695, 266.6070417218,
+            0.00000000195, 5.55015549753, 6133.5126528568,
+            0.00000000188, 2.52667166175, 6525.8044539654,
+            0.00000000185, 0.90960768344, 18319.5365848796,
+            0.00000000177, 1.73429218289, 154717.60988768269,
+            0.00000000187, 4.76483647432, 4535.0594369244,
+            0.00000000186, 4.63080493407, 10440.2742926036,
+            0.00000000215, 2.81255454560, 7342.4577801806,
+            0.00000000172, 1.45551888559, 9225.539273283,
+            0.00000000162, 3.30661909388, 639.897286314,
+            0.00000000168, 2.17671416605, 27.4015560968,
+            0.00000000160, 1.68164180475, 15110.4661198662,
+            0.00000000158, 0.13519771874, 13095.8426650774,
+            0.00000000183, 0.56281322071, 13517.8701062334,
+            0.00000000179, 3.58450811616, 87.30820453981,
+            0.00000000152, 2.84070476818, 5650.2921106782,
+            0.00000000182, 0.44065530624, 17253.04110768959,
+            0.00000000160, 5.95767264171, 4701.1165017084,
+            0.00000000142, 1.46290137520, 11087.2851259184,
+            0.00000000142, 2.04464036087, 20426.571092422,
+            0.00000000131, 5.40912137746, 2699.7348193176,
+            0.00000000144, 2.07312090485, 25158.6017197654,
+            0.00000000147, 6.15106982168, 9623.6882766912,
+            0.00000000141, 5.55739979498, 10454.5013866052,
+            0.00000000135, 0.06098110407, 16723.350142595,
+            0.00000000124, 5.81218025669, 17256.6315363414,
+            0.00000000124, 2.36293551623, 4933.2084403326,
+            0.00000000126, 3.47435905118, 22483.84857449259,
+            0.00000000159, 5.63954754618, 5729.506447149,
+            0.00000000123, 3.92815963256, 17996.0311682222,
+            0.00000000148, 3.02509280598, 1551.045222648,
+            0.00000000120, 5.91904349732, 6206.8097787158,
+            0.00000000134, 3.11122937825, 21954.15760939799,
+            0.00000000119, 5.52141123450, 709.9330485583,
+            0.00000000122, 3.00813429479, 19800.9459562248,
+            0.00000000127, 1.37618620001, 14945.3161735544,
+            0.00000000141, 2.56889468729, 1052.2683831884,
+            0.00000000123, 2.83671175442, 11919.140866668,
+            0.00000000118, 0.81934438215, 5331.3574437408,
+            0.00000000151, 2.68731829165, 11769.8536931664,
+            0.00000000119, 5.08835797638, 5481.2549188676,
+            0.00000000153, 2.46021790779, 11933.3679606696,
+            0.00000000108, 1.04936452145, 11403.676995575,
+            0.00000000128, 0.99794735107, 8827.3902698748,
+            0.00000000144, 2.54869747042, 227.476132789,
+            0.00000000150, 4.50631437136, 2379.1644735716,
+            0.00000000107, 1.79272017026, 13119.72110282519,
+            0.00000000107, 4.43556814486, 18422.62935909819,
+            0.00000000109, 0.29269062317, 16737.5772365966,
+            0.00000000141, 3.18979826258, 6262.300454499,
+            0.00000000122, 4.23040027813, 29.429508536,
+            0.00000000111, 5.16954029551, 17782.7320727842,
+            0.00000000100, 3.52213872761, 18052.9295431578,
+            0.00000000108, 1.08514212991, 16858.4825329332,
+            0.00000000106, 1.96085248410, 74.7815985673,
+            0.00000000110, 2.30582372873, 16460.33352952499,
+            0.00000000097, 3.50918940210, 5333.9002410216,
+            0.00000000099, 3.56417337974, 735.8765135318,
+            0.00000000094, 5.01857894228, 3128.3887650958,
+            0.00000000097, 1.65579893894, 533.2140834436,
+            0.00000000092, 0.89217162285, 29296.6153895786,
+            0.00000000123, 3.16062050433, 9380.9596727172,
+            0.00000000102, 1.20493500565, 23020.65308658799,
+            0.00000000088, 2.21296088224, 12721.572099417,
+            0.00000000089, 1.54264720310, 20199.094959633,
+            0.00000000113, 4.83320707870, 16496.3613962024,
+            0.00000000121, 6.19860353182, 9388.0059094152,
+            0.00000000089, 4.08082274765, 22805.7355659936,
+            0.00000000098, 1.09181832830, 12043.574281889,
+            0.00000000086, 1.13655027605, 143571.32428481648,
+            0.00000000088, 5.96980472191, 107.6635239386,
+            0.00000000082, 5.01340404594, 22003.9146348698,
+            0.00000000094, 1.69615700473, 23006.42599258639,
+            0.00000000081, 3.00657814365, 2118.7638603784,
+            0.00000000098, 1.39215287161, 8662.240323563,
+            0.00000000077, 3.33555190840, 15720.8387848784,
+            0.00000000082, 5.86880116464, 2787.0430238574,
+            0.00000000076, 5.67183650604, 14.2270940016,
+            0.00000000081, 6.16619455699, 1039.0266107904,
+            0.00000000076, 3.21449884756, 111.1866422876,
+            0.00000000078, 1.37531518377, 21947.11137270,
+            0.00000000074, 3.58814195051, 11609.8625440122,
+            0.00000000077, 4.84846488388, 22743.4093795164,
+            0.00000000090, 1.48869013606, 15671.0817594066,
+            0.00000000082, 3.48618399109, 29088.811415985,
+            0.00000000069, 3.55746476593, 4590.910180489,
+            0.00000000069, 1.93625656075, 135.62532501,
+            0.00000000070, 2.66548322237, 18875.525869774,
+            0.00000000069, 5.41478093731, 26735.9452622132,
+            0.00000000079, 5.15154513662, 12323.4230960088,
+            0.00000000094, 3.62899392448, 77713.7714681205,
+            0.00000000078, 4.17011182047, 1066.49547719,
+            0.00000000071, 3.89435637865, 22779.4372461938,
+            0.00000000063, 4.53968787714, 8982.810669309,
+            0.00000000069, 0.96028230548, 14919.0178537546,
+            0.00000000076, 3.29092216589, 2942.4634232916,
+            0.00000000063, 4.09167842893, 16062.1845261168,
+            0.00000000065, 3.34580407184, 51.28033786241,
+            0.00000000065, 5.75757544877, 52670.0695933026,
+            0.00000000068, 5.75884067555, 21424.4666443034,
+            0.00000000057, 5.45122399850, 12592.4500197826,
+            0.00000000057, 5.25043362558, 20995.3929664494,
+            0.00000000073, 0.53299090807, 2301.58581590939,
+            0.00000000070, 4.31243357502, 19402.7969528166,
+            0.00000000067, 2.53852336668, 377.3736079158,
+            0.00000000056, 3.20816844695, 24889.5747959916,
+            0.00000000053, 3.17816599142, 18451.07854656599,
+            0.00000000053, 3.61529270216, 77.673770428,
+            0.00000000053, 0.45467549335, 30666.1549584328,
+            0.00000000061, 0.14807288453, 23013.5395395872,
+            0.00000000051, 3.32803972907, 56.8983749356,
+            0.00000000052, 3.41177624177, 23141.5583829246,
+            0.00000000058, 3.13638677202, 309.2783226558,
+            0.00000000070, 2.50592323465, 31415.379249957,
+            0.00000000052, 5.10673376738, 17796.9591667858,
+            0.00000000067, 6.27917920454, 22345.2603761082,
+            0.00000000050, 0.42577644151, 25685.872802808,
+            0.00000000048, 0.70204553333, 1162.4747044078,
+            0.00000000066, 3.64350022359, 15265.8865193004,
+            0.00000000050, 5.74382917440, 19.66976089979,
+            0.00000000050, 4.69825387775, 28237.2334593894,
+            0.00000000047, 5.74015846442, 12139.5535091068,
+            0.00000000054, 1.97301333704, 23581.2581773176,
+            0.00000000049, 4.98223579027, 10021.8372800994,
+            0.00000000046, 5.41431705539, 33019.0211122046,
+            0.00000000051, 1.23882053879, 12539.853380183,
+            0.00000000046, 2.41369976086, 98068.53671630539,
+            0.00000000044, 0.80750593746, 167283.76158766549,
+            0.00000000045, 4.39613584445, 433.7117378768,
+            0.00000000044, 2.57358208785, 12964.300703391,
+            0.00000000046, 0.26142733448, 11.0457002639,
+            0.00000000045, 2.46230645202, 51868.2486621788,
+            0.00000000048, 0.89551707131, 56600.2792895222,
+            0.00000000057, 1.86416707010, 25287.7237993998,
+            0.00000000042, 5.26377513431, 26084.0218062162,
+            0.00000000049, 3.17757670611, 6303.8512454838,
+            0.00000000052, 3.65266055509, 7872.1487452752,
+            0.00000000040, 1.81891629936, 34596.3646546524,
+            0.00000000043, 1.94164978061, 1903.4368125012,
+            0.00000000041, 0.74461854136, 23937.856389741,
+            0.00000000048, 6.26034008181, 28286.9904848612,
+            0.00000000045, 5.45575017530, 60530.4889857418,
+            0.00000000040, 2.92105728682, 21548.9623692918,
+            0.00000000040, 0.04502010161, 38526.574350872,
+            0.00000000053, 3.64791042082, 11925.2740926006,
+            0.00000000041, 5.04048954693, 27832.0382192832,
+            0.00000000042, 5.19292937193, 19004.6479494084,
+            0.00000000040, 2.57120233428, 24356.7807886416,
+            0.00000000038, 3.49190341464, 226858.23855437008,
+            0.00000000039, 4.61184303844, 95.9792272178,
+            0.00000000043, 2.20648228147, 13521.7514415914,
+            0.00000000040, 5.83461945819, 16193.65917750039,
+            0.00000000045, 3.73714372195, 7875.6718636242,
+            0.00000000043, 1.14078465002, 49.7570254718,
+            0.00000000037, 1.29390383811, 310.8407988684,
+            0.00000000038, 0.95970925950, 664.75604513,
+            0.00000000037, 4.27532649462, 6709.6740408674,
+            0.00000000038, 2.20108541046, 28628.3362260996,
+            0.00000000039, 0.85957361635, 16522.6597160022,
+            0.00000000040, 4.35214003837, 48739.859897083,
+            0.00000000036, 1.68167662194, 10344.2950653858,
+            0.00000000040, 5.13217319067, 15664.03552270859,
+            0.00000000036, 3.72187132496, 30774.5016425748,
+            0.00000000036, 3.32158458257, 16207.886271502,
+            0.00000000045, 3.94202418608, 10988.808157535,
+            0.00000000039, 1.51948786199, 12029.3471878874,
+            0.00000000026, 3.87685883180, 6262.7205305926,
+            0.00000000024, 4.91804163466, 19651.048481098,
+            0.00000000023, 0.29300197709, 13362.4497067992,
+            0.00000000021, 3.18605672363, 6277.552925684,
+            0.00000000021, 6.07546891132, 18139.2945014159,
+            0.00000000022, 2.31199937177, 6303.4311693902,
+            0.00000000021, 3.58418394393, 18209.33026366019,
+            0.00000000026, 2.06801296900, 12573.2652469836,
+            0.00000000021, 1.56857722317, 13341.6743113068,
+            0.00000000024, 5.72605158675, 29864.334027309,
+            0.00000000024, 1.40237993205, 14712.317116458,
+            0.00000000025, 5.71466092822, 25934.1243310894
+    };
+
+    public static final double[] PARAMS2      = {
+            0.00052918870, 0, 0,
+            0.00008719837, 1.07209665242, 6283.0758499914,
+            0.00000309125, 0.86728818832, 12566.1516999828,
+            0.00000027339, 0.05297871691, 3.523118349,
+            0.00000016334, 5.18826691036, 26.2983197998,
+            0.00000015752, 3.68457889430, 155.4203994342,
+            0.00000009541, 0.75742297675, 18849.2275499742,
+            0.00000008937, 2.05705419118, 77713.7714681205,
+            0.00000006952, 0.82673305410, 775.522611324,
+            0.00000005064, 4.66284525271, 1577.3435424478,
+            0.00000004061, 1.03057162962, 7.1135470008,
+            0.00000003463, 5.14074632811, 796.2980068164,
+            0.00000003169, 6.05291851171, 5507.5532386674,
+            0.00000003020, 1.19246506441, 242.728603974,
+            0.00000002886, 6.11652627155, 529.6909650946,
+            0.00000003810, 3.44050803490, 5573.1428014331,
+            0.00000002714, 0.30637881025, 398.1490034082,
+            0.00000002371, 4.38118838167, 5223.6939198022,
+            0.00000002538, 2.27992810679, 553.5694028424,
+            0.00000002079, 3.75435330484, 0.9803210682,
+            0.00000001675, 0.90216407959, 951.7184062506,
+            0.00000001534, 5.75900462759, 1349.8674096588,
+            0.00000001224, 2.97328088405, 2146.1654164752,
+            0.00000001449, 4.36415913970, 1748.016413067,
+            0.00000001341, 3.72061130861, 1194.4470102246,
+            0.00000001254, 2.94846826628, 6438.4962494256,
+            0.00000000999, 5.98640014468, 6286.5989683404,
+            0.00000000917, 4.79788687522, 5088.6288397668,
+            0.00000000828, 3.31321076572, 213.299095438,
+            0.00000001103, 1.27104454479, 161000.6857376741,
+            0.00000000762, 3.41582762988, 5486.777843175,
+            0.00000001044, 0.60409577691, 3154.6870848956,
+            0.00000000887, 5.23465144638, 7084.8967811152,
+            0.00000000645, 1.60096192515, 2544.3144198834,
+            0.00000000681, 3.43155669169, 4694.0029547076,
+            0.00000000605, 2.47806340546, 10977.078804699,
+            0.00000000706, 6.19393222575, 4690.4798363586,
+            0.00000000643, 1.98042503148, 801.8209311238,
+            0.00000000502, 1.44394375363, 6836.6452528338,
+            0.00000000490, 2.34129524194, 1592.5960136328,
+            0.00000000458, 1.30876448575, 4292.3308329504,
+            0.00000000431, 0.03526421494, 7234.794256242,
+            0.00000000379, 3.17030522615, 6309.3741697912,
+            0.00000000348, 0.99049550009, 6040.3472460174,
+            0.00000000386, 1.57019797263, 71430.69561812909,
+            0.00000000347, 0.67013291338, 1059.3819301892,
+            0.00000000458, 3.81499443681, 149854.40013480789,
+            0.00000000302, 1.91760044838, 10447.3878396044,
+            0.00000000307, 3.55343347416, 8031.0922630584,
+            0.00000000395, 4.93701776616, 7632.9432596502,
+            0.00000000314, 3.18093696547, 2352.8661537718,
+            0.00000000282, 4.41936437052, 9437.762934887,
+            0.00000000276, 2.71314254553, 3894.1818295422,
+            0.00000000298, 2.52037474210, 6127.6554505572,
+            0.00000000230, 1.37790215549, 4705.7323075436,
+            0.00000000252, 0.55330133471, 6279.5527316424,
+            0.00000000255, 5.26570187369, 6812.766815086,
+            0.00000000275, 0.67264264272, 25132.3033999656,
+            0.00000000178, 0.92820785174, 1990.745017041,
+            0.00000000221, 0.63897368842, 6256.7775301916,
+            0.00000000155, 0.77319790838, 14143.4952424306,
+            0.00000000150, 2.40470465561, 426.598190876,
+            0.00000000196, 6.06877865012, 640.8776073822,
+            0.00000000137, 2.21679460145, 8429.2412664666,
+            0.00000000127, 3.26094223174, 17789.845619785,
+            0.00000000128, 5.47237279946, 12036.4607348882,
+            0.00000000122, 2.16291082757, 10213.285546211,
+            0.00000000118, 0.45789822268, 7058.5984613154,
+            0.00000000141, 2.34932647403, 11506.7697697936,
+            0.00000000100, 0.85621569847, 6290.1893969922,
+            0.00000000092, 5.10587476002, 7079.3738568078,
+            0.00000000126, 2.65428307012, 88860.05707098669,
+            0.00000000106, 5.85646710022, 7860.4193924392,
+            0.00000000084, 3.57457554262, 16730.4636895958,
+            0.00000000089, 4.21433259618, 83996.84731811189,
+            0.00000000097, 5.57938280855, 13367.9726311066,
+            0.00000000102, 2.05853060226, 87.30820453981,
+            0.00000000080, 4.73792651816, 11926.2544136688,
+            0.00000000080, 5.41418965044, 10973.55568635,
+            0.00000000106, 4.10978997399, 3496.032826134,
+            0.00000000102, 3.62650006043, 244287.60000722769,
+            0.00000000075, 4.89483161769, 5643.1785636774,
+            0.00000000087, 0.42863750683, 11015.1064773348,
+            0.00000000069, 1.88908760720, 10177.2576795336,
+            0.00000000089, 1.35567273119, 6681.2248533996,
+            0.00000000066, 0.99455837265, 6525.8044539654,
+            0.00000000067, 5.51240997070, 3097.88382272579,
+            0.00000000076, 2.72016814799, 4164.311989613,
+            0.00000000063, 1.44349902540, 9917.6968745098,
+            0.00000000078, 3.51469733747, 11856.2186514245,
+            0.00000000085, 0.50956043858, 10575.4066829418,
+            0.00000000067, 3.62043033405, 16496.3613962024,
+            0.00000000055, 5.24637517308, 3340.6124266998,
+            0.00000000048, 5.43966777314, 20426.571092422,
+            0.00000000064, 5.79535817813, 2388.8940204492,
+            0.00000000046, 5.43499966519, 6275.9623029906,
+            0.00000000050, 3.86263598617, 5729.506447149,
+            0.00000000044, 1.52269529228, 12168.0026965746,
+            0.00000000057, 4.96352373486, 14945.3161735544,
+            0.00000000045, 1.00861230160, 8635.9420037632,
+            0.00000000043, 3.30685683359, 9779.1086761254,
+            0.00000000042, 0.63481258930, 2699.7348193176,
+            0.00000000041, 5.67996766641, 11712.9553182308,
+            0.00000000056, 4.34024451468, 90955.5516944961,
+            0.00000000041, 5.81722212845, 709.9330485583,
+            0.00000000053, 6.17052087143, 233141.31440436149,
+            0.00000000037, 3.12495025087, 16200.7727245012,
+            0.00000000035, 5.76973458495, 12569.6748183318,
+            0.00000000037, 0.31656444326, 24356.7807886416,
+            0.00000000035, 0.96229051027, 17298.1823273262,
+            0.00000000033, 5.23130355867, 5331.3574437408,
+            0.00000000035, 0.62517020593, 25158.6017197654,
+            0.00000000035, 0.80004512129, 13916.0191096416,
+            0.00000000037, 2.89336088688, 12721.572099417,
+            0.00000000030, 4.50198402401, 23543.23050468179,
+            0.00000000030, 5.31355708693, 18319.5365848796,
+            0.00000000029, 3.47275229977, 13119.72110282519,
+            0.00000000029, 3.11002782516, 4136.9104335162,
+            0.00000000032, 5.52273255667, 5753.3848848968,
+            0.00000000035, 3.79699996680, 143571.32428481648,
+            0.00000000026, 1.50634201907, 154717.60988768269,
+            0.00000000030, 3.53519084118, 6284.0561710596,
+            0.00000000023, 4.41808025967, 5884.9268465832,
+            0.00000000025, 1.38477355808, 65147.6197681377,
+            0.00000000023, 3.49782549797, 7477.522860216,
+            0.00000000019, 3.14329413716, 6496.3749454294,
+            0.00000000019, 2.20135125199, 18073.7049386502,
+            0.00000000019, 4.95020255309, 3930.2096962196,
+            0.00000000019, 0.57998702747, 31415.379249957,
+            0.00000000021, 1.75474323399, 12139.5535091068,
+            0.00000000019, 3.92233070499, 19651.048481098,
+            0.00000000014, 0.98131213224, 12559.038152982,
+            0.00000000019, 4.93309333729, 2942.4634232916,
+            0.00000000016, 5.55997534558, 8827.3902698748,
+            0.00000000013, 1.68808165516, 4535.0594369244,
+            0.00000000013, 0.33982116161, 4933.2084403326,
+            0.00000000012, 1.85426309994, 5856.4776591154,
+            0.00000000010, 4.82763996845, 13095.8426650774,
+            0.00000000011, 5.38005490571, 11790.6290886588,
+            0.00000000010, 1.40815507226, 10988.808157535,
+            0.00000000011, 3.05005267431, 17260.1546546904,
+            0.00000000010, 4.93364992366, 12352.8526045448
+    };
+
+    public static final double[] PARAMS3      = {
+            0.00000289226, 5.84384198723, 6283.0758499914,
+            0.00000034955, 0, 0,
+            0.00000016819, 5.48766912348, 12566.1516999828,
+            0.00000002962, 5.19577265202, 155.4203994342,
+            0.00000001288, 4.72200252235, 3.523118349,
+            0.00000000635, 5.96925937141, 242.728603974,
+            0.00000000714, 5.30045809128, 18849.2275499742,
+            0.00000000402, 3.78682982419, 553.5694028424,
+            0.00000000072, 4.29768126180, 6286.5989683404,
+            0.00000000067, 0.90721687647, 6127.6554505572,
+            0.00000000036, 5.24029648014, 6438.4962494256,
+            0.00000000024, 5.16003960716, 25132.3033999656,
+            0.00000000023, 3.01921570335, 6309.3741697912,
+            0.00000000017, 5.82863573502, 6525.8044539654,
+            0.00000000017, 3.67772863930, 71430.69561812909,
+            0.00000000009, 4.58467294499, 1577.3435424478,
+            0.00000000008, 1.40626662824, 11856.2186514245,
+            0.00000000008, 5.07561257196, 6256.7775301916,
+            0.00000000007, 2.82473374405, 83996.84731811189,
+            0.00000000005, 2.71488713339, 10977.078804699,
+            0.00000000005, 3.76879847273, 12036.4607348882,
+            0.00000000005, 4.28412873331, 6275.9623029906
+    };
+
+    public static final double[] PARAMS4      = {
+            -0.00000114084, 0, 0,
+            0.00000007717, 4.13446589358, 6283.0758499914,
+            0.00000000765, 3.83803776214, 12566.1516999828,
+            0.00000000420, 0.41925861858, 155.4203994342,
+            0.00000000040, 3.59847585840, 18849.2275499742,
+            0.00000000041, 3.14398414077, 3.523118349,
+            0.00000000035, 5.00298940826, 5573.1428014331,
+            0.00000000013, 0.48794833701, 77713.7714681205,
+            0.00000000010, 5.64801766350, 6127.6554505572,
+            0.00000000008, 2.84160570605, 161000.6857376741,
+            0.00000000002, 0.54912904658, 6438.4962494256
+    };
+
+    public static final double[] PARAMS5      = {
+            -0.00000000878, 0, 0,
+            0.00000000172, 2.76579069510, 6283.0758499914,
+            0.00000000050, 2.01353298182, 155.4203994342,
+            0.00000000028, 2.21496423926, 12566.1516999828,
+            0.00000000005, 1.75600058765, 18849.2275499742
+    };
+}
@@ -0,0 +1,1039 @@
+package oyyq.calendar.util.vsop87d.data;
+
+/**
+ * EARTH - VSOP87 Series Version D, 日地距离(R)系数表<br />
+ * 每行依次为A、B、C三项，对应于A * cos(B + C * t)，t为儒略千年数，结果单位为天文单位(au)<br />
+ * <br />
+ * VSOP87 Functions Source Code<br />
+ * Generated By The VSOP87 Source Code Generator Tool<br />
+ * &copy; Jay Tanner 2014<br />
+ * <br />
+ * Source data provided under the provisions of the<br />
+ * GNU Affero General Public License, version 3.<br />
+ * http://www.gnu.org/licenses/agpl.html
+ */
+public class Vsop87d_Earth_R {
+
+    public static final int      LINE_ITEMS   = 3;
+    public static final int      TOTAL_LINES0 = 526;
+    public static final int      TOTAL_LINES1 = 292;
+    public static final int      TOTAL_LINES2 = 139;
+    public static final int      TOTAL_LINES3 = 27;
+    public static final int      TOTAL_LINES4 = 10;
+    public static final int      TOTAL_LINES5 = 3;
+
+    public static final double[] PARAMS0      = {
+            1.00013988799, 0, 0,
+            0.01670699626, 3.09846350771, 6283.0758499914,
+            0.00013956023, 3.05524609620, 12566.1516999828,
+            0.00003083720, 5.19846674381, 77713.7714681205,
+            0.00001628461, 1.17387749012, 5753.3848848968,
+            0.00001575568, 2.84685245825, 7860.4193924392,
+            0.00000924799, 5.45292234084, 11506.7697697936,
+            0.00000542444, 4.56409149777, 3930.2096962196,
+            0.00000472110, 3.66100022149, 5884.9268465832,
+            0.00000328780, 5.89983646482, 5223.6939198022,
+            0.00000345983, 0.96368617687, 5507.5532386674,
+            0.00000306784, 0.29867139512, 5573.1428014331,
+            0.00000174844, 3.01193636534, 18849.2275499742,
+            0.00000243189, 4.27349536153, 11790.6290886588,
+            0.00000211829, 5.84714540314, 1577.3435424478,
+            0.00000185752, 5.02194447178, 10977.078804699,
+            0.00000109835, 5.05510636285, 5486.777843175,
+            0.00000098316, 0.88681311277, 6069.7767545534,
+            0.00000086499, 5.68959778254, 15720.8387848784,
+            0.00000085825, 1.27083733351, 161000.6857376741,
+            0.00000062916, 0.92177108832, 529.6909650946,
+            0.00000057056, 2.01374292014, 83996.84731811189,
+            0.00000064903, 0.27250613787, 17260.1546546904,
+            0.00000049384, 3.24501240359, 2544.3144198834,
+            0.00000055736, 5.24159798933, 71430.69561812909,
+            0.00000042515, 6.01110242003, 6275.9623029906,
+            0.00000046963, 2.57805070386, 775.522611324,
+            0.00000038968, 5.36071738169, 4694.0029547076,
+            0.00000044661, 5.53715807302, 9437.762934887,
+            0.00000035660, 1.67468058995, 12036.4607348882,
+            0.00000031921, 0.18368229781, 5088.6288397668,
+            0.00000031846, 1.77775642085, 398.1490034082,
+            0.00000033193, 0.24370300098, 7084.8967811152,
+            0.00000038245, 2.39255343974, 8827.3902698748,
+            0.00000028464, 1.21344868176, 6286.5989683404,
+            0.00000037490, 0.82952922332, 19651.048481098,
+            0.00000036957, 4.90107591914, 12139.5535091068,
+            0.00000034537, 1.84270693282, 2942.4634232916,
+            0.00000026275, 4.58896850401, 10447.3878396044,
+            0.00000024596, 3.78660875483, 8429.2412664666,
+            0.00000023587, 0.26866117066, 796.2980068164,
+            0.00000027793, 1.89934330904, 6279.5527316424,
+            0.00000023927, 4.99598548138, 5856.4776591154,
+            0.00000020349, 4.65267995431, 2146.1654164752,
+            0.00000023287, 2.80783650928, 14143.4952424306,
+            0.00000022103, 1.95004702988, 3154.6870848956,
+            0.00000019506, 5.38227371393, 2352.8661537718,
+            0.00000017958, 0.19871379385, 6812.766815086,
+            0.00000017174, 4.43315560735, 10213.285546211,
+            0.00000016190, 5.23160507859, 17789.845619785,
+            0.00000017314, 6.15200787916, 16730.4636895958,
+            0.00000013814, 5.18962074032, 8031.0922630584,
+            0.00000018833, 0.67306674027, 149854.40013480789,
+            0.00000018331, 2.25348733734, 23581.2581773176,
+            0.00000013641, 3.68516118804, 4705.7323075436,
+            0.00000013139, 0.65289581324, 13367.9726311066,
+            0.00000010414, 4.33285688538, 11769.8536931664,
+            0.00000009978, 4.20126336355, 6309.3741697912,
+            0.00000010169, 1.59390681369, 4690.4798363586,
+            0.00000007564, 2.62560597390, 6256.7775301916,
+            0.00000009661, 3.67586791220, 27511.4678735372,
+            0.00000006743, 0.56270332741, 3340.6124266998,
+            0.00000008743, 6.06359123461, 1748.016413067,
+            0.00000007786, 3.67371235637, 12168.0026965746,
+            0.00000006633, 5.66149277792, 11371.7046897582,
+            0.00000007712, 0.31242577789, 7632.9432596502,
+            0.00000006592, 3.13576266188, 801.8209311238,
+            0.00000007460, 5.64757188143, 11926.2544136688,
+            0.00000006933, 2.92384586400, 6681.2248533996,
+            0.00000006802, 1.42329806420, 23013.5395395872,
+            0.00000006115, 5.13393615454, 1194.4470102246,
+            0.00000006477, 2.64986648492, 19804.8272915828,
+            0.00000005233, 4.62434053374, 6438.4962494256,
+            0.00000006147, 3.02863936662, 233141.31440436149,
+            0.00000004608, 1.72194702724, 7234.794256242,
+            0.00000004221, 1.55697533729, 7238.67559160,
+            0.00000005314, 2.40716580847, 11499.6562227928,
+            0.00000005128, 5.32398965690, 11513.8833167944,
+            0.00000004770, 0.25554312006, 11856.2186514245,
+            0.00000005519, 2.09089154502, 17298.1823273262,
+            0.00000005625, 4.34052903053, 90955.5516944961,
+            0.00000004578, 4.46569641570, 5746.271337896,
+            0.00000003788, 4.90729383510, 4164.311989613,
+            0.00000005337, 5.09957905104, 31441.6775697568,
+            0.00000003967, 1.20054555174, 1349.8674096588,
+            0.00000004008, 3.03007204392, 1059.3819301892,
+            0.00000003476, 0.76080277030, 10973.55568635,
+            0.00000004232, 1.05485713117, 5760.4984318976,
+            0.00000004582, 3.76570026763, 6386.16862421,
+            0.00000003335, 3.13829943354, 6836.6452528338,
+            0.00000003418, 3.00072390334, 4292.3308329504,
+            0.00000003598, 5.70718084323, 5643.1785636774,
+            0.00000003237, 4.16448773994, 9917.6968745098,
+            0.00000004154, 2.59941292162, 7058.5984613154,
+            0.00000003362, 4.54577697964, 4732.0306273434,
+            0.00000002978, 1.30561268820, 6283.14316029419,
+            0.00000002765, 0.51311975679, 26.2983197998,
+            0.00000002802, 5.66263240521, 8635.9420037632,
+            0.00000002927, 5.73787481548, 16200.7727245012,
+            0.00000003164, 1.69140262657, 11015.1064773348,
+            0.00000002598, 2.96244118586, 25132.3033999656,
+            0.00000003519, 3.62639325753, 244287.60000722769,
+            0.00000002676, 4.20725700850, 18073.7049386502,
+            0.00000002978, 1.74971565805, 6283.0085396886,
+            0.00000002287, 1.06975704977, 14314.1681130498,
+            0.00000002863, 5.92838131397, 14712.317116458,
+            0.00000003071, 0.23793217002, 35371.8872659764,
+            0.00000002656, 0.89959301780, 12352.8526045448,
+            0.00000002415, 2.79975176257, 709.9330485583,
+            0.00000002814, 3.51488206882, 21228.3920235458,
+            0.00000001977, 2.61358297550, 951.7184062506,
+            0.00000002548, 2.47684686575, 6208.2942514241,
+            0.00000001999, 0.56090388160, 7079.3738568078,
+            0.00000002305, 1.05376461628, 22483.84857449259,
+            0.00000001855, 2.86090681163, 5216.5803728014,
+            0.00000002157, 1.31396741861, 154717.60988768269,
+            0.00000001970, 4.36929875289, 167283.76158766549,
+            0.00000001635, 5.85571606764, 10984.1923516998,
+            0.00000001754, 2.14452408833, 6290.1893969922,
+            0.00000002154, 6.03828341543, 10873.9860304804,
+            0.00000001714, 3.70157691113, 1592.5960136328,
+            0.00000001541, 6.21598380732, 23543.23050468179,
+            0.00000001611, 1.99824499377, 10969.9652576982,
+            0.00000001712, 1.34295663542, 3128.3887650958,
+            0.00000001642, 5.55026665339, 6496.3749454294,
+            0.00000001502, 5.43948825854, 155.4203994342,
+            0.00000001827, 5.91227480261, 3738.761430108,
+            0.00000001726, 2.16764983583, 10575.4066829418,
+            0.00000001532, 5.35683107070, 13521.7514415914,
+            0.00000001829, 1.66006148731, 39302.096962196,
+            0.00000001605, 1.90928637633, 6133.5126528568,
+            0.00000001282, 2.46014880418, 13916.0191096416,
+            0.00000001211, 4.41360631550, 3894.1818295422,
+            0.00000001394, 1.77801929354, 9225.539273283,
+            0.00000001571, 4.95512957592, 25158.6017197654,
+            0.00000001205, 1.19212540615, 3.523118349,
+            0.00000001132, 2.69830084955, 6040.3472460174,
+            0.00000001504, 5.77002730341, 18209.33026366019,
+            0.00000001393, 1.62621805428, 5120.6011455836,
+            0.00000001077, 2.93931554233, 17256.6315363414,
+            0.00000001232, 0.71655165307, 143571.32428481648,
+            0.00000001087, 0.99769687939, 955.5997416086,
+            0.00000001068, 5.28472576231, 65147.6197681377,
+            0.00000000980, 5.10949204607, 6172.869528772,
+            0.00000001169, 3.11664290862, 14945.3161735544,
+            0.00000001202, 4.02992510402, 553.5694028424,
+            0.00000000979, 2.00000879212, 15110.4661198662,
+            0.00000000962, 4.02380771400, 6282.0955289232,
+            0.00000000999, 3.62643002790, 6262.300454499,
+            0.00000001030, 5.84989900289, 213.299095438,
+            0.00000001014, 2.84221578218, 8662.240323563,
+            0.00000001185, 1.51330541132, 17654.7805397496,
+            0.00000000967, 2.67081017562, 5650.2921106782,
+            0.00000001222, 2.65423784904, 88860.05707098669,
+            0.00000000981, 2.36370360283, 6206.8097787158,
+            0.00000001033, 0.13874927606, 11712.9553182308,
+            0.00000001103, 3.08477302937, 43232.3066584156,
+            0.00000000781, 2.53372735932, 16496.3613962024,
+            0.00000001019, 3.04569392376, 6037.244203762,
+            0.00000000795, 5.80662989111, 5230.807466803,
+            0.00000000813, 3.57710279439, 10177.2576795336,
+            0.00000000962, 5.31470594766, 6284.0561710596,
+            0.00000000721, 5.96264301567, 12559.038152982,
+            0.00000000966, 2.74714939953, 6244.9428143536,
+            0.00000000921, 0.10155275926, 29088.811415985,
+            0.00000000692, 3.89764447548, 1589.0728952838,
+            0.00000000719, 5.91791450402, 4136.9104335162,
+            0.00000000772, 4.05505682353, 6127.6554505572,
+            0.00000000712, 5.49291532439, 22003.9146348698,
+            0.00000000672, 1.60700490811, 11087.2851259184,
+            0.00000000690, 4.50539825563, 426.598190876,
+            0.00000000854, 3.26104981596, 20426.571092422,
+            0.00000000656, 4.32410182940, 16858.4825329332,
+            0.00000000840, 2.59572585222, 28766.924424484,
+            0.00000000692, 0.61650089011, 11403.676995575,
+            0.00000000700, 3.40901167143, 7.1135470008,
+            0.00000000726, 0.04243053594, 5481.2549188676,
+            0.00000000557, 4.78317696534, 20199.094959633,
+            0.00000000649, 1.04027912958, 6062.6632075526,
+            0.00000000633, 5.70229959167, 45892.73043315699,
+            0.00000000592, 6.11836729658, 9623.6882766912,
+            0.00000000523, 3.62840021266, 5333.9002410216,
+            0.00000000604, 5.57734696185, 10344.2950653858,
+            0.00000000496, 2.21023499449, 1990.745017041,
+            0.00000000691, 1.96071732602, 12416.5885028482,
+            0.00000000640, 1.59074172032, 18319.5365848796,
+            0.00000000625, 3.82362791378, 13517.8701062334,
+            0.00000000663, 5.08444996779, 283.8593188652,
+            0.00000000475, 1.17025894287, 12569.6748183318,
+            0.00000000664, 4.50029469969, 47162.5163546352,
+            0.00000000569, 0.16310365162, 17267.26820169119,
+            0.00000000568, 3.86100969474, 6076.8903015542,
+            0.00000000539, 4.83282276086, 18422.62935909819,
+            0.00000000466, 0.75872342878, 7342.4577801806,
+            0.00000000541, 3.07212190507, 226858.23855437008,
+            0.00000000458, 0.26774483096, 4590.910180489,
+            0.00000000610, 1.53597051291, 33019.0211122046,
+            0.00000000617, 2.62356328726, 11190.377900137,
+            0.00000000548, 4.55798855791, 18875.525869774,
+            0.00000000633, 4.60110281228, 66567.48586525429,
+            0.00000000596, 5.78202396722, 632.7837393132,
+            0.00000000533, 5.01786882904, 12132.439962106,
+            0.00000000603, 5.38458554802, 316428.22867391503,
+            0.00000000469, 0.59168241917, 21954.15760939799,
+            0.00000000548, 3.50613163558, 17253.04110768959,
+            0.00000000502, 0.98804327589, 11609.8625440122,
+            0.00000000568, 1.98497313089, 7668.6374249425,
+            0.00000000482, 1.62141803864, 12146.6670561076,
+            0.00000000391, 3.68718382989, 18052.9295431578,
+            0.00000000457, 3.77205737340, 156137.47598479928,
+            0.00000000401, 5.28260651958, 15671.0817594066,
+            0.00000000469, 1.80963184268, 12562.6285816338,
+            0.00000000508, 3.36399024699, 20597.2439630412,
+            0.00000000450, 5.66054299250, 10454.5013866052,
+            0.00000000375, 4.98534633105, 9779.1086761254,
+            0.00000000523, 0.97215560834, 155427.54293624099,
+            0.00000000403, 5.13939866506, 1551.045222648,
+            0.00000000372, 3.69883738807, 9388.0059094152,
+            0.00000000367, 4.43875659716, 4535.0594369244,
+            0.00000000406, 4.20863156600, 12592.4500197826,
+            0.00000000360, 2.53924644657, 242.728603974,
+            0.00000000471, 4.61907324819, 5436.9930152402,
+            0.00000000441, 5.83872966262, 3496.032826134,
+            0.00000000385, 4.94496680973, 24356.7807886416,
+            0.00000000349, 6.15018231784, 19800.9459562248,
+            0.00000000355, 0.21895678106, 5429.8794682394,
+            0.00000000344, 5.62993724928, 2379.1644735716,
+            0.00000000380, 2.72105213143, 11933.3679606696,
+            0.00000000432, 0.24221790536, 17996.0311682222,
+            0.00000000378, 5.22517556974, 7477.522860216,
+            0.00000000337, 5.10888041439, 5849.3641121146,
+            0.00000000315, 0.57827745123, 10557.5941608238,
+            0.00000000318, 4.49953141399, 3634.6210245184,
+            0.00000000323, 1.54274281393, 10440.2742926036,
+            0.00000000309, 5.76839284397, 20.7753954924,
+            0.00000000301, 2.34727604008, 4686.8894077068,
+            0.00000000414, 5.93237602310, 51092.7260508548,
+            0.00000000361, 2.16398609550, 28237.2334593894,
+            0.00000000288, 0.18376252189, 13095.8426650774,
+            0.00000000277, 5.12952205045, 13119.72110282519,
+            0.00000000327, 6.19222146204, 6268.8487559898,
+            0.00000000273, 0.30522428863, 23141.5583829246,
+            0.00000000267, 5.76152585786, 5966.6839803348,
+            0.00000000308, 5.99280509979, 22805.7355659936,
+            0.00000000345, 2.92489919444, 36949.2308084242,
+            0.00000000253, 5.20995219509, 24072.9214697764,
+            0.00000000342, 5.72702586209, 16460.33352952499,
+            0.00000000261, 2.00304796059, 6148.010769956,
+            0.00000000238, 5.08264392839, 6915.8595893046,
+            0.00000000249, 2.94762789744, 135.0650800354,
+            0.00000000306, 3.89764686987, 10988.808157535,
+            0.00000000305, 0.05827812117, 4701.1165017084,
+            0.00000000319, 2.95712862064, 163096.18036118349,
+            0.00000000209, 4.43768461442, 6546.1597733642,
+            0.00000000270, 2.06643178717, 4804.209275927,
+            0.00000000217, 0.73691592312, 6303.8512454838,
+            0.00000000206, 0.32075959415, 25934.1243310894,
+            0.00000000218, 0.18428135264, 28286.9904848612,
+            0.00000000205, 5.21312087405, 20995.3929664494,
+            0.00000000199, 0.44384292491, 16737.5772365966,
+            0.00000000230, 6.06567392849, 6287.0080032545,
+            0.00000000219, 1.29194216300, 5326.7866940208,
+            0.00000000201, 1.74700937253, 22743.4093795164,
+            0.00000000207, 4.45440927276, 6279.4854213396,
+            0.00000000269, 6.05640445030, 64471.99124174489,
+            0.00000000190, 0.99256176518, 29296.6153895786,
+            0.00000000238, 5.42471431221, 39609.6545831656,
+            0.00000000262, 5.26961924198, 522.5774180938,
+            0.00000000210, 4.68618183158, 6254.6266625236,
+            0.00000000197, 2.80624554080, 4933.2084403326,
+            0.00000000252, 4.36220154608, 40879.4405046438,
+            0.00000000261, 1.07241516738, 55022.9357470744,
+            0.00000000189, 3.82966734476, 419.4846438752,
+            0.00000000185, 4.14324541379, 5642.1982426092,
+            0.00000000247, 3.44855612987, 6702.5604938666,
+            0.00000000205, 4.04424043223, 536.8045120954,
+            0.00000000191, 3.14082686083, 16723.350142595,
+            0.00000000222, 5.16263907319, 23539.7073863328,
+            0.00000000180, 4.56214752149, 6489.2613984286,
+            0.00000000219, 0.80382553358, 16627.3709153772,
+            0.00000000227, 0.60156339452, 5905.7022420756,
+            0.00000000168, 0.88753528161, 16062.1845261168,
+            0.00000000158, 0.92127725775, 23937.856389741,
+            0.00000000157, 4.69607868164, 6805.6532680852,
+            0.00000000207, 4.88410451334, 6286.6662786432,
+            0.00000000160, 4.95943826846, 10021.8372800994,
+            0.00000000166, 0.97126433565, 3097.88382272579,
+            0.00000000209, 5.75663411805, 3646.3503773544,
+            0.00000000175, 6.12762824412, 239424.39025435288,
+            0.00000000173, 3.13887234973, 6179.9830757728,
+            0.00000000157, 3.62822058179, 18451.07854656599,
+            0.00000000157, 4.67695912235, 6709.6740408674,
+            0.00000000146, 3.09506069735, 4907.3020501456,
+            0.00000000165, 2.27139128760, 10660.6869350424,
+            0.00000000201, 1.67701267433, 2107.0345075424,
+            0.00000000144, 3.96947747592, 6019.9919266186,
+            0.00000000171, 5.91302216729, 6058.7310542895,
+            0.00000000144, 2.13155655120, 26084.0218062162,
+            0.00000000151, 0.67417383554, 2388.8940204492,
+            0.00000000189, 5.07122281033, 263.0839233728,
+            0.00000000146, 5.10373877968, 10770.8932562618,
+            0.00000000187, 1.23915444627, 19402.7969528166,
+            0.00000000174, 0.08407293391, 9380.9596727172,
+            0.00000000137, 1.26247412309, 12566.2190102856,
+            0.00000000137, 3.52826010842, 639.897286314,
+            0.00000000148, 1.76124372592, 5888.4499649322,
+            0.00000000164, 2.39195095081, 6357.8574485587,
+            0.00000000146, 2.43675816553, 5881.4037282342,
+            0.00000000161, 1.15721259372, 26735.9452622132,
+            0.00000000131, 2.51859277344, 6599.467719648,
+            0.00000000153, 5.85203687779, 6281.5913772831,
+            0.00000000151, 3.72338532649, 12669.2444742014,
+            0.00000000132, 2.38417741883, 6525.8044539654,
+            0.00000000129, 0.75556744143, 5017.508371365,
+            0.00000000127, 0.00254936441, 10027.9031957292,
+            0.00000000148, 2.85102145528, 6418.1409300268,
+            0.00000000143, 5.74460279367, 26087.9031415742,
+            0.00000000172, 0.41289962240, 174242.4659640497,
+            0.00000000136, 4.15497742275, 6311.5250374592,
+            0.00000000170, 5.98194913129, 327574.51427678125,
+            0.00000000124, 1.65497607604, 32217.2001810808,
+            0.00000000136, 2.48430783417, 13341.6743113068,
+            0.00000000165, 2.49667924600, 58953.145443294,
+            0.00000000123, 3.45660563754, 6277.552925684,
+            0.00000000117, 0.86065134175, 6245.0481773556,
+            0.00000000149, 5.61358280963, 5729.506447149,
+            0.00000000153, 0.26860029950, 245.8316462294,
+            0.00000000128, 0.71204006588, 103.0927742186,
+            0.00000000159, 2.43166592149, 221995.02880149524,
+            0.00000000130, 2.80707316718, 6016.4688082696,
+            0.00000000137, 1.70657709294, 12566.08438968,
+            0.00000000111, 1.56305648432, 17782.7320727842,
+            0.00000000113, 3.58302904101, 25685.872802808,
+            0.00000000109, 3.26403795962, 6819.8803620868,
+            0.00000000122, 0.34120688217, 1162.4747044078,
+            0.00000000119, 5.84644718278, 12721.572099417,
+            0.00000000144, 2.28899679126, 12489.8856287072,
+            0.00000000137, 5.82029768354, 44809.6502008634,
+            0.00000000107, 2.42818544140, 5547.1993364596,
+            0.00000000134, 1.26539982939, 5331.3574437408,
+            0.00000000103, 5.96518130595, 6321.1035226272,
+            0.00000000109, 0.33808549034, 11300.5842213564,
+            0.00000000129, 5.89187277327, 12029.3471878874,
+            0.00000000122, 5.77325634636, 11919.140866668,
+            0.00000000107, 6.24998989350, 77690.75950573849,
+            0.00000000107, 1.00535580713, 77736.78343050249,
+            0.00000000143, 0.24122178432, 4214.0690150848,
+            0.00000000143, 0.88529649733, 7576.560073574,
+            0.00000000107, 2.92124030496, 31415.379249957,
+            0.00000000099, 5.70862227072, 5540.0857894588,
+            0.00000000110, 0.37528037383, 5863.5912061162,
+            0.00000000104, 4.44107178366, 2118.7638603784,
+            0.00000000098, 5.95877916706, 4061.2192153944,
+            0.00000000113, 1.24206857385, 84672.47584450469,
+            0.00000000124, 2.55619029867, 12539.853380183,
+            0.00000000110, 3.66952094329, 238004.52415723629,
+            0.00000000112, 4.32512422943, 97238.62754448749,
+            0.00000000097, 3.70151541181, 11720.0688652316,
+            0.00000000120, 1.26895630252, 12043.574281889,
+            0.00000000094, 2.56461130309, 19004.6479494084,
+            0.00000000117, 3.65425622684, 34520.3093093808,
+            0.00000000098, 0.13589994287, 11080.1715789176,
+            0.00000000097, 5.38330115253, 7834.1210726394,
+            0.00000000097, 2.46722096722, 71980.63357473118,
+            0.00000000095, 5.36958330451, 6288.5987742988,
+            0.00000000111, 5.01961920313, 11823.1616394502,
+            0.00000000090, 2.72299804525, 26880.3198130326,
+            0.00000000099, 0.90164266377, 18635.9284545362,
+            0.00000000126, 4.78722177847, 305281.94307104882,
+            0.00000000093, 0.21240380046, 18139.2945014159,
+            0.00000000124, 5.00979495566, 172146.97134054029,
+            0.00000000099, 5.67090026475, 16522.6597160022,
+            0.00000000092, 2.28180963676, 12491.3701014155,
+            0.00000000090, 4.50544881196, 40077.61957352,
+            0.00000000100, 2.00639461612, 12323.4230960088,
+            0.00000000095, 5.68801979087, 14919.0178537546,
+            0.00000000087, 1.86043406047, 27707.5424942948,
+            0.00000000105, 3.02903468417, 22345.2603761082,
+            0.00000000087, 5.43970168638, 6272.0301497275,
+            0.00000000089, 1.63389387182, 33326.5787331742,
+            0.00000000082, 5.58298993353, 10241.2022911672,
+            0.00000000094, 5.47749711149, 9924.8104215106,
+            0.00000000082, 4.71988314145, 15141.390794312,
+            0.00000000097, 5.61458778738, 2787.0430238574,
+            0.00000000096, 3.89073946348, 6379.0550772092,
+            0.00000000081, 3.13038482444, 36147.4098773004,
+            0.00000000110, 4.89978492291, 72140.62866668739,
+            0.00000000097, 5.20764563059, 6303.4311693902,
+            0.00000000082, 5.26342716139, 9814.6041002912,
+            0.00000000109, 2.35555589770, 83286.91426955358,
+            0.00000000097, 2.58492958057, 30666.1549584328,
+            0.00000000093, 1.32651591333, 23020.65308658799,
+            0.00000000078, 3.99588630754, 11293.4706743556,
+            0.00000000090, 0.57771932738, 26482.1708096244,
+            0.00000000106, 3.92012705073, 62883.3551395136,
+            0.00000000098, 2.94397773524, 316.3918696566,
+            0.00000000076, 3.96310417608, 29026.48522950779,
+            0.00000000078, 1.97068529306, 90279.92316810328,
+            0.00000000076, 0.23027966596, 21424.4666443034,
+            0.00000000080, 2.23099742212, 266.6070417218,
+            0.00000000079, 1.46227790922, 8982.810669309,
+            0.00000000102, 4.92129953565, 5621.8429232104,
+            0.00000000100, 0.39243148321, 24279.10701821359,
+            0.00000000071, 1.52014858474, 33794.5437235286,
+            0.00000000076, 0.22880641443, 57375.8019008462,
+            0.00000000091, 0.96515913904, 48739.859897083,
+            0.00000000075, 2.77638585157, 12964.300703391,
+            0.00000000077, 5.18846946344, 11520.9968637952,
+            0.00000000068, 0.50006599129, 4274.5183108324,
+            0.00000000075, 2.07323762803, 15664.03552270859,
+            0.00000000074, 1.01884134928, 6393.2821712108,
+            0.00000000077, 0.46665178780, 16207.886271502,
+            0.00000000081, 4.10452219483, 161710.61878623239,
+            0.00000000067, 3.83840630887, 6262.7205305926,
+            0.00000000071, 3.91415523291, 7875.6718636242,
+            0.00000000081, 0.91938383237, 74.7815985673,
+            0.00000000083, 4.69916218791, 23006.42599258639,
+            0.00000000063, 2.32556465878, 6279.1945146334,
+            0.00000000065, 5.41938745446, 28628.3362260996,
+            0.00000000065, 3.02336771694, 5959.570433334,
+            0.00000000064, 3.31033198370, 2636.725472637,
+            0.00000000064, 0.18375587519, 1066.49547719,
+            0.00000000080, 5.81239171612, 12341.8069042809,
+            0.00000000066, 2.15105504851, 38.0276726358,
+            0.00000000062, 2.43313614978, 10138.1095169486,
+            0.00000000060, 3.16153906470, 5490.300961524,
+            0.00000000069, 0.30764736334, 7018.9523635232,
+            0.00000000068, 2.24442548639, 24383.0791084414,
+            0.00000000078, 1.39649386463, 9411.4646150872,
+            0.00000000063, 0.72976362625, 6286.9571853494,
+            0.00000000073, 4.95125917731, 6453.7487206106,
+            0.00000000078, 0.32736023459, 6528.9074962208,
+            0.00000000059, 4.95362151577, 35707.7100829074,
+            0.00000000070, 2.37962727525, 15508.6151232744,
+            0.00000000073, 1.35229143111, 5327.4761083828,
+            0.00000000072, 5.91833527334, 10881.0995774812,
+            0.00000000059, 5.36231868425, 10239.5838660108,
+            0.00000000059, 1.63156134967, 61306.0115970658,
+            0.00000000054, 4.29491690425, 21947.11137270,
+            0.00000000057, 5.89190132575, 34513.2630726828,
+            0.00000000074, 1.38235845304, 9967.4538999816,
+            0.00000000053, 3.86543309344, 32370.9789915656,
+            0.00000000055, 4.51794544854, 34911.412076091,
+            0.00000000063, 5.41479412056, 11502.8376165305,
+            0.00000000063, 2.34416220742, 11510.7019230567,
+            0.00000000068, 0.77493931112, 29864.334027309,
+            0.00000000060, 5.57024703495, 5756.9080032458,
+            0.00000000072, 2.80863088166, 10866.8724834796,
+            0.00000000061, 2.69736991384, 82576.98122099529,
+            0.00000000063, 5.32068807257, 3116.6594122598,
+            0.00000000052, 1.02278758099, 6272.4391846416,
+            0.00000000069, 5.00698550308, 25287.7237993998,
+            0.00000000066, 6.12047940728, 12074.488407524,
+            0.00000000051, 2.59519527563, 11396.5634485742,
+            0.00000000056, 2.57995973521, 17892.93839400359,
+            0.00000000059, 0.44167237620, 250570.67585721909,
+            0.00000000059, 3.84070143543, 5483.254724826,
+            0.00000000049, 0.54704693048, 22594.05489571199,
+            0.00000000065, 2.38423614501, 52670.0695933026,
+            0.00000000069, 5.34363738671, 66813.5648357332,
+            0.00000000057, 5.42770501007, 310145.15282392364,
+            0.00000000053, 1.17760296075, 149.5631971346,
+            0.00000000061, 4.02090887211, 34596.3646546524,
+            0.00000000049, 4.18361320516, 18606.4989460002,
+            0.00000000055, 0.83886167974, 20452.8694122218,
+            0.00000000050, 1.46327331958, 37455.7264959744,
+            0.00000000048, 4.53854727167, 29822.7832363242,
+            0.00000000058, 3.34847975377, 33990.6183442862,
+            0.00000000065, 1.45522693982, 76251.32777062019,
+            0.00000000056, 2.35650663692, 37724.7534197482,
+            0.00000000052, 2.61551081496, 5999.2165311262,
+            0.00000000053, 0.17334326094, 77717.29458646949,
+            0.00000000053, 0.79879700631, 77710.24834977149,
+            0.00000000047, 0.43240779709, 735.8765135318,
+            0.00000000053, 4.58763261686, 11616.976091013,
+            0.00000000048, 6.20230111054, 4171.4255366138,
+            0.00000000052, 1.09723616404, 640.8776073822,
+            0.00000000057, 3.42008310383, 50317.2034395308,
+            0.00000000053, 1.01528448581, 149144.46708624958,
+            0.00000000047, 3.00924906195, 52175.8062831484,
+            0.00000000052, 2.03254070404, 6293.7125153412,
+            0.00000000048, 0.12356889734, 13362.4497067992,
+            0.00000000045, 3.37963782356, 10763.779709261,
+            0.00000000047, 5.50981287869, 12779.4507954208,
+            0.00000000062, 5.45209070099, 949.1756089698,
+            0.00000000061, 2.93237974631, 5791.4125575326,
+            0.00000000044, 2.87440620802, 8584.6616659008,
+            0.00000000046, 4.03141796560, 10667.8004820432,
+            0.00000000047, 3.89902931422, 3903.9113764198,
+            0.00000000046, 2.75700467329, 6993.0088985497,
+            0.00000000045, 1.93386293300, 206.1855484372,
+            0.00000000047, 2.57670800912, 11492.542675792,
+            0.00000000044, 3.62570223167, 63658.8777508376,
+            0.00000000051, 0.84536826273, 12345.739057544,
+            0.00000000043, 0.01524970172, 37853.8754993826,
+            0.00000000041, 3.27146326065, 8858.3149443206,
+            0.00000000045, 3.03765521215, 65236.2212932854,
+            0.00000000047, 1.44447548944, 21393.5419698576,
+            0.00000000058, 5.45843180927, 1975.492545856,
+            0.00000000050, 2.13285524146, 12573.2652469836,
+            0.00000000041, 1.32190847146, 2547.8375382324,
+            0.00000000047, 3.67579608544, 28313.288804661,
+            0.00000000041, 2.24013475126, 8273.8208670324,
+            0.00000000047, 6.21438985953, 10991.3058987006,
+            0.00000000042, 3.01631817350, 853.196381752,
+            0.00000000056, 1.09773690181, 77376.20102240759,
+            0.00000000040, 2.35698541041, 2699.7348193176,
+            0.00000000043, 5.28030898459, 17796.9591667858,
+            0.00000000054, 2.59175932091, 22910.44676536859,
+            0.00000000054, 0.88027764102, 71960.38658322369,
+            0.00000000055, 0.07988899477, 83467.15635301729,
+            0.00000000039, 1.12867321442, 9910.583327509,
+            0.00000000040, 1.35670430524, 27177.8515292002,
+            0.00000000039, 4.39624220245, 5618.3198048614,
+            0.00000000042, 4.78798367468, 7856.89627409019,
+            0.00000000047, 2.75482175292, 18202.21671665939,
+            0.00000000039, 1.97008298629, 24491.4257925834,
+            0.00000000042, 4.04346599946, 7863.9425107882,
+            0.00000000038, 0.49178679251, 38650.173506199,
+            0.00000000036, 4.86047906533, 4157.1984426122,
+            0.00000000043, 5.64354880978, 1062.9050485382,
+            0.00000000036, 3.98066313627, 12565.1713789146,
+            0.00000000042, 2.30753932657, 6549.6828917132,
+            0.00000000040, 5.39694918320, 9498.2122306346,
+            0.00000000040, 3.30603243754, 23536.11695768099,
+            0.00000000050, 6.15760345261, 78051.34191383338
+    };
+
+    public static final double[] PARAMS1      = {
+            0.00103018608, 1.10748969588, 6283.0758499914,
+            0.00001721238, 1.06442301418, 12566.1516999828,
+            -0.00000702215, 0, 0,
+            0.00000032346, 1.02169059149, 18849.2275499742,
+            0.00000030799, 2.84353804832, 5507.5532386674,
+            0.00000024971, 1.31906709482, 5223.6939198022,
+            0.00000018485, 1.42429748614, 1577.3435424478,
+            0.00000010078, 5.91378194648, 10977.078804699,
+            0.00000008634, 0.27146150602, 5486.777843175,
+            0.00000008654, 1.42046854427, 6275.9623029906,
+            0.00000005069, 1.68613426734, 5088.6288397668,
+            0.00000004985, 6.01401770704, 6286.5989683404,
+            0.00000004669, 5.98724494073, 529.6909650946,
+            0.00000004395, 0.51800238019, 4694.0029547076,
+            0.00000003872, 4.74969833437, 2544.3144198834,
+            0.00000003750, 5.07097685568, 796.2980068164,
+            0.00000004100, 1.08424786092, 9437.762934887,
+            0.00000003518, 0.02290216272, 83996.84731811189,
+            0.00000003436, 0.94937019624, 71430.69561812909,
+            0.00000003221, 6.15628775313, 2146.1654164752,
+            0.00000003414, 5.41218322538, 775.522611324,
+            0.00000002863, 5.48432847146, 10447.3878396044,
+            0.00000002520, 0.24276941146, 398.1490034082,
+            0.00000002201, 4.95216196651, 6812.766815086,
+            0.00000002186, 0.41991743105, 8031.0922630584,
+            0.00000002838, 3.42034351366, 2352.8661537718,
+            0.00000002554, 6.13241878525, 6438.4962494256,
+            0.00000001932, 5.31374608366, 8429.2412664666,
+            0.00000002429, 3.09164528262, 4690.4798363586,
+            0.00000001730, 1.53686208550, 4705.7323075436,
+            0.00000002250, 3.68863633842, 7084.8967811152,
+            0.00000002093, 1.28191783032, 1748.016413067,
+            0.00000001441, 0.81656250862, 14143.4952424306,
+            0.00000001483, 3.22225357771, 7234.794256242,
+            0.00000001754, 3.22883705112, 6279.5527316424,
+            0.00000001583, 4.09702349428, 11499.6562227928,
+            0.00000001575, 5.53890170575, 3154.6870848956,
+            0.00000001847, 1.82040335363, 7632.9432596502,
+            0.00000001504, 3.63293385726, 11513.8833167944,
+            0.00000001337, 4.64440864339, 6836.6452528338,
+            0.00000001275, 2.69341415363, 1349.8674096588,
+            0.00000001352, 6.15101580257, 5746.271337896,
+            0.00000001125, 3.35673439497, 17789.845619785,
+            0.00000001470, 3.65282991755, 1194.4470102246,
+            0.00000001177, 2.57676109092, 13367.9726311066,
+            0.00000001101, 4.49748696552, 4292.3308329504,
+            0.00000001234, 5.65036509521, 5760.4984318976,
+            0.00000000984, 0.65517395136, 5856.4776591154,
+            0.00000000928, 2.32420318751, 10213.285546211,
+            0.00000001077, 5.82812169132, 12036.4607348882,
+            0.00000000916, 0.76613009583, 16730.4636895958,
+            0.00000000877, 1.50137505051, 11926.2544136688,
+            0.00000001023, 5.62076589825, 6256.7775301916,
+            0.00000000851, 0.65709335533, 155.4203994342,
+            0.00000000802, 4.10519132088, 951.7184062506,
+            0.00000000857, 1.41661697538, 5753.3848848968,
+            0.00000000994, 1.14418521187, 1059.3819301892,
+            0.00000000813, 1.63948433322, 6681.2248533996,
+            0.00000000662, 4.55200452260, 5216.5803728014,
+            0.00000000644, 4.19478168733, 6040.3472460174,
+            0.00000000626, 1.50767713598, 5643.1785636774,
+            0.00000000590, 6.18277145205, 4164.311989613,
+            0.00000000635, 0.52413263542, 6290.1893969922,
+            0.00000000650, 0.97935690350, 25132.3033999656,
+            0.00000000568, 2.30125315873, 10973.55568635,
+            0.00000000547, 5.27256412213, 3340.6124266998,
+            0.00000000547, 2.20144422886, 1592.5960136328,
+            0.00000000526, 0.92464258226, 11371.7046897582,
+            0.00000000490, 5.90951388655, 3894.1818295422,
+            0.00000000478, 1.66857963179, 12168.0026965746,
+            0.00000000516, 3.59803483887, 10969.9652576982,
+            0.00000000518, 3.97914412373, 17298.1823273262,
+            0.00000000534, 5.03740926442, 9917.6968745098,
+            0.00000000487, 2.50545369269, 6127.6554505572,
+            0.00000000416, 4.04828175503, 10984.1923516998,
+            0.00000000538, 5.54081539805, 553.5694028424,
+            0.00000000402, 2.16544019233, 7860.4193924392,
+            0.00000000553, 2.32177369366, 11506.7697697936,
+            0.00000000367, 3.39152532250, 6496.3749454294,
+            0.00000000360, 5.34379853282, 7079.3738568078,
+            0.00000000337, 3.61563704045, 11790.6290886588,
+            0.00000000456, 0.30754294809, 801.8209311238,
+            0.00000000417, 3.70009308674, 10575.4066829418,
+            0.00000000381, 5.82033971802, 7058.5984613154,
+            0.00000000321, 0.31988767355, 16200.7727245012,
+            0.00000000364, 1.08414306177, 6309.3741697912,
+            0.00000000294, 4.54798604957, 11856.2186514245,
+            0.00000000290, 1.26473978562, 8635.9420037632,
+            0.00000000399, 4.16998866302, 26.2983197998,
+            0.00000000262, 5.08316906342, 10177.2576795336,
+            0.00000000243, 2.25746091190, 11712.9553182308,
+            0.00000000237, 1.05070575346, 242.728603974,
+            0.00000000275, 3.45319481756, 5884.9268465832,
+            0.00000000255, 5.38496831087, 21228.3920235458,
+            0.00000000307, 4.24313526604, 3738.761430108,
+            0.00000000216, 3.46037894728, 213.299095438,
+            0.00000000196, 0.69029243914, 1990.745017041,
+            0.00000000198, 5.16301829964, 12352.8526045448,
+            0.00000000214, 3.91876200279, 13916.0191096416,
+            0.00000000212, 4.00861198517, 5230.807466803,
+            0.00000000184, 5.59805976614, 6283.14316029419,
+            0.00000000184, 2.85275392124, 7238.67559160,
+            0.00000000179, 2.54259058334, 14314.1681130498,
+            0.00000000225, 1.64458698399, 4732.0306273434,
+            0.00000000236, 5.58826125715, 6069.7767545534,
+            0.00000000187, 2.72805985443, 6062.6632075526,
+            0.00000000184, 6.04216273598, 6283.0085396886,
+            0.00000000230, 3.62591335086, 6284.0561710596,
+            0.00000000163, 2.19117396803, 18073.7049386502,
+            0.00000000172, 0.97612950740, 3930.2096962196,
+            0.00000000215, 1.04672844028, 3496.032826134,
+            0.00000000169, 4.75084479006, 17267.26820169119,
+            0.00000000152, 0.19390712179, 9779.1086761254,
+            0.00000000182, 5.16288118255, 17253.04110768959,
+            0.00000000149, 0.80944184260, 709.9330485583,
+            0.00000000163, 2.19209570390, 6076.8903015542,
+            0.00000000186, 5.01159497089, 11015.1064773348,
+            0.00000000134, 0.97765485759, 65147.6197681377,
+            0.00000000141, 4.38421981312, 4136.9104335162,
+            0.00000000158, 4.60974280627, 9623.6882766912,
+            0.00000000133, 3.30508592837, 154717.60988768269,
+            0.00000000163, 6.11782626245, 3.523118349,
+            0.00000000174, 1.58078542187, 7.1135470008,
+            0.00000000141, 0.49976927274, 25158.6017197654,
+            0.00000000124, 6.03440460031, 9225.539273283,
+            0.00000000150, 5.30166336812, 13517.8701062334,
+            0.00000000127, 1.92389511438, 22483.84857449259,
+            0.00000000121, 2.37813129011, 167283.76158766549,
+            0.00000000120, 3.98423684853, 4686.8894077068,
+            0.00000000117, 5.81072642211, 12569.6748183318,
+            0.00000000122, 5.60973054224, 5642.1982426092,
+            0.00000000157, 3.40236426002, 16496.3613962024,
+            0.00000000129, 2.10705116371, 1589.0728952838,
+            0.00000000116, 0.55839966736, 5849.3641121146,
+            0.00000000123, 1.52961392771, 12559.038152982,
+            0.00000000111, 0.44848279675, 6172.869528772,
+            0.00000000123, 5.81645568991, 6282.0955289232,
+            0.00000000150, 4.26278409223, 3128.3887650958,
+            0.00000000106, 2.27437761356, 5429.8794682394,
+            0.00000000104, 4.42743707728, 23543.23050468179,
+            0.00000000121, 0.39459045915, 12132.439962106,
+            0.00000000104, 2.41842602527, 426.598190876,
+            0.00000000110, 5.80381480447, 16858.4825329332,
+            0.00000000100, 2.93805577485, 4535.0594369244,
+            0.00000000097, 3.97935904984, 6133.5126528568,
+            0.00000000110, 6.22339014386, 12146.6670561076,
+            0.00000000098, 0.87576563709, 6525.8044539654,
+            0.00000000098, 3.15248421301, 10440.2742926036,
+            0.00000000095, 2.46168411100, 3097.88382272579,
+            0.00000000088, 0.23371480284, 13119.72110282519,
+            0.00000000098, 5.77016493489, 7342.4577801806,
+            0.00000000092, 6.03915555063, 20426.571092422,
+            0.00000000096, 5.56909292561, 2388.8940204492,
+            0.00000000081, 1.32131147691, 5650.2921106782,
+            0.00000000086, 3.94529200528, 10454.5013866052,
+            0.00000000076, 2.70729716925, 143571.32428481648,
+            0.00000000091, 5.64100034152, 8827.3902698748,
+            0.00000000076, 1.80783856698, 28286.9904848612,
+            0.00000000081, 1.90858992196, 29088.811415985,
+            0.00000000075, 3.40955892978, 5481.2549188676,
+            0.00000000069, 4.49936170873, 17256.6315363414,
+            0.00000000088, 1.10098454357, 11769.8536931664,
+            0.00000000066, 2.78285801977, 536.8045120954,
+            0.00000000068, 3.88179770758, 17260.1546546904,
+            0.00000000084, 1.59303306354, 9380.9596727172,
+            0.00000000088, 3.88076636762, 7477.522860216,
+            0.00000000061, 6.17558202197, 11087.2851259184,
+            0.00000000060, 4.34824715818, 6206.8097787158,
+            0.00000000082, 4.59843208943, 9388.0059094152,
+            0.00000000079, 1.63131230601, 4933.2084403326,
+            0.00000000078, 4.20905757484, 5729.506447149,
+            0.00000000057, 5.48157926651, 18319.5365848796,
+            0.00000000060, 1.01261781084, 12721.572099417,
+            0.00000000056, 1.63031935692, 15720.8387848784,
+            0.00000000055, 0.24926735018, 15110.4661198662,
+            0.00000000061, 5.93059279661, 12539.853380183,
+            0.00000000055, 4.84298966314, 13095.8426650774,
+            0.00000000067, 6.11690589247, 8662.240323563,
+            0.00000000054, 5.73750638571, 3634.6210245184,
+            0.00000000074, 1.05466745829, 16460.33352952499,
+            0.00000000053, 2.29084335688, 16062.1845261168,
+            0.00000000064, 2.13513767927, 7875.6718636242,
+            0.00000000067, 0.07096807518, 14945.3161735544,
+            0.00000000051, 2.31511194429, 6262.7205305926,
+            0.00000000057, 5.77055471237, 12043.574281889,
+            0.00000000056, 4.41980790431, 4701.1165017084,
+            0.00000000059, 5.87963500073, 5331.3574437408,
+            0.00000000058, 2.30546168628, 955.5997416086,
+            0.00000000049, 1.93839278478, 5333.9002410216,
+            0.00000000048, 2.69973662261, 6709.6740408674,
+            0.00000000064, 1.64379897981, 6262.300454499,
+            0.00000000046, 3.98449608961, 98068.53671630539,
+            0.00000000050, 3.68875893005, 12323.4230960088,
+            0.00000000045, 3.30068569697, 22003.9146348698,
+            0.00000000047, 1.26317154881, 11919.140866668,
+            0.00000000045, 0.89150445122, 51868.2486621788,
+            0.00000000043, 1.61526242998, 6277.552925684,
+            0.00000000043, 5.74295325645, 11403.676995575,
+            0.00000000044, 3.43070646822, 10021.8372800994,
+            0.00000000056, 0.02481833774, 15671.0817594066,
+            0.00000000055, 3.14274403422, 33019.0211122046,
+            0.00000000045, 3.00877289177, 8982.810669309,
+            0.00000000046, 0.73303568429, 6303.4311693902,
+            0.00000000049, 1.60455690285, 6303.8512454838,
+            0.00000000045, 0.40210030323, 6805.6532680852,
+            0.00000000053, 0.94869680175, 10988.808157535,
+            0.00000000041, 1.61122384329, 6819.8803620868,
+            0.00000000055, 0.89439119424, 11933.3679606696,
+            0.00000000045, 3.88495384656, 60530.4889857418,
+            0.00000000040, 4.75740908001, 38526.574350872,
+            0.00000000040, 1.49921251887, 18451.07854656599,
+            0.00000000040, 3.77498297228, 26087.9031415742,
+            0.00000000051, 1.70258603562, 1551.045222648,
+            0.00000000039, 2.97100699926, 2118.7638603784,
+            0.00000000053, 5.19854123078, 77713.7714681205,
+            0.00000000047, 4.26356628717, 21424.4666443034,
+            0.00000000037, 0.62902722802, 24356.7807886416,
+            0.00000000036, 0.11087914947, 10344.2950653858,
+            0.00000000036, 0.77037556319, 12029.3471878874,
+            0.00000000035, 3.30933994515, 24072.9214697764,
+            0.00000000035, 5.93650887012, 31570.7996493912,
+            0.00000000036, 2.15108874765, 30774.5016425748,
+            0.00000000036, 1.75078825382, 16207.886271502,
+            0.00000000033, 5.06264177921, 226858.23855437008,
+            0.00000000034, 6.16891378800, 24491.4257925834,
+            0.00000000035, 3.19120695549, 32217.2001810808,
+            0.00000000034, 2.31528650443, 55798.4583583984,
+            0.00000000032, 4.21446357042, 15664.03552270859,
+            0.00000000039, 1.24979117796, 6418.1409300268,
+            0.00000000037, 4.11943655770, 2787.0430238574,
+            0.00000000032, 1.62887710890, 639.897286314,
+            0.00000000038, 5.89832942685, 640.8776073822,
+            0.00000000032, 1.72442327688, 27433.88921587499,
+            0.00000000031, 2.78828943753, 12139.5535091068,
+            0.00000000035, 4.44608896525, 18202.21671665939,
+            0.00000000034, 3.96287980676, 18216.443810661,
+            0.00000000033, 4.73611335874, 16723.350142595,
+            0.00000000034, 1.43910280005, 49515.382508407,
+            0.00000000031, 0.23302920161, 23581.2581773176,
+            0.00000000029, 2.02633840220, 11609.8625440122,
+            0.00000000030, 2.54923230240, 9924.8104215106,
+            0.00000000032, 4.91793198558, 11300.5842213564,
+            0.00000000028, 0.26187189577, 13521.7514415914,
+            0.00000000028, 3.84568936822, 2699.7348193176,
+            0.00000000029, 1.83149729794, 29822.7832363242,
+            0.00000000033, 4.60320094415, 19004.6479494084,
+            0.00000000027, 4.46183450287, 6702.5604938666,
+            0.00000000030, 4.46494072240, 36147.4098773004,
+            0.00000000027, 0.03211931363, 6279.7894925736,
+            0.00000000026, 5.46497324333, 6245.0481773556,
+            0.00000000035, 4.52695674113, 36949.2308084242,
+            0.00000000027, 3.52528177609, 10770.8932562618,
+            0.00000000026, 1.48499438453, 11080.1715789176,
+            0.00000000035, 2.82154380962, 19402.7969528166,
+            0.00000000025, 2.46339998836, 6279.4854213396,
+            0.00000000026, 4.97688894643, 16737.5772365966,
+            0.00000000026, 2.36136541526, 17996.0311682222,
+            0.00000000029, 4.15148654061, 45892.73043315699,
+            0.00000000026, 4.50714272714, 17796.9591667858,
+            0.00000000027, 4.72625223674, 1066.49547719,
+            0.00000000025, 2.89309528854, 6286.6662786432,
+            0.00000000027, 0.37462444357, 12964.300703391,
+            0.00000000029, 4.94860010533, 5863.5912061162,
+            0.00000000031, 3.93096113577, 29864.334027309,
+            0.00000000024, 6.14987193584, 18606.4989460002,
+            0.00000000024, 3.74225964547, 29026.48522950779,
+            0.00000000025, 5.70460621565, 27707.5424942948,
+            0.00000000025, 5.33928840652, 15141.390794312,
+            0.00000000027, 3.02320897140, 6286.3622074092,
+            0.00000000023, 0.28364955406, 5327.4761083828,
+            0.00000000026, 1.34240461687, 18875.525869774,
+            0.00000000024, 1.33998410121, 19800.9459562248,
+            0.00000000025, 6.00172494004, 6489.2613984286,
+            0.00000000022, 1.81777974484, 6288.5987742988,
+            0.00000000022, 3.58603606640, 6915.8595893046,
+            0.00000000029, 2.09564449439, 15265.8865193004,
+            0.00000000022, 1.02173599251, 11925.2740926006,
+            0.00000000022, 4.74660932338, 28230.18722269139,
+            0.00000000021, 2.30688751432, 5999.2165311262,
+            0.00000000021, 3.22654944430, 25934.1243310894,
+            0.00000000021, 3.04956726238, 6566.9351688566,
+            0.00000000027, 5.35653084499, 33794.5437235286,
+            0.00000000028, 3.91168324815, 18208.349942592,
+            0.00000000020, 1.52296293311, 135.0650800354,
+            0.00000000022, 4.66462839521, 13362.4497067992,
+            0.00000000019, 1.78121167862, 156137.47598479928,
+            0.00000000019, 2.99969102221, 19651.048481098,
+            0.00000000019, 2.86664273362, 18422.62935909819,
+            0.00000000025, 0.94995632141, 31415.379249957,
+            0.00000000019, 4.71432851499, 77690.75950573849,
+            0.00000000019, 2.54227398241, 77736.78343050249,
+            0.00000000020, 5.91915117116, 48739.859897083
+    };
+
+    public static final double[] PARAMS2      = {
+            0.00004359385, 5.78455133738, 6283.0758499914,
+            0.00000123633, 5.57934722157, 12566.1516999828,
+            -0.00000012341, 0, 0,
+            0.00000008792, 3.62777733395, 77713.7714681205,
+            0.00000005689, 1.86958905084, 5573.1428014331,
+            0.00000003301, 5.47027913302, 18849.2275499742,
+            0.00000001471, 4.48028885617, 5507.5532386674,
+            0.00000001013, 2.81456417694, 5223.6939198022,
+            0.00000000854, 3.10878241236, 1577.3435424478,
+            0.00000001102, 2.84173992403, 161000.6857376741,
+            0.00000000648, 5.47349498544, 775.522611324,
+            0.00000000609, 1.37969434104, 6438.4962494256,
+            0.00000000499, 4.41649242250, 6286.5989683404,
+            0.00000000417, 0.90242451175, 10977.078804699,
+            0.00000000402, 3.20376585290, 5088.6288397668,
+            0.00000000351, 1.81079227770, 5486.777843175,
+            0.00000000467, 3.65753702738, 7084.8967811152,
+            0.00000000458, 5.38585314743, 149854.40013480789,
+            0.00000000304, 3.51701098693, 796.2980068164,
+            0.00000000266, 6.17413982699, 6836.6452528338,
+            0.00000000279, 1.84120501086, 4694.0029547076,
+            0.00000000260, 1.41629543251, 2146.1654164752,
+            0.00000000266, 3.13832905677, 71430.69561812909,
+            0.00000000321, 5.35313367048, 3154.6870848956,
+            0.00000000238, 2.17720020018, 155.4203994342,
+            0.00000000293, 4.61501268144, 4690.4798363586,
+            0.00000000229, 4.75969588070, 7234.794256242,
+            0.00000000211, 0.21868065485, 4705.7323075436,
+            0.00000000201, 4.21905743357, 1349.8674096588,
+            0.00000000195, 4.57808285364, 529.6909650946,
+            0.00000000253, 2.81496293039, 1748.016413067,
+            0.00000000182, 5.70454011389, 6040.3472460174,
+            0.00000000179, 6.02897097053, 4292.3308329504,
+            0.00000000186, 1.58690991244, 6309.3741697912,
+            0.00000000170, 2.90220009715, 9437.762934887,
+            0.00000000166, 1.99984925026, 8031.0922630584,
+            0.00000000158, 0.04783713552, 2544.3144198834,
+            0.00000000197, 2.01083639502, 1194.4470102246,
+            0.00000000165, 5.78372596778, 83996.84731811189,
+            0.00000000214, 3.38285934319, 7632.9432596502,
+            0.00000000140, 0.36401486094, 10447.3878396044,
+            0.00000000151, 0.95153163031, 6127.6554505572,
+            0.00000000136, 1.48426306582, 2352.8661537718,
+            0.00000000127, 5.48475435134, 951.7184062506,
+            0.00000000126, 5.26866506592, 6279.5527316424,
+            0.00000000125, 3.75754889288, 6812.766815086,
+            0.00000000101, 4.95015746147, 398.1490034082,
+            0.00000000102, 0.68468295277, 1592.5960136328,
+            0.00000000100, 1.14568935785, 3894.1818295422,
+            0.00000000129, 0.76540016965, 553.5694028424,
+            0.00000000109, 5.41063597567, 6256.7775301916,
+            0.00000000075, 5.84804322893, 242.728603974,
+            0.00000000095, 1.94452244083, 11856.2186514245,
+            0.00000000077, 0.69373708195, 8429.2412664666,
+            0.00000000100, 5.19725292131, 244287.60000722769,
+            0.00000000080, 6.18440483705, 1059.3819301892,
+            0.00000000069, 5.25699888595, 14143.4952424306,
+            0.00000000085, 5.39484725499, 25132.3033999656,
+            0.00000000066, 0.51779993906, 801.8209311238,
+            0.00000000055, 5.16878202461, 7058.5984613154,
+            0.00000000051, 3.88759155247, 12036.4607348882,
+            0.00000000050, 5.57636570536, 6290.1893969922,
+            0.00000000061, 2.24359003264, 8635.9420037632,
+            0.00000000050, 5.54441900966, 1990.745017041,
+            0.00000000056, 4.00301078040, 13367.9726311066,
+            0.00000000052, 4.13138898038, 7860.4193924392,
+            0.00000000052, 3.90943054011, 26.2983197998,
+            0.00000000041, 3.57128482780, 7079.3738568078,
+            0.00000000056, 2.76959005761, 90955.5516944961,
+            0.00000000042, 1.91461189199, 7477.522860216,
+            0.00000000042, 0.42728171713, 10213.285546211,
+            0.00000000042, 1.09413724455, 709.9330485583,
+            0.00000000039, 3.93298068961, 10973.55568635,
+            0.00000000038, 6.17935925345, 9917.6968745098,
+            0.00000000049, 0.83021145241, 11506.7697697936,
+            0.00000000053, 1.45828359397, 233141.31440436149,
+            0.00000000047, 6.21568666789, 6681.2248533996,
+            0.00000000037, 0.36359309980, 10177.2576795336,
+            0.00000000035, 3.33024911524, 5643.1785636774,
+            0.00000000034, 5.63446915337, 6525.8044539654,
+            0.00000000035, 5.36033855038, 25158.6017197654,
+            0.00000000034, 5.36319798321, 4933.2084403326,
+            0.00000000033, 4.24722336872, 12569.6748183318,
+            0.00000000043, 5.26370903404, 10575.4066829418,
+            0.00000000042, 5.08837645072, 11015.1064773348,
+            0.00000000040, 1.98334703186, 6284.0561710596,
+            0.00000000042, 4.22496037505, 88860.05707098669,
+            0.00000000029, 3.19088628170, 11926.2544136688,
+            0.00000000029, 0.15217616684, 12168.0026965746,
+            0.00000000030, 1.61904744136, 9779.1086761254,
+            0.00000000027, 0.76388991416, 1589.0728952838,
+            0.00000000036, 2.74712003443, 3738.761430108,
+            0.00000000033, 3.08807829566, 3930.2096962196,
+            0.00000000031, 5.34906619513, 143571.32428481648,
+            0.00000000025, 0.10240267494, 22483.84857449259,
+            0.00000000030, 3.47110495524, 14945.3161735544,
+            0.00000000024, 1.10425016019, 4535.0594369244,
+            0.00000000024, 1.58037259780, 6496.3749454294,
+            0.00000000023, 3.87710321433, 6275.9623029906,
+            0.00000000025, 3.94529778970, 3128.3887650958,
+            0.00000000023, 3.44685609601, 4136.9104335162,
+            0.00000000023, 3.83156029849, 5753.3848848968,
+            0.00000000022, 1.86956128067, 16730.4636895958,
+            0.00000000025, 2.42188933855, 5729.506447149,
+            0.00000000020, 1.78208352927, 17789.845619785,
+            0.00000000021, 4.30363087400, 16858.4825329332,
+            0.00000000021, 0.49258939822, 29088.811415985,
+            0.00000000025, 1.33030250444, 6282.0955289232,
+            0.00000000027, 2.54785812264, 3496.032826134,
+            0.00000000022, 1.11232521950, 12721.572099417,
+            0.00000000021, 5.97759081637, 7.1135470008,
+            0.00000000019, 0.80292033311, 16062.1845261168,
+            0.00000000023, 4.12454848769, 2388.8940204492,
+            0.00000000022, 4.92663152168, 18875.525869774,
+            0.00000000023, 5.68902059771, 16460.33352952499,
+            0.00000000023, 4.97346265647, 17260.1546546904,
+            0.00000000023, 3.03021283729, 66567.48586525429,
+            0.00000000016, 3.89740925257, 5331.3574437408,
+            0.00000000017, 3.08268671348, 154717.60988768269,
+            0.00000000016, 3.95085099736, 3097.88382272579,
+            0.00000000016, 3.99041783945, 6283.14316029419,
+            0.00000000020, 6.10644140189, 167283.76158766549,
+            0.00000000015, 4.09775914607, 11712.9553182308,
+            0.00000000016, 5.71769940700, 17298.1823273262,
+            0.00000000016, 3.28894009404, 5884.9268465832,
+            0.00000000015, 5.64785377164, 12559.038152982,
+            0.00000000016, 4.43452080930, 6283.0085396886,
+            0.00000000014, 2.31721603062, 5481.2549188676,
+            0.00000000014, 4.43479032305, 13517.8701062334,
+            0.00000000014, 4.73209312936, 7342.4577801806,
+            0.00000000012, 0.64705975463, 18073.7049386502,
+            0.00000000011, 1.51443332200, 16200.7727245012,
+            0.00000000011, 0.88708889185, 21228.3920235458,
+            0.00000000014, 4.50116508534, 640.8776073822,
+            0.00000000011, 4.64339996198, 11790.6290886588,
+            0.00000000011, 1.31064298246, 4164.311989613,
+            0.00000000009, 3.02238989305, 23543.23050468179,
+            0.00000000009, 2.04999402381, 22003.9146348698,
+            0.00000000009, 4.91488110218, 213.299095438
+    };
+
+    public static final double[] PARAMS3      = {
+            0.00000144595, 4.27319435148, 6283.0758499914,
+            0.00000006729, 3.91697608662, 12566.1516999828,
+            0.00000000774, 0, 0,
+            0.00000000247, 3.73019298781, 18849.2275499742,
+            0.00000000036, 2.80081409050, 6286.5989683404,
+            0.00000000033, 5.62216602775, 6127.6554505572,
+            0.00000000019, 3.71292621802, 6438.4962494256,
+            0.00000000016, 4.26011484232, 6525.8044539654,
+            0.00000000016, 3.50416887054, 6256.7775301916,
+            0.00000000014, 3.62127621114, 25132.3033999656,
+            0.00000000011, 4.39200958819, 4705.7323075436,
+            0.00000000011, 5.22327127059, 6040.3472460174,
+            0.00000000010, 4.28045254647, 83996.84731811189,
+            0.00000000009, 1.56864096494, 5507.5532386674,
+            0.00000000011, 1.37795688024, 6309.3741697912,
+            0.00000000010, 5.19937959068, 71430.69561812909,
+            0.00000000009, 0.47275199930, 6279.5527316424,
+            0.00000000009, 0.74642756529, 5729.506447149,
+            0.00000000007, 2.97374891560, 775.522611324,
+            0.00000000007, 3.28615691021, 7058.5984613154,
+            0.00000000007, 2.19184402142, 6812.766815086,
+            0.00000000005, 3.15419034438, 529.6909650946,
+            0.00000000006, 4.54725567047, 1059.3819301892,
+            0.00000000005, 1.51104406936, 7079.3738568078,
+            0.00000000007, 2.98052059053, 6681.2248533996,
+            0.00000000005, 2.30961231391, 12036.4607348882,
+            0.00000000005, 3.71102966917, 6290.1893969922
+    };
+
+    public static final double[] PARAMS4      = {
+            0.00000003858, 2.56384387339, 6283.0758499914,
+            0.00000000306, 2.26769501230, 12566.1516999828,
+            0.00000000053, 3.44031471924, 5573.1428014331,
+            0.00000000015, 2.04794573436, 18849.2275499742,
+            0.00000000013, 2.05688873673, 77713.7714681205,
+            0.00000000007, 4.41218854480, 161000.6857376741,
+            0.00000000005, 5.26154653107, 6438.4962494256,
+            0.00000000005, 4.07695126049, 6127.6554505572,
+            0.00000000006, 3.81514213664, 149854.40013480789,
+            0.00000000003, 1.28175749811, 6286.5989683404
+    };
+
+    public static final double[] PARAMS5      = {
+            0.00000000086, 1.21579741687, 6283.0758499914,
+            0.00000000012, 0.65617264033, 12566.1516999828,
+            0.00000000001, 0.38068797142, 18849.2275499742
+    };
+}